@@ -0,0 +1,124 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.archive.QuestionArchiver;
+import com.mentorlink.entity.Question;
+import com.mentorlink.service.QuestionCache;
+import com.mentorlink.service.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Question reads with the older three quarters of the forum in the cold tier:
+ * a hot detail read, the first read of an archived question (which promotes
+ * it), and search across both tiers. Setup prints how much the hot questions
+ * and answers shrank and what the cold tier takes on disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArchiveBenchmark {
+    
+    @Param({"20000"})
+    public int questionCount;
+    
+    @Param({"5"})
+    public int answersPerQuestion;
+    
+    private ForumFixture fixture;
+    private QuestionService questionService;
+    private QuestionCache questionCache;
+    private QuestionArchiver archiver;
+    private MongoTemplate mongoTemplate;
+    private final List<String> hotIds = new ArrayList<>();
+    private final List<String> archivedIds = new ArrayList<>();
+    private final Random random = new Random(42);
+    private int nextArchived;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The fixture spreads questions over a year and never touches them again
+        fixture = ForumFixture.start(questionCount, answersPerQuestion, "forum.archive.max-age-days=90");
+        questionService = fixture.bean(QuestionService.class);
+        questionCache = fixture.bean(QuestionCache.class);
+        archiver = fixture.bean(QuestionArchiver.class);
+        mongoTemplate = fixture.bean(MongoTemplate.class);
+        
+        QuestionArchiver.TierSizes before = archiver.tierSizes();
+        int archived = archiver.archiveStale();
+        QuestionArchiver.TierSizes after = archiver.tierSizes();
+        System.out.printf("Archived %d of %d questions: hot questions and answers %.1f MB -> %.1f MB, "
+                + "cold tier %.1f MB on disk (%.1f MB uncompressed)%n",
+            archived, questionCount, megabytes(before.getHotBytes()), megabytes(after.getHotBytes()),
+            megabytes(after.getColdStorageBytes()), megabytes(after.getColdBytes()));
+        
+        Set<String> cold = fixture.bean(ColdQuestionStore.class).archivedIds(fixture.questionIds());
+        for (String id : fixture.questionIds()) {
+            (cold.contains(id) ? archivedIds : hotIds).add(id);
+        }
+    }
+    
+    /**
+     * Send the questions promoted by the last iteration back to the cold tier
+     */
+    @Setup(Level.Iteration)
+    public void rearchive() {
+        mongoTemplate.updateMulti(new Query(Criteria.where("promotedAt").exists(true)),
+            new Update().unset("promotedAt"), Question.class);
+        archiver.archiveStale();
+        nextArchived = 0;
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    public Question getHotQuestionUncached() {
+        String id = hotIds.get(random.nextInt(hotIds.size()));
+        questionCache.invalidate(id);
+        return questionService.getQuestionById(id);
+    }
+    
+    @Benchmark
+    public Question getArchivedQuestion() {
+        // Each read promotes a different question; once all are promoted the reads are hot
+        String id = archivedIds.get(nextArchived++ % archivedIds.size());
+        return questionService.getQuestionById(id);
+    }
+    
+    @Benchmark
+    public Page<Question> searchBothTiers() {
+        return questionService.searchQuestions(ForumText.query(random), null, null, 1, 10);
+    }
+    
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
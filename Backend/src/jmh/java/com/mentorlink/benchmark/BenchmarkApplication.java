@@ -0,0 +1,22 @@
+package com.mentorlink.benchmark;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+/**
+ * Forum services and repositories without the web layer, for the benchmarks.
+ * Mongo is the embedded instance started by Spring Boot's embedded Mongo support.
+ */
+@SpringBootApplication(scanBasePackages = {
+    "com.mentorlink.archive",
+    "com.mentorlink.config",
+    "com.mentorlink.events",
+    "com.mentorlink.metrics",
+    "com.mentorlink.repository",
+    "com.mentorlink.search",
+    "com.mentorlink.service",
+    "com.mentorlink.sync"
+})
+@EnableMongoRepositories(basePackages = "com.mentorlink.repository")
+public class BenchmarkApplication {
+}
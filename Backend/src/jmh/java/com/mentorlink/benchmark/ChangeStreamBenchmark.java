@@ -0,0 +1,90 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.entity.Question;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.sync.QuestionChangeListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for a question edit written straight to Mongo, as another instance
+ * would, to become searchable here through the change stream. Runs against
+ * the embedded Mongo started as a single-node replica set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ChangeStreamBenchmark {
+    
+    private static final long CATCH_UP_TIMEOUT_MS = 120000;
+    
+    private ForumFixture fixture;
+    private MongoTemplate mongoTemplate;
+    private QuestionSearchIndex searchIndex;
+    private List<String> questionIds;
+    private final Random random = new Random(42);
+    private long edits;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        fixture = ForumFixture.start(10000, 2,
+            "spring.mongodb.embedded.storage.repl-set-name=rs0",
+            "forum.sync.enabled=true");
+        mongoTemplate = fixture.bean(MongoTemplate.class);
+        searchIndex = fixture.bean(QuestionSearchIndex.class);
+        questionIds = fixture.questionIds();
+        
+        // The seed inserts come through the stream too; wait until they are applied
+        QuestionChangeListener listener = fixture.bean(QuestionChangeListener.class);
+        long seeded = System.currentTimeMillis();
+        while (listener.syncedUntil() < seeded) {
+            if (System.currentTimeMillis() - seeded > CATCH_UP_TIMEOUT_MS) {
+                throw new IllegalStateException("Change stream did not catch up with the seed data");
+            }
+            Thread.sleep(100);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    public long remoteEditSearchable() {
+        String marker = "syncmarker" + (++edits);
+        String id = questionIds.get(random.nextInt(questionIds.size()));
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)),
+            new Update().set("title", ForumText.title(random) + " " + marker).set("updatedAt", LocalDateTime.now()),
+            Question.class);
+        
+        long spins = 0;
+        while (searchIndex.search(marker, null, null, 1, 1).getTotalHits() == 0) {
+            Thread.onSpinWait();
+            spins++;
+        }
+        return spins;
+    }
+}
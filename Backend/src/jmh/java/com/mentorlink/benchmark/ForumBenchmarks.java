@@ -0,0 +1,39 @@
+package com.mentorlink.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Runs the forum benchmarks and writes the results as JMH JSON, one file per run,
+ * so they can be archived and compared over time.
+ *
+ * Arguments: an optional benchmark name regex (default: every benchmark in this package).
+ * The output file is {@code -Djmh.result=...}, default {@code build/reports/jmh/results.json}.
+ */
+public final class ForumBenchmarks {
+    
+    private ForumBenchmarks() {
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ForumBenchmarks.class.getPackage().getName() + ".*";
+        String result = System.getProperty("jmh.result", "build/reports/jmh/results.json");
+        
+        File parent = new File(result).getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        
+        Options options = new OptionsBuilder()
+            .include(include)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,230 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.AuthorSnapshot;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.User;
+import com.mentorlink.search.DuplicateIndex;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.RelatedQuestions;
+import com.mentorlink.search.TitleAutocomplete;
+import com.mentorlink.service.QuestionCounters;
+import com.mentorlink.service.QuestionFeedService;
+import com.mentorlink.service.TagFacets;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.mongo.embedded.EmbeddedMongoAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Spring context over an embedded Mongo, seeded with a synthetic forum.
+ *
+ * The Mongo is a mongod downloaded and started by Spring Boot's embedded
+ * Mongo support, or with {@code -Dbenchmark.mongo=in-memory} an in-process
+ * mongo-java-server, for machines that cannot download one. The in-memory
+ * server has no storage engine, query planner or replication, so only the
+ * in-process parts of a benchmark are representative with it.
+ *
+ * Sizes follow production averages: titles around 60 characters, question
+ * bodies around 1200, answers around 600. After seeding, the search indexes,
+ * counters and feeds are rebuilt so every benchmark sees a warm, consistent
+ * in-memory state.
+ */
+final class ForumFixture implements AutoCloseable {
+    
+    static final int QUESTION_CHARS = 1200;
+    static final int ANSWER_CHARS = 600;
+    
+    private static final int USER_COUNT = 200;
+    private static final int BATCH_SIZE = 1000;
+    
+    private static final boolean IN_MEMORY_MONGO = "in-memory".equals(System.getProperty("benchmark.mongo"));
+    
+    private final ConfigurableApplicationContext context;
+    private final MongoServer mongoServer;
+    private final List<String> questionIds = new ArrayList<>();
+    private final List<String> userIds = new ArrayList<>();
+    
+    private ForumFixture(ConfigurableApplicationContext context, MongoServer mongoServer) {
+        this.context = context;
+        this.mongoServer = mongoServer;
+    }
+    
+    /**
+     * Start a context and seed it. {@code properties} are extra "key=value" Spring properties.
+     */
+    static ForumFixture start(int questionCount, int answersPerQuestion, String... properties) {
+        return start(new SpringApplicationBuilder(BenchmarkApplication.class).web(WebApplicationType.NONE),
+            questionCount, answersPerQuestion, properties);
+    }
+    
+    /**
+     * Start the forum's web stack on a free port and seed it: Spring MVC, or WebFlux
+     * with the "reactive" profile. See {@link LoadTestApplication}.
+     */
+    static ForumFixture startServer(int questionCount, int answersPerQuestion, String... properties) {
+        return start(new SpringApplicationBuilder(LoadTestApplication.class).properties("server.port=0"),
+            questionCount, answersPerQuestion, properties);
+    }
+    
+    private static ForumFixture start(SpringApplicationBuilder builder, int questionCount, int answersPerQuestion,
+                                      String... properties) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("forum.sync.enabled", "false");
+        overrides.put("forum.sync.full-interval-ms", "0");
+        overrides.put("forum.archive.enabled", "false");
+        for (String property : properties) {
+            int separator = property.indexOf('=');
+            overrides.put(property.substring(0, separator), property.substring(separator + 1));
+        }
+        MongoServer mongoServer = null;
+        if (IN_MEMORY_MONGO) {
+            mongoServer = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongoServer.bind();
+            overrides.put("spring.autoconfigure.exclude", EmbeddedMongoAutoConfiguration.class.getName());
+            overrides.put("spring.data.mongodb.host", address.getHostString());
+            overrides.put("spring.data.mongodb.port", String.valueOf(address.getPort()));
+            // Where the embedded Mongo would publish its port, for MongoLatencyConfig
+            overrides.put("local.mongo.port", String.valueOf(address.getPort()));
+            // The summary backfill uses a pipeline update, which mongo-java-server does not support
+            overrides.put("forum.backfill.enabled", "false");
+        }
+        // Passed as command-line arguments so they override application.properties, unlike default properties
+        String[] args = overrides.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+        ConfigurableApplicationContext context = builder
+            .properties(
+                "spring.mongodb.embedded.version=5.0.5",
+                "spring.data.mongodb.database=forum-benchmark",
+                "logging.level.com.mentorlink=WARN")
+            .run(args);
+        
+        ForumFixture fixture = new ForumFixture(context, mongoServer);
+        fixture.seed(questionCount, answersPerQuestion);
+        return fixture;
+    }
+    
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+    
+    List<String> questionIds() {
+        return questionIds;
+    }
+    
+    List<String> userIds() {
+        return userIds;
+    }
+    
+    /**
+     * Port of the web server started by {@link #startServer}
+     */
+    int port() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+    
+    @Override
+    public void close() {
+        context.close();
+        if (mongoServer != null) {
+            mongoServer.shutdownNow();
+        }
+    }
+    
+    private void seed(int questionCount, int answersPerQuestion) {
+        MongoTemplate mongoTemplate = bean(MongoTemplate.class);
+        Random random = new Random(42);
+        
+        List<Document> userDocuments = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            userDocuments.add(new Document("name", "Benchmark User " + i)
+                .append("email", "benchmark" + i + "@example.com")
+                .append("profilePicture", "https://example.com/avatars/" + i + ".png"));
+        }
+        mongoTemplate.insert(userDocuments, mongoTemplate.getCollectionName(User.class));
+        List<User> users = mongoTemplate.findAll(User.class);
+        for (User user : users) {
+            userIds.add(user.getId());
+        }
+        
+        // Spread creation times over the last year, oldest first
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        long secondsPerQuestion = Math.max(1, 365L * 24 * 3600 / Math.max(1, questionCount));
+        
+        List<Question> questions = new ArrayList<>();
+        List<Answer> answers = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            User author = users.get(random.nextInt(users.size()));
+            LocalDateTime createdAt = start.plusSeconds(i * secondsPerQuestion);
+            
+            Question question = new Question();
+            question.setTitle(ForumText.title(random));
+            question.setContent(ForumText.text(random, QUESTION_CHARS));
+            question.setCategory(ForumText.category(random));
+            question.setTags(ForumText.tags(random));
+            question.setAuthor(author);
+            question.setAuthorSnapshot(AuthorSnapshot.of(author));
+            question.setExcerpt(QuestionSummary.excerpt(question.getContent()));
+            question.setUpvotes(random.nextInt(50));
+            question.setAnswerCount(answersPerQuestion);
+            question.setCreatedAt(createdAt);
+            question.setUpdatedAt(createdAt);
+            questions.add(question);
+            
+            if (questions.size() == BATCH_SIZE) {
+                insertQuestions(mongoTemplate, questions, answers, answersPerQuestion, users, random);
+            }
+        }
+        insertQuestions(mongoTemplate, questions, answers, answersPerQuestion, users, random);
+        
+        bean(QuestionSearchIndex.class).rebuild();
+        bean(TitleAutocomplete.class).rebuild();
+        bean(DuplicateIndex.class).rebuild();
+        bean(RelatedQuestions.class).rebuild();
+        bean(QuestionCounters.class).reconcile();
+        bean(TagFacets.class).reconcile();
+        bean(QuestionFeedService.class).rebase();
+    }
+    
+    private void insertQuestions(MongoTemplate mongoTemplate, List<Question> questions, List<Answer> answers,
+                                 int answersPerQuestion, List<User> users, Random random) {
+        if (questions.isEmpty()) {
+            return;
+        }
+        
+        Collection<Question> inserted = mongoTemplate.insert(questions, Question.class);
+        for (Question question : inserted) {
+            questionIds.add(question.getId());
+            for (int i = 0; i < answersPerQuestion; i++) {
+                Answer answer = new Answer();
+                answer.setQuestionId(question.getId());
+                answer.setContent(ForumText.text(random, ANSWER_CHARS));
+                answer.setAuthor(users.get(random.nextInt(users.size())));
+                answer.setUpvotes(random.nextInt(20));
+                answer.setCreatedAt(question.getCreatedAt().plusMinutes(i + 1));
+                answer.setUpdatedAt(answer.getCreatedAt());
+                answers.add(answer);
+            }
+        }
+        if (!answers.isEmpty()) {
+            mongoTemplate.insert(answers, Answer.class);
+        }
+        questions.clear();
+        answers.clear();
+    }
+}
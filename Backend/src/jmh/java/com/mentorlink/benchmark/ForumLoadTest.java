@@ -0,0 +1,356 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.benchmark.ForumWorkload.Operation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Open-model load test of the /api/forum endpoints.
+ *
+ * Starts the forum's web stack on an embedded Mongo seeded with a synthetic
+ * forum, then offers requests in the {@link ForumWorkload} mix at each rate
+ * of a sweep. Arrivals are Poisson and do not wait for responses, as with
+ * real users, so a slow server builds a queue instead of slowing the load
+ * down; latency is timed from when a request was due, not when it went out.
+ * Each step prints per-operation throughput and latency percentiles. The
+ * sweep stops at the first saturated step: completions falling more than 5%
+ * behind the offered rate, or more than 1% of requests failing, timing out
+ * or being dropped because {@code max-in-flight} were already outstanding.
+ *
+ * Settings are system properties, e.g.
+ * {@code java -Dload.profile=reactive -Dload.mongo-latency-ms=5 com.mentorlink.benchmark.ForumLoadTest}:
+ * - load.profile: mvc (ForumController on Tomcat) or reactive (ReactiveForumController on Netty)
+ * - load.questions, load.answers: seeded questions and answers per question
+ * - load.mix: see {@link ForumWorkload#DEFAULT_MIX}
+ * - load.rates: offered requests per second, one step each
+ * - load.step-seconds, load.warmup-seconds: length of each step, and of a warmup at the first rate
+ * - load.mongo-latency-ms: delay added to every Mongo reply by {@link MongoLatencyProxy}
+ * - load.timeout-ms, load.max-in-flight: per-request timeout, and outstanding requests before new ones are dropped
+ * - load.admission: keep the forum's admission control on (off by default, so the sweep finds the server's limit)
+ * - load.results: CSV written with one row per step and operation
+ * - load.baseline, load.tolerance: a results CSV from an earlier run; exits with 1 if any p99 grew, or
+ *   throughput fell, by more than the tolerance
+ *
+ * Comparing the two stacks is a matter of running both profiles at the same
+ * rates and Mongo latency: with a few milliseconds per query, the servlet
+ * stack runs out of request threads where the reactive one keeps going.
+ */
+public final class ForumLoadTest {
+    
+    private static final double MIN_THROUGHPUT_RATIO = 0.95;
+    private static final double MAX_FAILURE_RATIO = 0.01;
+    
+    // Operation rows with fewer requests than this are too noisy to compare with a baseline
+    private static final int MIN_BASELINE_COUNT = 100;
+    
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String CSV_HEADER =
+        "profile,mongoLatencyMs,offeredRate,operation,count,errors,dropped,throughput,p50Ms,p90Ms,p99Ms,p999Ms,maxMs";
+    
+    /**
+     * Results of one operation, or of all of them, over one step
+     */
+    private static final class Row {
+        final String operation;
+        final long count;
+        final long errors;
+        final long dropped;
+        final double throughput;
+        final Histogram latencies;
+        
+        Row(String operation, long count, long errors, long dropped, double throughput, Histogram latencies) {
+            this.operation = operation;
+            this.count = count;
+            this.errors = errors;
+            this.dropped = dropped;
+            this.throughput = throughput;
+            this.latencies = latencies;
+        }
+        
+        double percentileMs(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+    
+    /**
+     * Latencies in microseconds and failures of one operation, since the last step
+     */
+    private static final class OperationStats {
+        final Recorder latencies = new Recorder(3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+    }
+    
+    private final String profile = System.getProperty("load.profile", "mvc");
+    private final int questions = Integer.getInteger("load.questions", 20000);
+    private final int answers = Integer.getInteger("load.answers", 5);
+    private final String mix = System.getProperty("load.mix", ForumWorkload.DEFAULT_MIX);
+    private final String rates = System.getProperty("load.rates", "50,100,200,400,800,1600");
+    private final int stepSeconds = Integer.getInteger("load.step-seconds", 30);
+    private final int warmupSeconds = Integer.getInteger("load.warmup-seconds", 15);
+    private final long mongoLatencyMs = Long.getLong("load.mongo-latency-ms", 0);
+    private final long timeoutMs = Long.getLong("load.timeout-ms", 5000);
+    private final int maxInFlight = Integer.getInteger("load.max-in-flight", 2000);
+    private final boolean admission = Boolean.getBoolean("load.admission");
+    private final String results = System.getProperty("load.results", "build/reports/loadtest/results.csv");
+    private final String baseline = System.getProperty("load.baseline");
+    private final double tolerance = Double.parseDouble(System.getProperty("load.tolerance", "0.2"));
+    
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Map<Integer, LongAdder> failedStatuses = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+    private ForumWorkload workload;
+    
+    public static void main(String[] args) throws IOException {
+        System.exit(new ForumLoadTest().run() ? 0 : 1);
+    }
+    
+    /**
+     * Run the sweep; false if it regressed against the baseline
+     */
+    private boolean run() throws IOException {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        List<String> properties = new ArrayList<>();
+        properties.add("forum.admission.enabled=" + admission);
+        if ("reactive".equals(profile)) {
+            properties.add("spring.profiles.active=reactive");
+        }
+        if (mongoLatencyMs > 0) {
+            properties.add("loadtest.mongo-latency-ms=" + mongoLatencyMs);
+        }
+        
+        List<String> csvRows = new ArrayList<>();
+        try (ForumFixture fixture = ForumFixture.startServer(questions, answers, properties.toArray(new String[0]))) {
+            workload = new ForumWorkload(fixture.port(), ForumWorkload.parseMix(mix), fixture.questionIds(),
+                fixture.userIds(), Duration.ofMillis(timeoutMs));
+            Random random = new Random(42);
+            int[] offeredRates = Arrays.stream(rates.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+            
+            runStep(offeredRates[0], warmupSeconds, random);
+            for (int rate : offeredRates) {
+                List<Row> rows = runStep(rate, stepSeconds, random);
+                report(rate, rows);
+                for (Row row : rows) {
+                    csvRows.add(csvRow(rate, row));
+                }
+                if (saturated(rate, rows.get(rows.size() - 1))) {
+                    System.out.printf("Saturated at %d req/s offered%n", rate);
+                    break;
+                }
+            }
+        }
+        
+        Path path = Paths.get(results);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            writer.println(CSV_HEADER);
+            csvRows.forEach(writer::println);
+        }
+        System.out.println("Results written to " + path.toAbsolutePath());
+        return baseline == null || compareWithBaseline(csvRows);
+    }
+    
+    /**
+     * Offer {@code rate} requests per second for {@code seconds}, wait for the
+     * outstanding ones, and return a row per operation followed by one for all
+     */
+    private List<Row> runStep(int rate, int seconds, Random random) {
+        // Discard what the previous step left behind
+        for (OperationStats operationStats : stats.values()) {
+            operationStats.latencies.reset();
+            operationStats.errors.reset();
+            operationStats.dropped.reset();
+        }
+        failedStatuses.clear();
+        
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        double due = start;
+        while (true) {
+            due += -Math.log(1 - random.nextDouble()) / rate * 1e9;
+            long dueNanos = (long) due;
+            if (dueNanos >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = dueNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            Operation operation = workload.next(random);
+            OperationStats operationStats = stats.get(operation);
+            if (inFlight.get() >= maxInFlight) {
+                operationStats.dropped.increment();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(workload.request(operation, random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    operationStats.latencies.recordValue((System.nanoTime() - dueNanos) / 1000);
+                    if (error != null || !succeeded(response.statusCode())) {
+                        operationStats.errors.increment();
+                        int status = error == null ? response.statusCode() : timedOut(error) ? -1 : 0;
+                        failedStatuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                    }
+                    inFlight.decrementAndGet();
+                });
+        }
+        awaitInFlight();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        
+        List<Row> rows = new ArrayList<>();
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        long allDropped = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            Histogram latencies = entry.getValue().latencies.getIntervalHistogram();
+            long errors = entry.getValue().errors.sum();
+            long dropped = entry.getValue().dropped.sum();
+            if (latencies.getTotalCount() + dropped == 0) {
+                continue;
+            }
+            rows.add(new Row(entry.getKey().name().toLowerCase(Locale.ROOT), latencies.getTotalCount(), errors, dropped,
+                (latencies.getTotalCount() - errors) / elapsedSeconds, latencies));
+            all.add(latencies);
+            allErrors += errors;
+            allDropped += dropped;
+        }
+        rows.add(new Row("all", all.getTotalCount(), allErrors, allDropped,
+            (all.getTotalCount() - allErrors) / elapsedSeconds, all));
+        return rows;
+    }
+    
+    private void awaitInFlight() {
+        // Every request times out by then
+        long deadline = System.nanoTime() + (timeoutMs + 5000) * 1_000_000L;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(10_000_000L);
+        }
+    }
+    
+    private static boolean saturated(int rate, Row all) {
+        long offered = all.count + all.dropped;
+        return all.throughput < rate * MIN_THROUGHPUT_RATIO
+            || all.errors + all.dropped > offered * MAX_FAILURE_RATIO;
+    }
+    
+    private void report(int rate, List<Row> rows) {
+        System.out.printf("%n%s, %d req/s offered, %d ms added per Mongo reply%n", profile, rate, mongoLatencyMs);
+        System.out.printf("%-10s %8s %7s %8s %9s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Row row : rows) {
+            System.out.printf("%-10s %8d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                row.operation, row.count, row.errors, row.dropped, row.throughput, row.percentileMs(50),
+                row.percentileMs(90), row.percentileMs(99), row.percentileMs(99.9),
+                row.latencies.getMaxValue() / 1000.0);
+        }
+        if (!failedStatuses.isEmpty()) {
+            // -1 is a timeout, 0 a connection failure
+            Map<Integer, Long> counts = new TreeMap<>();
+            failedStatuses.forEach((status, count) -> counts.put(status, count.sum()));
+            System.out.println("Failed by status: " + counts);
+        }
+    }
+    
+    private String csvRow(int rate, Row row) {
+        StringBuilder csv = new StringBuilder()
+            .append(profile).append(',')
+            .append(mongoLatencyMs).append(',')
+            .append(rate).append(',')
+            .append(row.operation).append(',')
+            .append(row.count).append(',')
+            .append(row.errors).append(',')
+            .append(row.dropped).append(',')
+            .append(String.format("%.1f", row.throughput));
+        for (double percentile : PERCENTILES) {
+            csv.append(',').append(String.format("%.3f", row.percentileMs(percentile)));
+        }
+        return csv.append(',').append(String.format("%.3f", row.latencies.getMaxValue() / 1000.0)).toString();
+    }
+    
+    /**
+     * Compare rows with the baseline's for the same profile, Mongo latency, rate and operation
+     */
+    private boolean compareWithBaseline(List<String> csvRows) throws IOException {
+        Map<String, String[]> baselineRows = new HashMap<>();
+        for (String line : Files.readAllLines(Paths.get(baseline))) {
+            if (!line.equals(CSV_HEADER)) {
+                String[] columns = line.split(",");
+                baselineRows.put(key(columns), columns);
+            }
+        }
+        
+        List<String> regressions = new ArrayList<>();
+        for (String line : csvRows) {
+            String[] columns = line.split(",");
+            String[] before = baselineRows.get(key(columns));
+            if (before == null || Long.parseLong(before[4]) < MIN_BASELINE_COUNT) {
+                continue;
+            }
+            double throughputBefore = Double.parseDouble(before[7]);
+            double throughputNow = Double.parseDouble(columns[7]);
+            double p99Before = Double.parseDouble(before[10]);
+            double p99Now = Double.parseDouble(columns[10]);
+            if (p99Now > p99Before * (1 + tolerance) || throughputNow < throughputBefore * (1 - tolerance)) {
+                regressions.add(String.format("%s at %s req/s: p99 %.2f -> %.2f ms, throughput %.1f -> %.1f req/s",
+                    columns[3], columns[2], p99Before, p99Now, throughputBefore, throughputNow));
+            }
+        }
+        
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions against " + baseline);
+            return true;
+        }
+        System.out.println("Regressions against " + baseline + ":");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return false;
+    }
+    
+    private static String key(String[] columns) {
+        return Arrays.stream(columns, 0, 4).collect(Collectors.joining(","));
+    }
+    
+    private static boolean succeeded(int status) {
+        return (status >= 200 && status < 300) || status == 304;
+    }
+    
+    private static boolean timedOut(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpTimeoutException;
+    }
+}
@@ -0,0 +1,93 @@
+package com.mentorlink.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic forum text with a skewed word distribution, so a few terms are
+ * common (long posting lists, many regex hits) and most are rare.
+ */
+final class ForumText {
+    
+    static final String[] CATEGORIES = {"career", "programming", "design", "data-science", "interviews", "product"};
+    
+    private static final String[] BASE_WORDS = {
+        "java", "spring", "mongo", "react", "python", "interview", "resume", "mentor", "career", "design",
+        "system", "database", "index", "query", "cache", "latency", "frontend", "backend", "cloud", "docker",
+        "kubernetes", "testing", "algorithm", "graph", "tree", "array", "string", "memory", "thread", "async",
+        "product", "manager", "salary", "offer", "startup", "team", "project", "deadline", "review", "feedback",
+        "learning", "course", "roadmap", "portfolio", "internship", "junior", "senior", "promotion", "remote", "skills"
+    };
+    
+    // Rare words are synthetic variants of the base words
+    private static final int VOCABULARY_SIZE = 5000;
+    private static final String[] VOCABULARY = new String[VOCABULARY_SIZE];
+    
+    static {
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            VOCABULARY[i] = i < BASE_WORDS.length
+                ? BASE_WORDS[i]
+                : BASE_WORDS[i % BASE_WORDS.length] + Integer.toString(i / BASE_WORDS.length, 36);
+        }
+    }
+    
+    private ForumText() {
+    }
+    
+    static String word(Random random) {
+        // Cubing a uniform sample favours low indexes: roughly Zipf-like frequencies
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return VOCABULARY[(int) (skewed * VOCABULARY_SIZE)];
+    }
+    
+    /**
+     * Words joined by spaces until the text is about {@code chars} characters long
+     */
+    static String text(Random random, int chars) {
+        StringBuilder text = new StringBuilder(chars + 16);
+        while (text.length() < chars) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(word(random));
+        }
+        return text.toString();
+    }
+    
+    static String title(Random random) {
+        return "How do I " + text(random, 50) + "?";
+    }
+    
+    static List<String> tags(Random random) {
+        List<String> tags = new ArrayList<>();
+        int count = 1 + random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            String tag = BASE_WORDS[random.nextInt(BASE_WORDS.length)];
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+    
+    static String category(Random random) {
+        return CATEGORIES[random.nextInt(CATEGORIES.length)];
+    }
+    
+    /**
+     * A one- or two-word search query drawn from the same distribution as the text
+     */
+    static String query(Random random) {
+        return random.nextBoolean() ? word(random) : word(random) + " " + word(random);
+    }
+    
+    /**
+     * A query as it looks part-way through typing: cut off inside its last word
+     */
+    static String typed(Random random) {
+        String query = query(random);
+        int lastWord = query.lastIndexOf(' ') + 1;
+        return query.substring(0, lastWord + 1 + random.nextInt(query.length() - lastWord));
+    }
+}
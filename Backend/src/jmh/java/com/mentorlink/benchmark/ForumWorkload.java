@@ -0,0 +1,147 @@
+package com.mentorlink.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorlink.dto.AddAnswerRequest;
+import com.mentorlink.dto.CreateQuestionRequest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Requests to /api/forum in a configurable mix, for {@link ForumLoadTest}.
+ *
+ * Reads and writes target seeded questions, favouring recent ones the way
+ * traffic does: a detail, answer or upvote lands on the newest half of the
+ * forum about four times in five. Writes are signed in as a seeded user;
+ * every upvote comes from a new voter, so none is rejected as a repeat.
+ */
+final class ForumWorkload {
+    
+    enum Operation {
+        LIST, DETAIL, SEARCH, CREATE, ANSWER, UPVOTE
+    }
+    
+    static final String DEFAULT_MIX = "list:40,detail:30,search:15,create:5,answer:5,upvote:5";
+    
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private final String baseUrl;
+    private final Duration timeout;
+    private final List<String> questionIds;
+    private final List<String> userIds;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicLong nextVoter = new AtomicLong();
+    
+    ForumWorkload(int port, Map<Operation, Integer> mix, List<String> questionIds, List<String> userIds,
+                  Duration timeout) {
+        this.baseUrl = "http://localhost:" + port + "/api/forum";
+        this.timeout = timeout;
+        this.questionIds = questionIds;
+        this.userIds = userIds;
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The request mix has no weight");
+        }
+    }
+    
+    /**
+     * Parse a mix such as {@value #DEFAULT_MIX}: operation names with relative weights
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight, got " + entry);
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+    
+    Operation next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (pick >= cumulativeWeights[i]) {
+            i++;
+        }
+        return operations[i];
+    }
+    
+    HttpRequest request(Operation operation, Random random) {
+        switch (operation) {
+            case LIST:
+                return get("/questions?page=1&limit=20");
+            case DETAIL:
+                return get("/questions/" + recentQuestion(random));
+            case SEARCH:
+                return get("/questions/search?limit=10&q="
+                    + URLEncoder.encode(ForumText.query(random), StandardCharsets.UTF_8));
+            case CREATE:
+                return post("/questions", user(random), new CreateQuestionRequest(ForumText.title(random),
+                    ForumText.text(random, ForumFixture.QUESTION_CHARS), ForumText.category(random),
+                    ForumText.tags(random), false));
+            case ANSWER:
+                return post("/questions/" + recentQuestion(random) + "/answer", user(random),
+                    new AddAnswerRequest(ForumText.text(random, ForumFixture.ANSWER_CHARS)));
+            case UPVOTE:
+                return post("/questions/" + recentQuestion(random) + "/upvote",
+                    "loadtest-voter-" + nextVoter.incrementAndGet(), null);
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+    
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(timeout)
+            .GET()
+            .build();
+    }
+    
+    private HttpRequest post(String path, String userId, Object body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(timeout)
+            .header(LoadTestSecurity.USER_HEADER, userId)
+            .header("Content-Type", "application/json")
+            .POST(body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json(body)))
+            .build();
+    }
+    
+    /**
+     * Seeded ids run oldest to newest; cubing a uniform sample favours the end of the list
+     */
+    private String recentQuestion(Random random) {
+        int count = questionIds.size();
+        return questionIds.get(count - 1 - (int) (count * Math.pow(random.nextDouble(), 3)));
+    }
+    
+    private String user(Random random) {
+        return userIds.get(random.nextInt(userIds.size()));
+    }
+    
+    private static String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+}
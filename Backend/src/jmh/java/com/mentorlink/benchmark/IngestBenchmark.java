@@ -0,0 +1,90 @@
+package com.mentorlink.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorlink.dto.BulkIngestResult;
+import com.mentorlink.service.QuestionIngestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One bulk import of {@code documents} questions with {@code answersPerQuestion}
+ * answers each, from a JSON array built up front, through the chunked writes and
+ * per-chunk index updates. Divide the document count by the time for documents
+ * per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class IngestBenchmark {
+    
+    @Param({"20000"})
+    public int documents;
+    
+    @Param({"2"})
+    public int answersPerQuestion;
+    
+    private ForumFixture fixture;
+    private QuestionIngestService ingestService;
+    private byte[] body;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fixture = ForumFixture.start(1000, 0);
+        ingestService = fixture.bean(QuestionIngestService.class);
+        
+        Random random = new Random(42);
+        List<String> userIds = fixture.userIds();
+        List<Map<String, Object>> items = new ArrayList<>(documents);
+        for (int i = 0; i < documents; i++) {
+            List<Map<String, Object>> answers = new ArrayList<>(answersPerQuestion);
+            for (int j = 0; j < answersPerQuestion; j++) {
+                Map<String, Object> answer = new LinkedHashMap<>();
+                answer.put("content", ForumText.text(random, ForumFixture.ANSWER_CHARS));
+                answer.put("authorId", userIds.get(random.nextInt(userIds.size())));
+                answers.add(answer);
+            }
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("title", ForumText.title(random));
+            item.put("content", ForumText.text(random, ForumFixture.QUESTION_CHARS));
+            item.put("category", ForumText.category(random));
+            item.put("tags", ForumText.tags(random));
+            item.put("authorId", userIds.get(random.nextInt(userIds.size())));
+            item.put("answers", answers);
+            items.add(item);
+        }
+        body = new ObjectMapper().writeValueAsBytes(items);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    public BulkIngestResult ingest() throws IOException {
+        return ingestService.ingest(new ByteArrayInputStream(body), null);
+    }
+}
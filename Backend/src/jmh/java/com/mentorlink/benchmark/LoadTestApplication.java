@@ -0,0 +1,30 @@
+package com.mentorlink.benchmark;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * The forum with its web layer, for {@link ForumLoadTest}: {@code ForumController}
+ * on Tomcat, or {@code ReactiveForumController} on Netty with the "reactive" profile.
+ * Requests are authenticated by {@link LoadTestSecurity}; Mongo is the embedded
+ * instance, reached through {@link MongoLatencyProxy} when {@code loadtest.mongo-latency-ms} is set.
+ */
+@SpringBootApplication(scanBasePackages = {
+    "com.mentorlink.admission",
+    "com.mentorlink.archive",
+    "com.mentorlink.config",
+    "com.mentorlink.controller",
+    "com.mentorlink.events",
+    "com.mentorlink.metrics",
+    "com.mentorlink.repository",
+    "com.mentorlink.search",
+    "com.mentorlink.service",
+    "com.mentorlink.sync"
+})
+@EnableMongoRepositories(basePackages = "com.mentorlink.repository")
+@EnableReactiveMongoRepositories(basePackages = "com.mentorlink.repository")
+@Import({LoadTestSecurity.class, MongoLatencyConfig.class})
+public class LoadTestApplication {
+}
@@ -0,0 +1,109 @@
+package com.mentorlink.benchmark;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Load-test stand-in for the application's login: a request is signed in as
+ * the user id in its {@value #USER_HEADER} header, and anonymous otherwise.
+ * {@code @PreAuthorize} checks on the controllers apply as usual.
+ */
+@Configuration(proxyBeanMethods = false)
+class LoadTestSecurity {
+    
+    static final String USER_HEADER = "X-Load-User";
+    
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @EnableWebSecurity
+    @EnableGlobalMethodSecurity(prePostEnabled = true)
+    static class Servlet {
+        
+        @Bean
+        SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+            return http
+                .csrf().disable()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
+                .addFilterBefore(new HeaderFilter(), AnonymousAuthenticationFilter.class)
+                .authorizeRequests().anyRequest().permitAll().and()
+                .build();
+        }
+    }
+    
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @EnableWebFluxSecurity
+    @EnableReactiveMethodSecurity
+    static class Reactive {
+        
+        @Bean
+        SecurityWebFilterChain loadTestFilterChain(ServerHttpSecurity http) {
+            return http
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .securityContextRepository(new HeaderContextRepository())
+                .authorizeExchange().anyExchange().permitAll().and()
+                .build();
+        }
+    }
+    
+    private static final class HeaderFilter extends OncePerRequestFilter {
+        
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+            String user = request.getHeader(USER_HEADER);
+            if (user != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication(user));
+            }
+            chain.doFilter(request, response);
+        }
+    }
+    
+    private static final class HeaderContextRepository implements ServerSecurityContextRepository {
+        
+        @Override
+        public Mono<Void> save(ServerWebExchange exchange, SecurityContext context) {
+            return Mono.empty();
+        }
+        
+        @Override
+        public Mono<SecurityContext> load(ServerWebExchange exchange) {
+            return Mono.justOrEmpty(exchange.getRequest().getHeaders().getFirst(USER_HEADER))
+                .map(user -> new SecurityContextImpl(authentication(user)));
+        }
+    }
+    
+    private static Authentication authentication(String user) {
+        return new UsernamePasswordAuthenticationToken(user, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
@@ -0,0 +1,39 @@
+package com.mentorlink.benchmark;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+
+/**
+ * Sends the Mongo clients through a {@link MongoLatencyProxy} when
+ * {@code loadtest.mongo-latency-ms} is set. Defining the settings replaces
+ * Spring Boot's, which would point the clients straight at the embedded Mongo.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("loadtest.mongo-latency-ms")
+class MongoLatencyConfig {
+    
+    @Bean(destroyMethod = "close")
+    MongoLatencyProxy mongoLatencyProxy(Environment environment,
+                                        @Value("${loadtest.mongo-latency-ms}") long latencyMs) throws IOException {
+        // The embedded Mongo picks its port when it starts, after this bean is created
+        return new MongoLatencyProxy(
+            () -> environment.getRequiredProperty("local.mongo.port", Integer.class), latencyMs);
+    }
+    
+    @Bean
+    MongoClientSettings mongoClientSettings(MongoLatencyProxy proxy) {
+        ServerAddress address = new ServerAddress(InetAddress.getLoopbackAddress(), proxy.port());
+        return MongoClientSettings.builder()
+            .applyToClusterSettings(cluster -> cluster.hosts(List.of(address)))
+            .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.mentorlink.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+/**
+ * TCP proxy in front of the embedded Mongo that holds back each reply by a
+ * fixed delay, standing in for the network and server time of a remote
+ * database. The driver sends one command per connection at a time, so the
+ * first reply bytes after a request are delayed once and the rest of the
+ * reply streams through.
+ */
+final class MongoLatencyProxy implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final ServerSocket serverSocket;
+    private final IntSupplier upstreamPort;
+    private final long delayMs;
+    private final ExecutorService threads = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "mongo-latency-proxy");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean closed;
+    
+    MongoLatencyProxy(IntSupplier upstreamPort, long delayMs) throws IOException {
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        this.upstreamPort = upstreamPort;
+        this.delayMs = delayMs;
+        threads.execute(this::accept);
+    }
+    
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        threads.shutdownNow();
+    }
+    
+    private void accept() {
+        while (!closed) {
+            Socket client = null;
+            try {
+                client = serverSocket.accept();
+                Socket upstream = new Socket(InetAddress.getLoopbackAddress(), upstreamPort.getAsInt());
+                client.setTcpNoDelay(true);
+                upstream.setTcpNoDelay(true);
+                AtomicBoolean awaitingReply = new AtomicBoolean();
+                Socket from = client;
+                threads.execute(() -> pump(from, upstream, awaitingReply, false));
+                threads.execute(() -> pump(upstream, from, awaitingReply, true));
+            } catch (IOException e) {
+                closeQuietly(client);
+                if (!closed) {
+                    System.err.println("Mongo latency proxy could not connect a client: " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private void pump(Socket from, Socket to, AtomicBoolean awaitingReply, boolean replies) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (!replies) {
+                    awaitingReply.set(true);
+                } else if (awaitingReply.getAndSet(false)) {
+                    Thread.sleep(delayMs);
+                }
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // One side closed the connection
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Ends the other direction too
+            closeQuietly(from);
+            closeQuietly(to);
+        }
+    }
+    
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+}
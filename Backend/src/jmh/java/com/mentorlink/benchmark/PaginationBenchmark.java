@@ -0,0 +1,69 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.dto.CursorPage;
+import com.mentorlink.entity.Question;
+import com.mentorlink.service.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offset paging (skip/limit) against keyset paging (cursor) at the first and a deep page
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationBenchmark {
+    
+    private static final int PAGE_SIZE = 10;
+    
+    @Param({"1", "1000"})
+    public int page;
+    
+    private ForumFixture fixture;
+    private QuestionService questionService;
+    private String cursor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = ForumFixture.start(PAGE_SIZE * 1000 + PAGE_SIZE, 0);
+        questionService = fixture.bean(QuestionService.class);
+        
+        // Walk to the cursor that starts the requested page
+        cursor = "";
+        for (int i = 1; i < page; i++) {
+            cursor = questionService.getAllQuestionsAfter(cursor, PAGE_SIZE, "-createdAt", null, true).getNextCursor();
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    public Page<Question> offset() {
+        return questionService.getAllQuestions(page, PAGE_SIZE, "-createdAt", null, true);
+    }
+    
+    @Benchmark
+    public CursorPage<Question> keyset() {
+        return questionService.getAllQuestionsAfter(cursor, PAGE_SIZE, "-createdAt", null, true);
+    }
+}
@@ -0,0 +1,115 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.dto.AddAnswerRequest;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mentorlink.service.QuestionCache;
+import com.mentorlink.service.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The forum hot paths through {@link QuestionService}, against embedded Mongo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuestionServiceBenchmark {
+    
+    // Ids read repeatedly by the cached detail benchmark
+    private static final int HOT_QUESTIONS = 100;
+    
+    @Param({"10000"})
+    public int questionCount;
+    
+    @Param({"5"})
+    public int answersPerQuestion;
+    
+    private ForumFixture fixture;
+    private QuestionService questionService;
+    private QuestionCache questionCache;
+    private List<String> questionIds;
+    private String answerAuthorId;
+    private final AtomicLong voters = new AtomicLong();
+    
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final Random random = new Random();
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = ForumFixture.start(questionCount, answersPerQuestion);
+        questionService = fixture.bean(QuestionService.class);
+        questionCache = fixture.bean(QuestionCache.class);
+        questionIds = fixture.questionIds();
+        answerAuthorId = fixture.userIds().get(0);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    public Page<Question> getAllQuestions() {
+        return questionService.getAllQuestions(1, 50, "-createdAt", null, false);
+    }
+    
+    @Benchmark
+    public Page<Question> getAllQuestionsSummary() {
+        return questionService.getAllQuestions(1, 50, "-createdAt", null, true);
+    }
+    
+    @Benchmark
+    public Question getQuestionByIdCached(ThreadRandom state) {
+        return questionService.getQuestionById(questionIds.get(state.random.nextInt(HOT_QUESTIONS)));
+    }
+    
+    @Benchmark
+    public Question getQuestionByIdUncached(ThreadRandom state) {
+        String id = questionIds.get(state.random.nextInt(questionIds.size()));
+        questionCache.invalidate(id);
+        return questionService.getQuestionById(id);
+    }
+    
+    @Benchmark
+    public Page<Question> searchQuestions(ThreadRandom state) {
+        return questionService.searchQuestions(ForumText.query(state.random), null, null, 1, 10);
+    }
+    
+    @Benchmark
+    public Answer addAnswer(ThreadRandom state) {
+        AddAnswerRequest request = new AddAnswerRequest();
+        request.setContent(ForumText.text(state.random, ForumFixture.ANSWER_CHARS));
+        return questionService.addAnswer(
+            questionIds.get(state.random.nextInt(questionIds.size())), request, answerAuthorId);
+    }
+    
+    @Benchmark
+    public int upvoteQuestion(ThreadRandom state) {
+        // Every vote needs a distinct voter to pass the one-vote-per-user check
+        return questionService.upvoteQuestion(
+            questionIds.get(state.random.nextInt(questionIds.size())), "benchmark-voter-" + voters.incrementAndGet());
+    }
+}
@@ -0,0 +1,86 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.entity.Question;
+import com.mentorlink.search.RelatedQuestions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh throughput of the related-questions lists: recomputing every list
+ * (what a startup rebuild does after vectorizing), and one background refresh
+ * after {@code edits} questions were edited. The sweep batch is off so the
+ * incremental case measures only the edited questions and the lists they
+ * appeared in. Divide the corpus size or edit count by the time for lists per
+ * second.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx8g")
+public class RelatedQuestionsBenchmark {
+    
+    @Param({"100000", "500000"})
+    public int questionCount;
+    
+    @Param({"1000"})
+    public int edits;
+    
+    private ForumFixture fixture;
+    private RelatedQuestions relatedQuestions;
+    private List<String> questionIds;
+    private final Random random = new Random(42);
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = ForumFixture.start(questionCount, 0,
+            "forum.related.sweep-batch=0",
+            "forum.related.refresh-interval-ms=86400000");
+        relatedQuestions = fixture.bean(RelatedQuestions.class);
+        questionIds = fixture.questionIds();
+    }
+    
+    @Setup(Level.Invocation)
+    public void editQuestions() {
+        for (int i = 0; i < edits; i++) {
+            Question question = new Question();
+            question.setId(questionIds.get(random.nextInt(questionIds.size())));
+            question.setTitle(ForumText.title(random));
+            question.setContent(ForumText.text(random, ForumFixture.QUESTION_CHARS));
+            question.setTags(ForumText.tags(random));
+            relatedQuestions.index(question);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void fullRefresh() {
+        relatedQuestions.refreshAll();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void incrementalRefresh() {
+        relatedQuestions.refresh();
+    }
+}
@@ -0,0 +1,142 @@
+package com.mentorlink.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.AuthorSnapshot;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson serialization of the {@code ForumController} response envelopes,
+ * with the ObjectMapper configuration Spring Boot uses for responses
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+    
+    @Param({"50"})
+    public int pageSize;
+    
+    @Param({"20"})
+    public int answersPerQuestion;
+    
+    private ObjectMapper objectMapper;
+    private Map<String, Object> listResponse;
+    private Map<String, Object> summaryListResponse;
+    private Map<String, Object> detailResponse;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Random random = new Random(42);
+        
+        List<Question> page = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            page.add(question(random, i, 0));
+        }
+        listResponse = listEnvelope(page);
+        summaryListResponse = listEnvelope(page.stream().map(QuestionSummary::from).collect(Collectors.toList()));
+        
+        detailResponse = new HashMap<>();
+        detailResponse.put("success", true);
+        detailResponse.put("message", "Question retrieved successfully");
+        detailResponse.put("question", question(random, 0, answersPerQuestion));
+    }
+    
+    @Benchmark
+    public byte[] questionList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+    
+    @Benchmark
+    public byte[] questionSummaryList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryListResponse);
+    }
+    
+    @Benchmark
+    public byte[] questionDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailResponse);
+    }
+    
+    private Map<String, Object> listEnvelope(List<?> questions) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Questions retrieved successfully");
+        response.put("questions", questions);
+        response.put("total", 10_000L);
+        response.put("page", 1);
+        response.put("limit", pageSize);
+        return response;
+    }
+    
+    private static Question question(Random random, int index, int answerCount) {
+        User author = user(random);
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(index);
+        
+        Question question = new Question();
+        question.setId(String.format("%024x", index));
+        question.setTitle(ForumText.title(random));
+        question.setContent(ForumText.text(random, ForumFixture.QUESTION_CHARS));
+        question.setCategory(ForumText.category(random));
+        question.setTags(ForumText.tags(random));
+        question.setAuthor(author);
+        question.setAuthorSnapshot(AuthorSnapshot.of(author));
+        question.setExcerpt(QuestionSummary.excerpt(question.getContent()));
+        question.setUpvotes(random.nextInt(50));
+        question.setAnswerCount(answerCount);
+        question.setCreatedAt(createdAt);
+        question.setUpdatedAt(createdAt);
+        
+        List<Answer> answers = new ArrayList<>();
+        for (int i = 0; i < answerCount; i++) {
+            Answer answer = new Answer();
+            answer.setId(String.format("%024x", 1_000_000 + i));
+            answer.setQuestionId(question.getId());
+            answer.setContent(ForumText.text(random, ForumFixture.ANSWER_CHARS));
+            answer.setAuthor(user(random));
+            answer.setUpvotes(random.nextInt(20));
+            answer.setCreatedAt(createdAt.plusMinutes(i + 1));
+            answer.setUpdatedAt(answer.getCreatedAt());
+            answers.add(answer);
+        }
+        question.setAnswers(answers);
+        return question;
+    }
+    
+    private static User user(Random random) {
+        int id = random.nextInt(200);
+        User user = new User();
+        user.setId(String.format("%024x", id));
+        user.setName("Benchmark User " + id);
+        user.setProfilePicture("https://example.com/avatars/" + id + ".png");
+        return user;
+    }
+}
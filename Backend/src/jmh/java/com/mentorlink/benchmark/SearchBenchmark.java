@@ -0,0 +1,94 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.dto.DuplicateCandidate;
+import com.mentorlink.dto.TitleSuggestion;
+import com.mentorlink.entity.Question;
+import com.mentorlink.repository.QuestionRepository;
+import com.mentorlink.search.DuplicateIndex;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.SearchResult;
+import com.mentorlink.search.TitleAutocomplete;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking a query in the in-memory BM25 index against the regex scan it replaced.
+ * Both return one page of ten; the index result is ids only, the regex result full documents.
+ * Also times a typeahead lookup on a partly typed query, and the near-duplicate
+ * lookup that question creation runs on a new title and body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    
+    @Param({"10000", "50000"})
+    public int questionCount;
+    
+    private ForumFixture fixture;
+    private QuestionSearchIndex searchIndex;
+    private TitleAutocomplete titleAutocomplete;
+    private DuplicateIndex duplicateIndex;
+    private QuestionRepository questionRepository;
+    
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final Random random = new Random();
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = ForumFixture.start(questionCount, 2);
+        searchIndex = fixture.bean(QuestionSearchIndex.class);
+        titleAutocomplete = fixture.bean(TitleAutocomplete.class);
+        duplicateIndex = fixture.bean(DuplicateIndex.class);
+        questionRepository = fixture.bean(QuestionRepository.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    public SearchResult bm25Index(ThreadRandom state) {
+        return searchIndex.search(ForumText.query(state.random), null, null, 1, 10);
+    }
+    
+    @Benchmark
+    public List<TitleSuggestion> autocomplete(ThreadRandom state) {
+        return titleAutocomplete.suggest(ForumText.typed(state.random), 8);
+    }
+    
+    @Benchmark
+    public List<DuplicateCandidate> duplicateLookup(ThreadRandom state) {
+        return duplicateIndex.find(ForumText.title(state.random), ForumText.text(state.random, 600), 5);
+    }
+    
+    @Benchmark
+    public Page<Question> regexScan(ThreadRandom state) {
+        return questionRepository.searchByRegex(ForumText.query(state.random), null, null,
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+}
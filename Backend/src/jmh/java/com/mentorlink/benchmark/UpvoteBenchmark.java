@@ -0,0 +1,70 @@
+package com.mentorlink.benchmark;
+
+import com.mentorlink.service.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent votes on a few hot questions, with one $inc per vote against the
+ * write-behind {@code VoteAggregator}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class UpvoteBenchmark {
+    
+    @Param({"false", "true"})
+    public boolean writeBehind;
+    
+    @Param({"10"})
+    public int hotQuestions;
+    
+    private ForumFixture fixture;
+    private QuestionService questionService;
+    private List<String> questionIds;
+    private final AtomicLong voters = new AtomicLong();
+    
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final Random random = new Random();
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = ForumFixture.start(1000, 0, "forum.votes.write-behind.enabled=" + writeBehind);
+        questionService = fixture.bean(QuestionService.class);
+        questionIds = fixture.questionIds();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+    
+    @Benchmark
+    public int upvoteHotQuestion(ThreadRandom state) {
+        return questionService.upvoteQuestion(
+            questionIds.get(state.random.nextInt(hotQuestions)), "benchmark-voter-" + voters.incrementAndGet());
+    }
+}
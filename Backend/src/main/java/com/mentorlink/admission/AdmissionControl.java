@@ -0,0 +1,248 @@
+package com.mentorlink.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admission decisions for /api/forum requests, shared by the servlet and
+ * WebFlux filters.
+ *
+ * In order, a request is rejected with:
+ * - 400 if its {@code limit} parameter is below 1 or above {@code forum.admission.max-limit}
+ * - 429 if its client address, or its user when signed in, is out of tokens.
+ *   Listing and search cost more tokens than other calls, and bulk transfers
+ *   (the NDJSON stream, admin export and import) more still. Address buckets are
+ *   only as good as the address the server sees: behind a proxy that needs a
+ *   forwarded-headers strategy that trusts the proxy alone, otherwise they are
+ *   turned off with {@code forum.admission.ip.enabled=false}.
+ * - 503 if it is a listing, search or bulk transfer and that endpoint class is at its
+ *   adaptive concurrency cap (see {@link ConcurrencyLimiter}), which shrinks
+ *   while measured latency is above the class's SLO
+ * Rejections are counted in {@code forum.admission.rejected{reason, endpoint}}.
+ */
+@Component
+public class AdmissionControl {
+    
+    public static final String SEARCH = "search";
+    public static final String LIST = "list";
+    public static final String BULK = "bulk";
+    public static final String OTHER = "other";
+    
+    /**
+     * The outcome for one request; admitted requests must be {@link #release released}
+     */
+    public static final class Ticket {
+        
+        private static final Ticket ADMITTED = new Ticket(0, null, 0, null);
+        
+        private final int status;
+        private final String message;
+        private final long retryAfterSeconds;
+        private final ConcurrencyLimiter limiter;
+        private final long startNanos = System.nanoTime();
+        
+        private Ticket(int status, String message, long retryAfterSeconds, ConcurrencyLimiter limiter) {
+            this.status = status;
+            this.message = message;
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.limiter = limiter;
+        }
+        
+        public boolean isAdmitted() {
+            return status == 0;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+        
+        public void release() {
+            if (limiter != null) {
+                limiter.release(System.nanoTime() - startNanos);
+            }
+        }
+    }
+    
+    private final boolean enabled;
+    private final boolean ipEnabled;
+    private final int maxLimit;
+    private final TokenBuckets ipBuckets;
+    private final TokenBuckets userBuckets;
+    private final ConcurrencyLimiter searchLimiter;
+    private final ConcurrencyLimiter listLimiter;
+    private final ConcurrencyLimiter bulkLimiter;
+    private final int searchCost;
+    private final int listCost;
+    private final int bulkCost;
+    private final MeterRegistry meterRegistry;
+    
+    public AdmissionControl(
+        MeterRegistry meterRegistry,
+        @Value("${forum.admission.enabled:true}") boolean enabled,
+        @Value("${forum.admission.max-limit:100}") int maxLimit,
+        @Value("${forum.admission.ip.enabled:true}") boolean ipEnabled,
+        @Value("${forum.admission.ip.rate-per-second:20}") double ipRate,
+        @Value("${forum.admission.ip.burst:60}") int ipBurst,
+        @Value("${forum.admission.user.rate-per-second:10}") double userRate,
+        @Value("${forum.admission.user.burst:30}") int userBurst,
+        @Value("${forum.admission.max-tracked-keys:200000}") int maxTrackedKeys,
+        @Value("${forum.admission.search.cost:4}") int searchCost,
+        @Value("${forum.admission.search.max-concurrent:32}") int searchConcurrency,
+        @Value("${forum.admission.search.slo-ms:250}") long searchSloMs,
+        @Value("${forum.admission.list.cost:2}") int listCost,
+        @Value("${forum.admission.list.max-concurrent:64}") int listConcurrency,
+        @Value("${forum.admission.list.slo-ms:150}") long listSloMs,
+        @Value("${forum.admission.bulk.cost:10}") int bulkCost,
+        @Value("${forum.admission.bulk.max-concurrent:4}") int bulkConcurrency,
+        @Value("${forum.admission.bulk.slo-ms:60000}") long bulkSloMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ipEnabled = ipEnabled;
+        this.maxLimit = maxLimit;
+        this.ipBuckets = new TokenBuckets(ipRate, ipBurst, maxTrackedKeys);
+        this.userBuckets = new TokenBuckets(userRate, userBurst, maxTrackedKeys);
+        this.searchCost = searchCost;
+        this.listCost = listCost;
+        this.bulkCost = bulkCost;
+        this.searchLimiter = new ConcurrencyLimiter(SEARCH, searchConcurrency, searchSloMs);
+        this.listLimiter = new ConcurrencyLimiter(LIST, listConcurrency, listSloMs);
+        this.bulkLimiter = new ConcurrencyLimiter(BULK, bulkConcurrency, bulkSloMs);
+        
+        for (ConcurrencyLimiter limiter : new ConcurrencyLimiter[] {searchLimiter, listLimiter, bulkLimiter}) {
+            Gauge.builder("forum.admission.limit", limiter, ConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency cap")
+                .tag("endpoint", limiter.name())
+                .register(meterRegistry);
+            Gauge.builder("forum.admission.inflight", limiter, ConcurrencyLimiter::inFlight)
+                .tag("endpoint", limiter.name())
+                .register(meterRegistry);
+            Gauge.builder("forum.admission.latency.ewma", limiter, ConcurrencyLimiter::latencyMillis)
+                .baseUnit("milliseconds")
+                .tag("endpoint", limiter.name())
+                .register(meterRegistry);
+        }
+        Gauge.builder("forum.admission.buckets", this, control -> control.ipBuckets.size() + control.userBuckets.size())
+            .description("Rate-limit buckets currently tracked")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Decide on one request. {@code user} is null for anonymous requests and
+     * {@code limit} is the raw {@code limit} parameter, if any.
+     */
+    public Ticket admit(String method, String path, String clientAddress, String user, String limit) {
+        if (!enabled) {
+            return Ticket.ADMITTED;
+        }
+        String endpoint = classify(method, path);
+        
+        if (limit != null && limitOutOfRange(limit)) {
+            return reject(endpoint, "limit", 400, "limit must be between 1 and " + maxLimit, 0);
+        }
+        
+        int cost = cost(endpoint);
+        long now = System.currentTimeMillis();
+        long waitMillis = ipEnabled ? ipBuckets.take(clientAddress, cost, now) : 0;
+        if (waitMillis > 0) {
+            return reject(endpoint, "rate-ip", 429, "Too many requests, please slow down", waitMillis);
+        }
+        if (user != null) {
+            waitMillis = userBuckets.take(user, cost, now);
+            if (waitMillis > 0) {
+                return reject(endpoint, "rate-user", 429, "Too many requests, please slow down", waitMillis);
+            }
+        }
+        
+        ConcurrencyLimiter limiter = limiter(endpoint);
+        if (limiter == null) {
+            return Ticket.ADMITTED;
+        }
+        if (!limiter.tryAcquire()) {
+            return reject(endpoint, "overload", 503, "The forum is busy, please retry shortly", 1000);
+        }
+        return new Ticket(0, null, 0, limiter);
+    }
+    
+    @Scheduled(fixedDelayString = "${forum.admission.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.currentTimeMillis();
+        ipBuckets.evictIdle(now);
+        userBuckets.evictIdle(now);
+    }
+    
+    /**
+     * Listing, search and bulk endpoints by path; everything else is only rate limited
+     */
+    static String classify(String method, String path) {
+        if ("POST".equals(method) && path.equals("/api/forum/admin/import")) {
+            return BULK;
+        }
+        if (!"GET".equals(method)) {
+            return OTHER;
+        }
+        if (path.equals("/api/forum/questions/stream") || path.equals("/api/forum/admin/export")) {
+            return BULK;
+        }
+        if (path.equals("/api/forum/questions/search")) {
+            return SEARCH;
+        }
+        if (path.equals("/api/forum/questions")
+            || path.startsWith("/api/forum/questions/category/")
+            || (path.startsWith("/api/forum/mentor/") && path.endsWith("/questions"))) {
+            return LIST;
+        }
+        return OTHER;
+    }
+    
+    private int cost(String endpoint) {
+        switch (endpoint) {
+            case SEARCH:
+                return searchCost;
+            case LIST:
+                return listCost;
+            case BULK:
+                return bulkCost;
+            default:
+                return 1;
+        }
+    }
+    
+    private ConcurrencyLimiter limiter(String endpoint) {
+        switch (endpoint) {
+            case SEARCH:
+                return searchLimiter;
+            case LIST:
+                return listLimiter;
+            case BULK:
+                return bulkLimiter;
+            default:
+                return null;
+        }
+    }
+    
+    private boolean limitOutOfRange(String limit) {
+        try {
+            int value = Integer.parseInt(limit.trim());
+            return value < 1 || value > maxLimit;
+        } catch (NumberFormatException e) {
+            // Left to request binding, which rejects it
+            return false;
+        }
+    }
+    
+    private Ticket reject(String endpoint, String reason, int status, String message, long retryAfterMillis) {
+        meterRegistry.counter("forum.admission.rejected", "reason", reason, "endpoint", endpoint).increment();
+        return new Ticket(status, message, Math.max(1, (retryAfterMillis + 999) / 1000), null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.mentorlink.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Applies {@link AdmissionControl} to every /api/forum request. Runs after the
+ * security filter chain, so signed-in users are limited by user id as well as
+ * by address.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class AdmissionFilter extends OncePerRequestFilter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionFilter.class);
+    
+    private final AdmissionControl admissionControl;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/forum");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        
+        AdmissionControl.Ticket ticket = admissionControl.admit(request.getMethod(), request.getRequestURI(),
+            request.getRemoteAddr(), userId(), request.getParameter("limit"));
+        if (!ticket.isAdmitted()) {
+            logger.warn("⚠️ [FORUM - JAVA] Rejected {} {} from {} with {}",
+                request.getMethod(), request.getRequestURI(), request.getRemoteAddr(), ticket.getStatus());
+            response.setStatus(ticket.getStatus());
+            if (ticket.getStatus() != HttpServletResponse.SC_BAD_REQUEST) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ticket.getRetryAfterSeconds()));
+            }
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                Map.of("success", false, "message", ticket.getMessage()));
+            return;
+        }
+        
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ticket.release();
+        }
+    }
+    
+    private static String userId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,96 @@
+package com.mentorlink.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive cap on the requests of one endpoint class in flight at once.
+ *
+ * The cap starts at {@code maxConcurrent}. Completed requests feed an
+ * exponentially weighted moving average of latency; while that average is above
+ * the SLO the cap shrinks by 10% at most once per SLO interval, and while it is
+ * below, the cap grows back by about one per round of requests (additive
+ * increase, multiplicative decrease). Requests beyond the cap are rejected
+ * instead of queueing behind the slow ones. All state is in atomics.
+ */
+final class ConcurrencyLimiter {
+    
+    private static final double EWMA_WEIGHT = 0.1;
+    private static final double DECREASE = 0.9;
+    private static final int MIN_LIMIT = 1;
+    
+    private final String name;
+    private final int maxConcurrent;
+    private final long sloNanos;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Doubles stored as raw long bits
+    private final AtomicLong limit;
+    private final AtomicLong latencyEwma = new AtomicLong(Double.doubleToLongBits(0));
+    private final AtomicLong lastDecrease = new AtomicLong();
+    
+    ConcurrencyLimiter(String name, int maxConcurrent, long sloMillis) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.sloNanos = sloMillis * 1_000_000;
+        this.limit = new AtomicLong(Double.doubleToLongBits(maxConcurrent));
+    }
+    
+    String name() {
+        return name;
+    }
+    
+    boolean tryAcquire() {
+        int cap = (int) limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= cap) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        double average = update(latencyEwma, old -> old == 0 ? latencyNanos : old + EWMA_WEIGHT * (latencyNanos - old));
+        
+        if (average > sloNanos) {
+            long now = System.nanoTime();
+            long last = lastDecrease.get();
+            if (now - last >= sloNanos && lastDecrease.compareAndSet(last, now)) {
+                update(limit, old -> Math.max(MIN_LIMIT, old * DECREASE));
+            }
+        } else {
+            update(limit, old -> Math.min(maxConcurrent, old + 1.0 / old));
+        }
+    }
+    
+    double limit() {
+        return Double.longBitsToDouble(limit.get());
+    }
+    
+    int inFlight() {
+        return inFlight.get();
+    }
+    
+    double latencyMillis() {
+        return Double.longBitsToDouble(latencyEwma.get()) / 1_000_000;
+    }
+    
+    private interface DoubleUpdate {
+        double apply(double old);
+    }
+    
+    private static double update(AtomicLong bits, DoubleUpdate update) {
+        while (true) {
+            long current = bits.get();
+            double next = update.apply(Double.longBitsToDouble(current));
+            if (bits.compareAndSet(current, Double.doubleToLongBits(next))) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.mentorlink.admission;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * {@link AdmissionFilter} for the WebFlux stack
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAdmissionFilter implements WebFilter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAdmissionFilter.class);
+    
+    private final AdmissionControl admissionControl;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (!path.startsWith("/api/forum")) {
+            return chain.filter(exchange);
+        }
+        
+        InetSocketAddress remote = request.getRemoteAddress();
+        String clientAddress = remote != null && remote.getAddress() != null
+            ? remote.getAddress().getHostAddress()
+            : "unknown";
+        
+        return exchange.getPrincipal()
+            .filter(principal -> !(principal instanceof AnonymousAuthenticationToken))
+            .map(principal -> principal.getName())
+            .defaultIfEmpty("")
+            .flatMap(user -> {
+                AdmissionControl.Ticket ticket = admissionControl.admit(request.getMethodValue(), path,
+                    clientAddress, user.isEmpty() ? null : user, request.getQueryParams().getFirst("limit"));
+                if (!ticket.isAdmitted()) {
+                    logger.warn("⚠️ [FORUM - JAVA] Rejected {} {} from {} with {}",
+                        request.getMethodValue(), path, clientAddress, ticket.getStatus());
+                    return reject(exchange.getResponse(), ticket);
+                }
+                return chain.filter(exchange).doFinally(signal -> ticket.release());
+            });
+    }
+    
+    private Mono<Void> reject(ServerHttpResponse response, AdmissionControl.Ticket ticket) {
+        response.setStatusCode(HttpStatus.valueOf(ticket.getStatus()));
+        if (ticket.getStatus() != HttpStatus.BAD_REQUEST.value()) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(ticket.getRetryAfterSeconds()));
+        }
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("success", false, "message", ticket.getMessage()));
+            DataBuffer buffer = response.bufferFactory().wrap(body);
+            return response.writeWith(Mono.just(buffer));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+}
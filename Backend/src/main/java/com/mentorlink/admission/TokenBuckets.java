@@ -0,0 +1,112 @@
+package com.mentorlink.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets by key (a user id or client address), refilled continuously at
+ * {@code ratePerSecond} up to {@code burst} tokens.
+ *
+ * Each bucket is one {@link AtomicLong} holding the time of its last update
+ * (milliseconds since this table was created, upper 40 bits) and its balance in
+ * thousandths of a token (lower 24 bits), so taking tokens is a single CAS with
+ * no lock. Buckets live in {@value #STRIPES} independent maps chosen by key
+ * hash. Each stripe tracks at most {@code maxKeys / STRIPES} keys; keys beyond
+ * that share the stripe's overflow bucket, so a flood of new addresses cannot
+ * grow memory, only compete for one budget. Buckets that have refilled to full
+ * are dropped by {@link #evictIdle}.
+ */
+final class TokenBuckets {
+    
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    
+    private static final int BALANCE_BITS = 24;
+    private static final long BALANCE_MASK = (1L << BALANCE_BITS) - 1;
+    
+    // Balance is kept in thousandths of a token
+    private static final long SCALE = 1000;
+    
+    private final Map<String, AtomicLong>[] stripes;
+    private final AtomicLong[] overflow;
+    private final double ratePerMilli;
+    private final long capacity;
+    private final int maxKeysPerStripe;
+    private final long epoch = System.currentTimeMillis();
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TokenBuckets(double ratePerSecond, int burst, int maxKeys) {
+        this.ratePerMilli = ratePerSecond * SCALE / 1000.0;
+        this.capacity = Math.min(burst * SCALE, BALANCE_MASK);
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new Map[STRIPES];
+        this.overflow = new AtomicLong[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            overflow[i] = new AtomicLong(pack(0, capacity));
+        }
+    }
+    
+    /**
+     * Take {@code tokens} from the bucket of {@code key}.
+     *
+     * @return 0 if taken, otherwise the milliseconds until the bucket will hold enough
+     */
+    long take(String key, int tokens, long nowMillis) {
+        AtomicLong bucket = bucket(key);
+        long now = nowMillis - epoch;
+        long needed = tokens * SCALE;
+        while (true) {
+            long state = bucket.get();
+            long balance = balance(state, now);
+            if (balance < needed) {
+                return (long) Math.ceil((needed - balance) / ratePerMilli);
+            }
+            if (bucket.compareAndSet(state, pack(now, balance - needed))) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * Drop buckets that are full again; they behave exactly like a new bucket
+     */
+    void evictIdle(long nowMillis) {
+        long now = nowMillis - epoch;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            stripe.values().removeIf(bucket -> balance(bucket.get(), now) >= capacity);
+        }
+    }
+    
+    int size() {
+        int size = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+    
+    private AtomicLong bucket(String key) {
+        int stripeIndex = (key.hashCode() * 0x9E3779B9) >>> (32 - STRIPE_BITS);
+        Map<String, AtomicLong> stripe = stripes[stripeIndex];
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe) {
+            return overflow[stripeIndex];
+        }
+        return stripe.computeIfAbsent(key, k -> new AtomicLong(pack(System.currentTimeMillis() - epoch, capacity)));
+    }
+    
+    private long balance(long state, long now) {
+        long elapsed = Math.max(0, now - (state >>> BALANCE_BITS));
+        long refilled = (state & BALANCE_MASK) + (long) (elapsed * ratePerMilli);
+        return Math.min(capacity, refilled);
+    }
+    
+    private static long pack(long time, long balance) {
+        return time << BALANCE_BITS | balance;
+    }
+}
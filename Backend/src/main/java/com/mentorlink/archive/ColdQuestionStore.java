@@ -0,0 +1,219 @@
+package com.mentorlink.archive;
+
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * The cold tier: questions moved out of the questions collection by {@link QuestionArchiver}.
+ *
+ * Each entry is one document holding the question and its answers exactly as
+ * they were stored, so an archived thread is read with one lookup and comes
+ * back unchanged. The collection is created with a stronger block compressor
+ * than Mongo's default snappy; cold entries are read rarely, so the extra CPU
+ * spent decompressing them is cheap next to the disk and cache they free.
+ */
+@Component
+public class ColdQuestionStore {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ColdQuestionStore.class);
+    
+    // Mongo's error code for creating a collection that already exists
+    private static final int NAMESPACE_EXISTS = 48;
+    
+    private final MongoTemplate mongoTemplate;
+    private final String collection;
+    private final String compressor;
+    
+    public ColdQuestionStore(
+        MongoTemplate mongoTemplate,
+        @Value("${forum.archive.collection:questions_cold}") String collection,
+        @Value("${forum.archive.compressor:zstd}") String compressor) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection = collection;
+        this.compressor = compressor;
+    }
+    
+    /**
+     * Create the collection with the configured compressor. Compression is fixed
+     * when a collection is created, so an existing collection is left as it is.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureCollection() {
+        if (mongoTemplate.collectionExists(collection)) {
+            return;
+        }
+        try {
+            mongoTemplate.getDb().createCollection(collection, new CreateCollectionOptions()
+                .storageEngineOptions(new Document("wiredTiger",
+                    new Document("configString", "block_compressor=" + compressor))));
+            logger.info("✅ [FORUM - JAVA] Created cold question collection {} with {} compression",
+                collection, compressor);
+        } catch (MongoCommandException e) {
+            // Another instance created it first
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+    }
+    
+    public String collectionName() {
+        return collection;
+    }
+    
+    /**
+     * Store a question document with its answer documents, replacing an earlier copy. The entry
+     * is marked as still being archived until {@link #archived} is called.
+     */
+    public void put(Document question, List<Document> answers) {
+        Object id = question.get("_id");
+        Document entry = new Document("_id", id)
+            .append("question", question)
+            .append("answers", answers)
+            .append("archivedAt", new Date())
+            .append("archiving", true);
+        entries().replaceOne(Filters.eq("_id", id), entry, new ReplaceOptions().upsert(true));
+    }
+    
+    /**
+     * The question and its answers are gone from the hot collections, so the entry may be promoted
+     */
+    public void archived(String id) {
+        entries().updateOne(Filters.eq("_id", toObjectId(id)), Updates.unset("archiving"));
+    }
+    
+    /**
+     * Whether the entry's archive is still deleting the hot copies, and has not been
+     * abandoned (left marked for longer than {@code abandonedAfterMs} by a crashed archiver)
+     */
+    public static boolean isArchiving(Document entry, long abandonedAfterMs) {
+        Date archivedAt = entry.getDate("archivedAt");
+        return entry.getBoolean("archiving", false)
+            && archivedAt != null
+            && System.currentTimeMillis() - archivedAt.getTime() < abandonedAfterMs;
+    }
+    
+    /**
+     * The stored entry, with the question under "question" and its answers under "answers"; null if not archived
+     */
+    public Document find(String id) {
+        return entries().find(Filters.eq("_id", toObjectId(id))).first();
+    }
+    
+    /**
+     * Add {@code delta} to an archived question's upvotes; false if the question is not archived
+     */
+    public boolean incrementUpvotes(String id, long delta) {
+        return entries().updateOne(Filters.eq("_id", toObjectId(id)), Updates.inc("question.upvotes", delta))
+            .getMatchedCount() > 0;
+    }
+    
+    public boolean contains(String id) {
+        return entries().countDocuments(Filters.eq("_id", toObjectId(id)), new CountOptions().limit(1)) > 0;
+    }
+    
+    public void remove(String id) {
+        entries().deleteOne(Filters.eq("_id", toObjectId(id)));
+    }
+    
+    /**
+     * Which of {@code ids} are archived
+     */
+    public Set<String> archivedIds(Collection<String> ids) {
+        Set<String> archived = new HashSet<>();
+        try (MongoCursor<Document> cursor = entries().find(Filters.in("_id", toObjectIds(ids)))
+            .projection(Projections.include("_id"))
+            .iterator()) {
+            while (cursor.hasNext()) {
+                archived.add(cursor.next().get("_id").toString());
+            }
+        }
+        return archived;
+    }
+    
+    /**
+     * Archived question documents among {@code ids}, without their answers, in no particular order
+     */
+    public List<Document> findQuestionDocuments(Collection<String> ids) {
+        List<Document> questions = new ArrayList<>();
+        try (MongoCursor<Document> cursor = entries().find(Filters.in("_id", toObjectIds(ids)))
+            .projection(Projections.include("question"))
+            .iterator()) {
+            while (cursor.hasNext()) {
+                questions.add(cursor.next().get("question", Document.class));
+            }
+        }
+        return questions;
+    }
+    
+    /**
+     * Archived questions among {@code ids}, without their answers, in no particular order
+     */
+    public List<Question> findQuestions(Collection<String> ids) {
+        return findQuestionDocuments(ids).stream()
+            .map(document -> mongoTemplate.getConverter().read(Question.class, document))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Hand every archived question's searchable fields, and its answers' ids and content, to {@code consumer}
+     */
+    public void forEachSearchable(BiConsumer<Question, List<Answer>> consumer) {
+        try (MongoCursor<Document> cursor = entries().find()
+            .projection(Projections.include(
+                "question.title", "question.content", "question.category", "question.tags",
+                "answers._id", "answers.content"))
+            .iterator()) {
+            while (cursor.hasNext()) {
+                Document entry = cursor.next();
+                Document question = entry.get("question", Document.class);
+                question.put("_id", entry.get("_id"));
+                List<Answer> answers = entry.getList("answers", Document.class, new ArrayList<>()).stream()
+                    .map(answer -> mongoTemplate.getConverter().read(Answer.class, answer))
+                    .collect(Collectors.toList());
+                consumer.accept(mongoTemplate.getConverter().read(Question.class, question), answers);
+            }
+        }
+    }
+    
+    private MongoCollection<Document> entries() {
+        return mongoTemplate.getCollection(collection);
+    }
+    
+    private static List<Object> toObjectIds(Collection<String> ids) {
+        return ids.stream().map(ColdQuestionStore::toObjectId).collect(Collectors.toList());
+    }
+    
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,329 @@
+package com.mentorlink.archive;
+
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.service.QuestionCounters;
+import com.mentorlink.service.TagFacets;
+import com.mentorlink.sync.LocalQuestionState;
+import com.mongodb.DBRef;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Moves stale questions to the cold tier ({@link ColdQuestionStore}) and brings
+ * them back when they are accessed.
+ *
+ * A question is stale once it is older than {@code max-age-days} and nothing
+ * (an answer, a vote, an edit) has touched it for {@code idle-days}. A promoted
+ * question is not archived again until it has been idle that long after its
+ * promotion. Archiving copies the question and its answers to the cold tier
+ * first and then deletes them from the hot collections; the delete only
+ * matches the question as it was read, so one written meanwhile stays hot.
+ * Until the answers are deleted as well the cold entry is marked as being
+ * archived, and promotion waits for it: promoting in between would let the
+ * archive delete the answers it had just brought back.
+ * Archiving is off unless {@code forum.archive.enabled} is set.
+ * Votes stay in their own collections, which are small and carry the
+ * one-vote-per-user indexes.
+ *
+ * Archived questions stay in the search index. List pages, counts, feeds,
+ * autocomplete, and the duplicate and related-question indexes cover the hot
+ * tier only, until a question is promoted.
+ */
+@Component
+public class QuestionArchiver {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionArchiver.class);
+    
+    // Mongo's error code for a collection that does not exist
+    private static final int NAMESPACE_NOT_FOUND = 26;
+    
+    private static final double MB = 1024.0 * 1024.0;
+    
+    // How long a promotion waits for an archive in progress, polling the cold entry
+    private static final int PROMOTE_WAIT_ATTEMPTS = 50;
+    private static final long PROMOTE_WAIT_MS = 20;
+    // An entry still marked this long after it was written was left by an archiver that stopped
+    private static final long ARCHIVE_ABANDONED_MS = 60000;
+    
+    /**
+     * Uncompressed data size of the hot questions and answers, the part that competes for
+     * Mongo's cache, next to the cold tier's uncompressed and on-disk sizes
+     */
+    @Data
+    @AllArgsConstructor
+    public static class TierSizes {
+        private long hotBytes;
+        private long coldBytes;
+        private long coldStorageBytes;
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    private final ColdQuestionStore coldStore;
+    private final LocalQuestionState localState;
+    private final QuestionSearchIndex searchIndex;
+    private final QuestionCounters questionCounters;
+    private final TagFacets tagFacets;
+    private final boolean enabled;
+    private final int maxAgeDays;
+    private final int idleDays;
+    private final int batchSize;
+    private final String questionCollection;
+    private final String answerCollection;
+    private final Counter archivedCounter;
+    private final Counter promotedCounter;
+    private final AtomicLong hotBytes = new AtomicLong();
+    private final AtomicLong coldStorageBytes = new AtomicLong();
+    
+    public QuestionArchiver(
+        MongoTemplate mongoTemplate,
+        ColdQuestionStore coldStore,
+        LocalQuestionState localState,
+        QuestionSearchIndex searchIndex,
+        QuestionCounters questionCounters,
+        TagFacets tagFacets,
+        MeterRegistry meterRegistry,
+        @Value("${forum.archive.enabled:false}") boolean enabled,
+        @Value("${forum.archive.max-age-days:180}") int maxAgeDays,
+        @Value("${forum.archive.idle-days:30}") int idleDays,
+        @Value("${forum.archive.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.coldStore = coldStore;
+        this.localState = localState;
+        this.searchIndex = searchIndex;
+        this.questionCounters = questionCounters;
+        this.tagFacets = tagFacets;
+        this.enabled = enabled;
+        this.maxAgeDays = maxAgeDays;
+        this.idleDays = idleDays;
+        this.batchSize = batchSize;
+        this.questionCollection = mongoTemplate.getCollectionName(Question.class);
+        this.answerCollection = mongoTemplate.getCollectionName(Answer.class);
+        this.archivedCounter = Counter.builder("forum.archive.moves")
+            .tag("direction", "archived")
+            .register(meterRegistry);
+        this.promotedCounter = Counter.builder("forum.archive.moves")
+            .tag("direction", "promoted")
+            .register(meterRegistry);
+        
+        Gauge.builder("forum.archive.size", hotBytes, AtomicLong::get)
+            .description("Uncompressed size of the hot questions and answers, as of the last archive pass")
+            .tag("tier", "hot")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("forum.archive.size", coldStorageBytes, AtomicLong::get)
+            .description("On-disk size of the cold tier, as of the last archive pass")
+            .tag("tier", "cold")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+    
+    @Scheduled(initialDelayString = "${forum.archive.interval-ms:3600000}",
+        fixedDelayString = "${forum.archive.interval-ms:3600000}")
+    public void archiveIfDue() {
+        // Before the startup rebuild has read the cold tier, an archived question would drop out of search
+        if (enabled && searchIndex.isReady()) {
+            archiveStale();
+        }
+    }
+    
+    /**
+     * Move every stale question to the cold tier, {@code batch-size} at a time; returns how many were moved
+     */
+    public int archiveStale() {
+        long start = System.currentTimeMillis();
+        TierSizes before = tierSizes();
+        
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime idleSince = now.minusDays(idleDays);
+        Query query = new Query(Criteria.where("createdAt").lt(now.minusDays(maxAgeDays))
+            .and("updatedAt").lt(idleSince)
+            .and("promotedAt").not().gte(idleSince))
+            .limit(batchSize);
+        
+        int archived = 0;
+        List<Document> batch;
+        do {
+            // Archived or changed questions no longer match, so each round reads the next ones
+            batch = mongoTemplate.find(query, Document.class, questionCollection);
+            for (Document question : batch) {
+                if (archive(question)) {
+                    archived++;
+                }
+            }
+        } while (batch.size() == batchSize);
+        
+        TierSizes after = tierSizes();
+        logger.info("✅ [FORUM - JAVA] Archived {} questions in {} ms; hot questions and answers {} MB -> {} MB, "
+                + "cold tier {} MB on disk ({} MB uncompressed)",
+            archived, System.currentTimeMillis() - start, megabytes(before.getHotBytes()),
+            megabytes(after.getHotBytes()), megabytes(after.getColdStorageBytes()), megabytes(after.getColdBytes()));
+        return archived;
+    }
+    
+    /**
+     * Bring an archived question and its answers back to the hot collections.
+     * Does nothing if it is not archived, including when another request or
+     * instance promoted it first; callers read the questions collection again after this.
+     */
+    public void promote(String id) {
+        Document entry = coldStore.find(id);
+        for (int attempt = 0; entry != null && ColdQuestionStore.isArchiving(entry, ARCHIVE_ABANDONED_MS)
+            && attempt < PROMOTE_WAIT_ATTEMPTS; attempt++) {
+            sleep(PROMOTE_WAIT_MS);
+            entry = coldStore.find(id);
+        }
+        if (entry == null) {
+            return;
+        }
+        if (ColdQuestionStore.isArchiving(entry, ARCHIVE_ABANDONED_MS)) {
+            throw new RuntimeException("The question is being archived, please try again");
+        }
+        
+        Document question = entry.get("question", Document.class);
+        question.put("promotedAt", new Date());
+        List<Document> answers = entry.getList("answers", Document.class, new ArrayList<>());
+        boolean inserted = true;
+        try {
+            collection(questionCollection).insertOne(question);
+        } catch (MongoWriteException e) {
+            if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                throw e;
+            }
+            inserted = false;
+        }
+        if (!answers.isEmpty()) {
+            try {
+                collection(answerCollection).insertMany(answers, new InsertManyOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                boolean onlyDuplicates = e.getWriteErrors().stream()
+                    .allMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY);
+                if (!onlyDuplicates) {
+                    throw e;
+                }
+            }
+        }
+        coldStore.remove(id);
+        
+        if (inserted) {
+            Question promoted = mongoTemplate.getConverter().read(Question.class, question);
+            questionCounters.questionCreated(promoted.getCategory(), authorId(question));
+            tagFacets.questionCreated(promoted.getTags());
+            localState.questionReindexed(promoted, answers.stream()
+                .map(answer -> mongoTemplate.getConverter().read(Answer.class, answer))
+                .collect(Collectors.toList()));
+            promotedCounter.increment();
+        }
+    }
+    
+    /**
+     * Current sizes of both tiers, from collStats
+     */
+    public TierSizes tierSizes() {
+        Document questionStats = collStats(questionCollection);
+        Document answerStats = collStats(answerCollection);
+        Document coldStats = collStats(coldStore.collectionName());
+        TierSizes sizes = new TierSizes(
+            size(questionStats, "size") + size(answerStats, "size"),
+            size(coldStats, "size"),
+            size(coldStats, "storageSize"));
+        hotBytes.set(sizes.getHotBytes());
+        coldStorageBytes.set(sizes.getColdStorageBytes());
+        return sizes;
+    }
+    
+    private boolean archive(Document question) {
+        Object id = question.get("_id");
+        String questionId = id.toString();
+        List<Document> answers = collection(answerCollection)
+            .find(Filters.eq("questionId", questionId))
+            .into(new ArrayList<>());
+        coldStore.put(question, answers);
+        
+        // A question answered, voted on or edited since it was read no longer matches and stays hot
+        long deleted = collection(questionCollection)
+            .deleteOne(Filters.and(Filters.eq("_id", id), Filters.eq("updatedAt", question.get("updatedAt"))))
+            .getDeletedCount();
+        if (deleted == 0) {
+            coldStore.remove(questionId);
+            return false;
+        }
+        // Only the answers copied above; one added after they were read stays hot and is kept on promotion
+        if (!answers.isEmpty()) {
+            collection(answerCollection).deleteMany(Filters.in("_id", answers.stream()
+                .map(answer -> answer.get("_id"))
+                .collect(Collectors.toList())));
+        }
+        coldStore.archived(questionId);
+        
+        questionCounters.questionDeleted(question.getString("category"), authorId(question));
+        tagFacets.questionDeleted(question.getList("tags", String.class));
+        localState.questionArchived(questionId);
+        archivedCounter.increment();
+        return true;
+    }
+    
+    private Document collStats(String collection) {
+        try {
+            return mongoTemplate.getDb().runCommand(new Document("collStats", collection));
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != NAMESPACE_NOT_FOUND) {
+                throw e;
+            }
+            return new Document();
+        }
+    }
+    
+    private MongoCollection<Document> collection(String name) {
+        return mongoTemplate.getCollection(name);
+    }
+    
+    private static long size(Document stats, String field) {
+        Object value = stats.get(field);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+    
+    private static String authorId(Document question) {
+        Object ref = question.get("author");
+        return ref instanceof DBRef ? ((DBRef) ref).getId().toString() : null;
+    }
+    
+    private static String megabytes(long bytes) {
+        return String.format("%.1f", bytes / MB);
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.mentorlink.config;
+
+import com.mentorlink.metrics.SlowQueryListener;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Percentile histograms for the request, repository, Mongo command and forum
+ * meters, so p99 can be aggregated across instances in Prometheus, and the
+ * slow-query listener on the Mongo client.
+ */
+@Configuration
+public class MetricsConfig {
+    
+    private static final List<String> HISTOGRAM_PREFIXES = List.of(
+        "http.server.requests",
+        "spring.data.repository.invocations",
+        "mongodb.driver.commands",
+        "forum."
+    );
+    
+    @Bean
+    public MeterFilter forumHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                for (String prefix : HISTOGRAM_PREFIXES) {
+                    if (id.getName().startsWith(prefix)) {
+                        return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                    }
+                }
+                return config;
+            }
+        };
+    }
+    
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryCapture(SlowQueryListener slowQueryListener) {
+        return settings -> settings.addCommandListener(slowQueryListener);
+    }
+}
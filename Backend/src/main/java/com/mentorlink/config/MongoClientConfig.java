@@ -0,0 +1,43 @@
+package com.mentorlink.config;
+
+import com.mongodb.connection.netty.NettyStreamFactoryFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * One Netty event loop group shared by the blocking and reactive Mongo clients.
+ * Spring Boot's reactive auto-configuration creates a group every time its
+ * settings customizer runs, and it runs for both clients, so the first group
+ * was never shut down and its non-daemon threads kept the JVM alive after the
+ * context closed. Replacing the stream factory before either client connects
+ * means those groups never start a thread.
+ *
+ * The group is not a bean: an event loop group is a ScheduledExecutorService,
+ * and @EnableScheduling runs every @Scheduled method on the only such bean. A
+ * blocking Mongo call from a scheduled job then waited on the event loop it was
+ * running on, for a reply only that loop could read.
+ */
+@Configuration
+public class MongoClientConfig implements DisposableBean {
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup();
+    
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public MongoClientSettingsBuilderCustomizer sharedMongoEventLoop() {
+        return settings -> settings.streamFactoryFactory(NettyStreamFactoryFactory.builder()
+            .eventLoopGroup(eventLoopGroup)
+            .build());
+    }
+    
+    @Override
+    public void destroy() {
+        eventLoopGroup.shutdownGracefully();
+    }
+}
@@ -0,0 +1,49 @@
+package com.mentorlink.config;
+
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.AnswerVote;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.QuestionVote;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+import java.util.List;
+
+/**
+ * Creates the indexes declared on forum entities at startup. Spring Data no
+ * longer does this automatically, and several forum features depend on them.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+    
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(
+        Question.class,
+        Answer.class,
+        QuestionVote.class,
+        AnswerVote.class
+    );
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver =
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            resolver.resolveIndexFor(entity).forEach(indexOps::ensureIndex);
+            logger.info("✅ [FORUM - JAVA] Indexes ensured for {}", entity.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.mentorlink.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyRouteProvider;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.stream.Collectors;
+
+/**
+ * Serves the "reactive" profile on Reactor Netty. With the servlet starter also on
+ * the classpath, Spring Boot prefers Tomcat for a reactive application too, which
+ * runs WebFlux through the Servlet API adapter on Tomcat's request threads.
+ * The server.* settings are still applied by Spring Boot's customizers.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+    
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+        ObjectProvider<NettyRouteProvider> routes,
+        ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        routes.orderedStream().forEach(factory::addRouteProviders);
+        factory.getServerCustomizers().addAll(serverCustomizers.orderedStream().collect(Collectors.toList()));
+        return factory;
+    }
+}
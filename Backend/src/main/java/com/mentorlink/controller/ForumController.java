@@ -1,55 +1,110 @@
 package com.mentorlink.controller;
 
 import com.mentorlink.dto.AddAnswerRequest;
+import com.mentorlink.dto.BulkIngestResult;
 import com.mentorlink.dto.CreateQuestionRequest;
+import com.mentorlink.dto.CursorPage;
+import com.mentorlink.dto.ForumFacets;
+import com.mentorlink.dto.ForumStats;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.dto.TitleSuggestion;
 import com.mentorlink.dto.UpdateQuestionRequest;
+import com.mentorlink.entity.Answer;
 import com.mentorlink.entity.Question;
+import com.mentorlink.events.ForumEventPublisher;
+import com.mentorlink.service.DuplicateQuestionException;
+import com.mentorlink.service.QuestionExportService;
+import com.mentorlink.service.QuestionFeedService;
+import com.mentorlink.service.QuestionIngestService;
 import com.mentorlink.service.QuestionService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/forum")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class ForumController {
     
     private static final Logger logger = LoggerFactory.getLogger(ForumController.class);
+    
+    // Tags listed in the facets attached to list and search responses
+    private static final int FACET_LIMIT = 20;
+    
     private final QuestionService questionService;
+    private final QuestionFeedService questionFeedService;
+    private final QuestionExportService questionExportService;
+    private final QuestionIngestService questionIngestService;
+    private final ForumEventPublisher eventPublisher;
     
     /**
-     * Get all questions with pagination
+     * Get all questions with pagination.
+     * Passing {@code after} (empty for the first page) switches to cursor paging,
+     * {@code view=summary} returns {@link QuestionSummary} rows instead of full questions,
+     * and {@code tags} (comma-separated, {@code tagMatch=any|all}) filters by tag.
      */
     @GetMapping("/questions")
     public ResponseEntity<?> getAllQuestions(
         @RequestParam(defaultValue = "1") int page,
         @RequestParam(defaultValue = "50") int limit,
-        @RequestParam(defaultValue = "-createdAt") String sort) {
+        @RequestParam(defaultValue = "-createdAt") String sort,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "full") String view,
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "any") String tagMatch) {
         
         try {
             logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions - Fetching all questions");
-            Page<Question> questions = questionService.getAllQuestions(page, limit, sort);
+            boolean summaryOnly = isSummaryView(view);
+            TagFilter tagFilter = TagFilter.parse(tags, tagMatch);
+            if (after != null) {
+                Map<String, Object> response = cursorResponse("Questions retrieved successfully",
+                    questionService.getAllQuestionsAfter(after, limit, sort, tagFilter, summaryOnly), limit, summaryOnly);
+                response.put("facets", questionService.getFacets(tagFilter, FACET_LIMIT));
+                return ResponseEntity.ok(response);
+            }
+            Page<Question> questions = questionService.getAllQuestions(page, limit, sort, tagFilter, summaryOnly);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Questions retrieved successfully");
-            response.put("questions", questions.getContent());
+            response.put("questions", listPayload(questions.getContent(), summaryOnly));
             response.put("total", questions.getTotalElements());
             response.put("page", page);
             response.put("limit", limit);
+            response.put("facets", questionService.getFacets(tagFilter, FACET_LIMIT));
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("success", false, "message", e.getMessage()));
@@ -57,20 +112,75 @@ public class ForumController {
     }
     
     /**
-     * Get single question by ID
+     * Get question totals, overall and per category
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats() {
+        try {
+            logger.info("🔵 [FORUM - JAVA] GET /api/forum/stats - Fetching forum stats");
+            ForumStats stats = questionService.getStats();
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Stats retrieved successfully");
+            response.put("stats", stats);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Get the trending feed (time-decayed), optionally for one category. Served from memory.
+     */
+    @GetMapping("/questions/trending")
+    public ResponseEntity<?> getTrendingQuestions(
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "20") int limit) {
+        
+        return feedResponse(QuestionFeedService.TRENDING, category, limit);
+    }
+    
+    /**
+     * Get the all-time top feed by votes, optionally for one category. Served from memory.
+     */
+    @GetMapping("/questions/top")
+    public ResponseEntity<?> getTopQuestions(
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "20") int limit) {
+        
+        return feedResponse(QuestionFeedService.TOP, category, limit);
+    }
+    
+    /**
+     * Get single question by ID.
+     * Conditional: answers If-None-Match / If-Modified-Since with 304, see {@link QuestionETag}.
      */
     @GetMapping("/questions/{id}")
-    public ResponseEntity<?> getQuestion(@PathVariable String id) {
+    public ResponseEntity<?> getQuestion(@PathVariable String id, WebRequest webRequest) {
         try {
             logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/{} - Fetching question", id);
             Question question = questionService.getQuestionById(id);
+            List<RelatedQuestion> related = questionService.getRelatedQuestions(id);
+            
+            long lastModified = QuestionETag.lastModified(question);
+            String etag = QuestionETag.of(question, related);
+            if (webRequest.checkNotModified(etag, lastModified)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Question retrieved successfully");
             response.put("question", question);
+            response.put("relatedQuestions", related);
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .body(response);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(Map.of("success", false, "message", e.getMessage()));
@@ -97,6 +207,9 @@ public class ForumController {
             response.put("question", question);
             
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (DuplicateQuestionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("success", false, "message", e.getMessage(), "duplicates", e.getDuplicates()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("success", false, "message", e.getMessage()));
@@ -168,12 +281,12 @@ public class ForumController {
         try {
             logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/answer - Adding answer", id);
             String userId = authentication.getName();
-            Question question = questionService.addAnswer(id, request, userId);
+            Answer answer = questionService.addAnswer(id, request, userId);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Answer added successfully");
-            response.put("question", question);
+            response.put("answer", answer);
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -182,6 +295,39 @@ public class ForumController {
         }
     }
     
+    /**
+     * Get a question's answers with cursor paging, sorted by "time" (oldest first) or "votes"
+     * (accepted answer first, then highest voted)
+     */
+    @GetMapping("/questions/{id}/answers")
+    public ResponseEntity<?> getAnswers(
+        @PathVariable String id,
+        @RequestParam(defaultValue = "time") String sort,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int limit) {
+        
+        try {
+            logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/{}/answers - Fetching answers", id);
+            CursorPage<Answer> answers = questionService.getAnswers(id, sort, after, limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Answers retrieved successfully");
+            response.put("answers", answers.getItems());
+            response.put("nextCursor", answers.getNextCursor());
+            response.put("hasNext", answers.isHasNext());
+            response.put("limit", limit);
+            
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
     /**
      * Upvote a question (Authenticated)
      */
@@ -194,12 +340,68 @@ public class ForumController {
         try {
             logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/upvote - Upvoting question", id);
             String userId = authentication.getName();
-            Question question = questionService.upvoteQuestion(id, userId);
+            int upvotes = questionService.upvoteQuestion(id, userId);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Question upvoted successfully");
-            response.put("upvotes", question.getUpvotes());
+            response.put("upvotes", upvotes);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Upvote an answer (Authenticated)
+     */
+    @PostMapping("/questions/{id}/answers/{answerId}/upvote")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> upvoteAnswer(
+        @PathVariable String id,
+        @PathVariable String answerId,
+        Authentication authentication) {
+        
+        try {
+            logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/answers/{}/upvote - Upvoting answer",
+                id, answerId);
+            String userId = authentication.getName();
+            int upvotes = questionService.upvoteAnswer(id, answerId, userId);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Answer upvoted successfully");
+            response.put("upvotes", upvotes);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Accept an answer as the best one (Authenticated - Question author only)
+     */
+    @PostMapping("/questions/{id}/answers/{answerId}/accept")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> acceptAnswer(
+        @PathVariable String id,
+        @PathVariable String answerId,
+        Authentication authentication) {
+        
+        try {
+            logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/answers/{}/accept - Accepting answer",
+                id, answerId);
+            String userId = authentication.getName();
+            Answer answer = questionService.acceptAnswer(id, answerId, userId);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Answer accepted successfully");
+            response.put("answer", answer);
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -215,21 +417,38 @@ public class ForumController {
     public ResponseEntity<?> getQuestionsByCategory(
         @PathVariable String category,
         @RequestParam(defaultValue = "1") int page,
-        @RequestParam(defaultValue = "10") int limit) {
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "full") String view,
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "any") String tagMatch) {
         
         try {
             logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/category/{} - Fetching questions by category", category);
-            Page<Question> questions = questionService.getQuestionsByCategory(category, page, limit);
+            boolean summaryOnly = isSummaryView(view);
+            TagFilter tagFilter = TagFilter.parse(tags, tagMatch);
+            if (after != null) {
+                Map<String, Object> response = cursorResponse("Questions retrieved successfully",
+                    questionService.getQuestionsByCategoryAfter(category, after, limit, tagFilter, summaryOnly),
+                    limit, summaryOnly);
+                response.put("facets", questionService.getFacets(tagFilter, FACET_LIMIT));
+                return ResponseEntity.ok(response);
+            }
+            Page<Question> questions = questionService.getQuestionsByCategory(category, page, limit, tagFilter, summaryOnly);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Questions retrieved successfully");
-            response.put("questions", questions.getContent());
+            response.put("questions", listPayload(questions.getContent(), summaryOnly));
             response.put("total", questions.getTotalElements());
             response.put("page", page);
             response.put("limit", limit);
+            response.put("facets", questionService.getFacets(tagFilter, FACET_LIMIT));
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("success", false, "message", e.getMessage()));
@@ -244,21 +463,31 @@ public class ForumController {
     public ResponseEntity<?> getQuestionsByMentor(
         @PathVariable String mentorId,
         @RequestParam(defaultValue = "1") int page,
-        @RequestParam(defaultValue = "10") int limit) {
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "full") String view) {
         
         try {
             logger.info("🔵 [FORUM - JAVA] GET /api/forum/mentor/{}/questions - Fetching mentor's questions", mentorId);
-            Page<Question> questions = questionService.getQuestionsByMentor(mentorId, page, limit);
+            boolean summaryOnly = isSummaryView(view);
+            if (after != null) {
+                return ResponseEntity.ok(cursorResponse("Questions retrieved successfully",
+                    questionService.getQuestionsByMentorAfter(mentorId, after, limit, summaryOnly), limit, summaryOnly));
+            }
+            Page<Question> questions = questionService.getQuestionsByMentor(mentorId, page, limit, summaryOnly);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Questions retrieved successfully");
-            response.put("questions", questions.getContent());
+            response.put("questions", listPayload(questions.getContent(), summaryOnly));
             response.put("total", questions.getTotalElements());
             response.put("page", page);
             response.put("limit", limit);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("success", false, "message", e.getMessage()));
@@ -273,11 +502,14 @@ public class ForumController {
         @RequestParam String q,
         @RequestParam(required = false) String category,
         @RequestParam(defaultValue = "1") int page,
-        @RequestParam(defaultValue = "10") int limit) {
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "any") String tagMatch) {
         
         try {
             logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/search - Searching questions with query: {}", q);
-            Page<Question> questions = questionService.searchQuestions(q, category, page, limit);
+            TagFilter tagFilter = TagFilter.parse(tags, tagMatch);
+            Page<Question> questions = questionService.searchQuestions(q, category, tagFilter, page, limit);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -286,6 +518,226 @@ public class ForumController {
             response.put("total", questions.getTotalElements());
             response.put("page", page);
             response.put("limit", limit);
+            response.put("facets", questionService.getFacets(tagFilter, FACET_LIMIT));
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Typeahead suggestions for the search box: popular questions whose title or
+     * tags match {@code q}, the last word of which may be partial
+     */
+    @GetMapping("/questions/autocomplete")
+    public ResponseEntity<?> autocomplete(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "8") int limit) {
+        
+        try {
+            List<TitleSuggestion> suggestions = questionService.suggestTitles(q, limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Suggestions retrieved successfully");
+            response.put("suggestions", suggestions);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Get tag and category facet counts; with {@code tags}, also the tags used alongside them
+     */
+    @GetMapping("/tags")
+    public ResponseEntity<?> getTagFacets(
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "50") int limit) {
+        
+        try {
+            logger.info("🔵 [FORUM - JAVA] GET /api/forum/tags - Fetching tag facets");
+            ForumFacets facets = questionService.getFacets(TagFilter.parse(tags, null), limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Tags retrieved successfully");
+            response.put("facets", facets);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Get the tags most often used together with one tag
+     */
+    @GetMapping("/tags/{tag}/related")
+    public ResponseEntity<?> getRelatedTags(
+        @PathVariable String tag,
+        @RequestParam(defaultValue = "10") int limit) {
+        
+        try {
+            logger.info("🔵 [FORUM - JAVA] GET /api/forum/tags/{}/related - Fetching related tags", tag);
+            Map<String, Long> related = questionService.getRelatedTags(tag, limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Related tags retrieved successfully");
+            response.put("tags", related);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Live forum events (question-created, answer-added, vote-changed) as server-sent
+     * events, optionally for one category. Browsers resume with Last-Event-ID.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+        @RequestParam(required = false) String category,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        
+        try {
+            return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(eventPublisher.subscribe(lastEventId, category));
+        } catch (IllegalStateException e) {
+            logger.error("❌ [FORUM - JAVA] Event stream refused: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+        }
+    }
+    
+    /**
+     * Export questions with their answers, archived ones included, as NDJSON (Admin only),
+     * optionally gzip-compressed and filtered by category and createdAt range. Streamed from Mongo cursors.
+     */
+    @GetMapping("/admin/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportQuestions(
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "false") boolean gzip,
+        HttpServletResponse response) {
+        
+        try {
+            logger.info("🔵 [FORUM - JAVA] GET /api/forum/admin/export - Exporting questions");
+            // Checked before anything is written, while an error status can still be sent
+            QuestionExportService.checkRange(from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+        
+        try {
+            String filename = "questions-" + System.currentTimeMillis() + (gzip ? ".ndjson.gz" : ".ndjson");
+            response.setContentType(gzip ? "application/gzip" : "application/x-ndjson");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+            
+            OutputStream out = response.getOutputStream();
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                questionExportService.exportQuestions(category, from, to, compressed);
+                // Only a complete export gets the gzip trailer, so a failed one cannot pass for a whole file
+                compressed.finish();
+            } else {
+                questionExportService.exportQuestions(category, from, to, out);
+            }
+            out.flush();
+            
+            // The body has been written directly
+            return null;
+        } catch (Exception e) {
+            logger.error("❌ [FORUM - JAVA] Question export failed", e);
+            if (response.isCommitted()) {
+                // Too late for an error status. Failing the request makes the container abort the
+                // connection instead of ending the body cleanly, so the client sees an incomplete download
+                throw new IllegalStateException("Question export failed after the response was committed", e);
+            }
+            response.reset();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Import questions with their answers from a JSON array (Admin only).
+     * The body is streamed and written in chunks; the response counts every outcome and lists the items not fully imported.
+     */
+    @PostMapping(value = "/admin/import", consumes = "application/json")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importQuestions(
+        @RequestParam(required = false) Integer chunkSize,
+        HttpServletRequest request) {
+        
+        try {
+            logger.info("🔵 [FORUM - JAVA] POST /api/forum/admin/import - Importing questions");
+            BulkIngestResult result = questionIngestService.ingest(request.getInputStream(), chunkSize);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", result.getFailed() == 0);
+            response.put("message", "Imported " + result.getCreated() + " of " + result.getReceived() + " questions");
+            response.put("result", result);
+            
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Response envelope for cursor-paged lists (no total; use nextCursor to continue)
+     */
+    private Map<String, Object> cursorResponse(String message, CursorPage<Question> questions, int limit,
+                                               boolean summaryOnly) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("questions", listPayload(questions.getItems(), summaryOnly));
+        response.put("nextCursor", questions.getNextCursor());
+        response.put("hasNext", questions.isHasNext());
+        response.put("limit", limit);
+        return response;
+    }
+    
+    private boolean isSummaryView(String view) {
+        return "summary".equalsIgnoreCase(view);
+    }
+    
+    private List<?> listPayload(List<Question> questions, boolean summaryOnly) {
+        if (!summaryOnly) {
+            return questions;
+        }
+        return questions.stream().map(QuestionSummary::from).collect(Collectors.toList());
+    }
+    
+    private ResponseEntity<?> feedResponse(String feed, String category, int limit) {
+        try {
+            logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/{} - Fetching feed", feed);
+            List<QuestionSummary> questions = questionFeedService.getFeed(feed, category, limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Questions retrieved successfully");
+            response.put("questions", questions);
+            response.put("limit", limit);
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -0,0 +1,40 @@
+package com.mentorlink.controller;
+
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validators for the question detail response, shared by both controllers.
+ * Related questions are computed and bulk-imported answers leave the question's
+ * updatedAt alone, so the attached answers' votes and the related list are hashed in too.
+ */
+final class QuestionETag {
+    
+    private QuestionETag() {
+    }
+    
+    /**
+     * The question's updatedAt in epoch millis, or -1 when it has none
+     */
+    static long lastModified(Question question) {
+        return question.getUpdatedAt() != null
+            ? question.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : -1;
+    }
+    
+    static String of(Question question, List<RelatedQuestion> related) {
+        int answers = 1;
+        for (Answer answer : question.getAnswers()) {
+            // Not Answer.hashCode(), which would load the lazy author reference
+            answers = 31 * answers + Objects.hash(answer.getId(), answer.getUpvotes(), answer.isAccepted());
+        }
+        return "\"" + question.getId() + "-" + lastModified(question)
+            + "-" + Integer.toHexString(answers)
+            + "-" + Integer.toHexString(related.hashCode()) + "\"";
+    }
+}
@@ -0,0 +1,703 @@
+package com.mentorlink.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorlink.dto.AddAnswerRequest;
+import com.mentorlink.dto.CreateQuestionRequest;
+import com.mentorlink.dto.CursorPage;
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.dto.UpdateQuestionRequest;
+import com.mentorlink.entity.Question;
+import com.mentorlink.events.ForumEventPublisher;
+import com.mentorlink.service.DuplicateQuestionException;
+import com.mentorlink.service.QuestionExportService;
+import com.mentorlink.service.QuestionFeedService;
+import com.mentorlink.service.QuestionIngestService;
+import com.mentorlink.service.ReactiveQuestionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.validation.Valid;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The /api/forum contract of {@link ForumController} on WebFlux, active with the "reactive" profile.
+ * Responses are the same envelopes; list endpoints can also stream NDJSON.
+ * The admin export and import run the blocking services on the bounded elastic scheduler.
+ */
+@RestController
+@RequestMapping("/api/forum")
+@Profile("reactive")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReactiveForumController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveForumController.class);
+    
+    // Tags listed in the facets attached to list and search responses
+    private static final int FACET_LIMIT = 20;
+    
+    // Pipe and read buffer size for export and import bodies
+    private static final int PIPE_BUFFER_BYTES = 64 * 1024;
+    
+    /**
+     * Blocking producer of a response body
+     */
+    private interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+    
+    private final ReactiveQuestionService questionService;
+    private final QuestionFeedService questionFeedService;
+    private final QuestionExportService questionExportService;
+    private final QuestionIngestService questionIngestService;
+    private final ForumEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Get all questions with pagination.
+     * Passing {@code after} (empty for the first page) switches to cursor paging,
+     * {@code view=summary} returns {@link QuestionSummary} rows instead of full questions,
+     * and {@code tags} (comma-separated, {@code tagMatch=any|all}) filters by tag.
+     */
+    @GetMapping("/questions")
+    public Mono<ResponseEntity<Map<String, Object>>> getAllQuestions(
+        @RequestParam(defaultValue = "1") int page,
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(defaultValue = "-createdAt") String sort,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "full") String view,
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "any") String tagMatch) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions - Fetching all questions");
+        boolean summaryOnly = isSummaryView(view);
+        return Mono.defer(() -> {
+            TagFilter tagFilter = TagFilter.parse(tags, tagMatch);
+            if (after != null) {
+                return withFacets(questionService.getAllQuestionsAfter(after, limit, sort, tagFilter, summaryOnly)
+                    .map(questions -> cursorResponse("Questions retrieved successfully", questions, limit, summaryOnly)), tagFilter);
+            }
+            return withFacets(questionService.getAllQuestions(page, limit, sort, tagFilter, summaryOnly)
+                .map(questions -> pageResponse("Questions retrieved successfully", questions, page, limit, summaryOnly)), tagFilter);
+        })
+            .map(ResponseEntity::ok)
+            .onErrorResume(IllegalArgumentException.class, e -> failure(HttpStatus.BAD_REQUEST, e))
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Stream every question (optionally one category) as newline-delimited JSON, one question per line (Authenticated).
+     * Only sorts an index can serve ({@link QuestionCursor#SORT_FIELDS}) are accepted, so the whole collection is never sorted in memory.
+     */
+    @GetMapping(value = "/questions/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Flux<?>>> streamQuestions(
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "-createdAt") String sort,
+        @RequestParam(defaultValue = "full") String view) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/stream - Streaming questions");
+        if (!QuestionCursor.SORT_FIELDS.contains(sort.replace("-", ""))) {
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Flux.just(Map.of("success", false,
+                "message", "sort must be one of " + String.join(", ", QuestionCursor.SORT_FIELDS)))));
+        }
+        Flux<Question> questions = questionService.streamQuestions(category, sort, isSummaryView(view));
+        return Mono.just(ResponseEntity.ok(isSummaryView(view) ? questions.map(QuestionSummary::from) : questions));
+    }
+    
+    /**
+     * Get question totals, overall and per category
+     */
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<Map<String, Object>>> getStats() {
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/stats - Fetching forum stats");
+        return questionService.getStats()
+            .map(stats -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Stats retrieved successfully");
+                response.put("stats", stats);
+                return ResponseEntity.ok(response);
+            })
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Get the trending feed (time-decayed), optionally for one category. Served from memory.
+     */
+    @GetMapping("/questions/trending")
+    public Mono<ResponseEntity<Map<String, Object>>> getTrendingQuestions(
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "20") int limit) {
+        
+        return feedResponse(QuestionFeedService.TRENDING, category, limit);
+    }
+    
+    /**
+     * Get the all-time top feed by votes, optionally for one category. Served from memory.
+     */
+    @GetMapping("/questions/top")
+    public Mono<ResponseEntity<Map<String, Object>>> getTopQuestions(
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "20") int limit) {
+        
+        return feedResponse(QuestionFeedService.TOP, category, limit);
+    }
+    
+    /**
+     * Get single question by ID.
+     * Conditional: answers If-None-Match / If-Modified-Since with 304, see {@link QuestionETag}.
+     */
+    @GetMapping("/questions/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> getQuestion(@PathVariable String id, ServerWebExchange exchange) {
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/{} - Fetching question", id);
+        return questionService.getQuestionById(id)
+            .zipWith(questionService.getRelatedQuestions(id))
+            .map(questionAndRelated -> {
+                Question question = questionAndRelated.getT1();
+                List<RelatedQuestion> related = questionAndRelated.getT2();
+                Instant lastModified = Instant.ofEpochMilli(QuestionETag.lastModified(question));
+                String etag = QuestionETag.of(question, related);
+                if (exchange.checkNotModified(etag, lastModified)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Map<String, Object>>build();
+                }
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Question retrieved successfully");
+                response.put("question", question);
+                response.put("relatedQuestions", related);
+                
+                return ResponseEntity.ok()
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .body(response);
+            })
+            .onErrorResume(e -> failure(HttpStatus.NOT_FOUND, e));
+    }
+    
+    /**
+     * Create a new question (Authenticated)
+     */
+    @PostMapping("/questions")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> createQuestion(
+        @Valid @RequestBody CreateQuestionRequest request,
+        Authentication authentication) {
+        
+        logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions - Creating new question");
+        return questionService.createQuestion(request, authentication.getName())
+            .map(question -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(success("Question created successfully", "question", question)))
+            .onErrorResume(DuplicateQuestionException.class, e -> Mono.just(
+                ResponseEntity.status(HttpStatus.CONFLICT).body(Map.<String, Object>of(
+                    "success", false, "message", e.getMessage(), "duplicates", e.getDuplicates()))))
+            .onErrorResume(e -> failure(HttpStatus.BAD_REQUEST, e));
+    }
+    
+    /**
+     * Update a question (Authenticated - Author only)
+     */
+    @PutMapping("/questions/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> updateQuestion(
+        @PathVariable String id,
+        @Valid @RequestBody UpdateQuestionRequest request,
+        Authentication authentication) {
+        
+        logger.info("🔵 [FORUM - JAVA] PUT /api/forum/questions/{} - Updating question", id);
+        return questionService.updateQuestion(id, request, authentication.getName())
+            .map(question -> ResponseEntity.ok(success("Question updated successfully", "question", question)))
+            .onErrorResume(e -> failure(HttpStatus.BAD_REQUEST, e));
+    }
+    
+    /**
+     * Delete a question (Authenticated - Author only)
+     */
+    @DeleteMapping("/questions/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> deleteQuestion(
+        @PathVariable String id,
+        Authentication authentication) {
+        
+        logger.info("🔵 [FORUM - JAVA] DELETE /api/forum/questions/{} - Deleting question", id);
+        return questionService.deleteQuestion(id, authentication.getName())
+            .then(Mono.fromCallable(() -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Question deleted successfully");
+                return ResponseEntity.ok(response);
+            }))
+            .onErrorResume(e -> failure(HttpStatus.BAD_REQUEST, e));
+    }
+    
+    /**
+     * Add an answer to a question (Authenticated)
+     */
+    @PostMapping("/questions/{id}/answer")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> addAnswer(
+        @PathVariable String id,
+        @Valid @RequestBody AddAnswerRequest request,
+        Authentication authentication) {
+        
+        logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/answer - Adding answer", id);
+        return questionService.addAnswer(id, request, authentication.getName())
+            .map(answer -> ResponseEntity.ok(success("Answer added successfully", "answer", answer)))
+            .onErrorResume(e -> failure(HttpStatus.BAD_REQUEST, e));
+    }
+    
+    /**
+     * Get a question's answers with cursor paging, sorted by "time" (oldest first) or "votes"
+     * (accepted answer first, then highest voted)
+     */
+    @GetMapping("/questions/{id}/answers")
+    public Mono<ResponseEntity<Map<String, Object>>> getAnswers(
+        @PathVariable String id,
+        @RequestParam(defaultValue = "time") String sort,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int limit) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/{}/answers - Fetching answers", id);
+        return questionService.getAnswers(id, sort, after, limit)
+            .map(answers -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Answers retrieved successfully");
+                response.put("answers", answers.getItems());
+                response.put("nextCursor", answers.getNextCursor());
+                response.put("hasNext", answers.isHasNext());
+                response.put("limit", limit);
+                return ResponseEntity.ok(response);
+            })
+            .onErrorResume(IllegalArgumentException.class, e -> failure(HttpStatus.BAD_REQUEST, e))
+            .onErrorResume(e -> failure(HttpStatus.NOT_FOUND, e));
+    }
+    
+    /**
+     * Upvote a question (Authenticated)
+     */
+    @PostMapping("/questions/{id}/upvote")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> upvoteQuestion(
+        @PathVariable String id,
+        Authentication authentication) {
+        
+        logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/upvote - Upvoting question", id);
+        return questionService.upvoteQuestion(id, authentication.getName())
+            .map(upvotes -> ResponseEntity.ok(success("Question upvoted successfully", "upvotes", upvotes)))
+            .onErrorResume(e -> failure(HttpStatus.BAD_REQUEST, e));
+    }
+    
+    /**
+     * Upvote an answer (Authenticated)
+     */
+    @PostMapping("/questions/{id}/answers/{answerId}/upvote")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> upvoteAnswer(
+        @PathVariable String id,
+        @PathVariable String answerId,
+        Authentication authentication) {
+        
+        logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/answers/{}/upvote - Upvoting answer", id, answerId);
+        return questionService.upvoteAnswer(id, answerId, authentication.getName())
+            .map(upvotes -> ResponseEntity.ok(success("Answer upvoted successfully", "upvotes", upvotes)))
+            .onErrorResume(e -> failure(HttpStatus.BAD_REQUEST, e));
+    }
+    
+    /**
+     * Accept an answer as the best one (Authenticated - Question author only)
+     */
+    @PostMapping("/questions/{id}/answers/{answerId}/accept")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> acceptAnswer(
+        @PathVariable String id,
+        @PathVariable String answerId,
+        Authentication authentication) {
+        
+        logger.info("🔵 [FORUM - JAVA] POST /api/forum/questions/{}/answers/{}/accept - Accepting answer", id, answerId);
+        return questionService.acceptAnswer(id, answerId, authentication.getName())
+            .map(answer -> ResponseEntity.ok(success("Answer accepted successfully", "answer", answer)))
+            .onErrorResume(e -> failure(HttpStatus.BAD_REQUEST, e));
+    }
+    
+    /**
+     * Get questions by category
+     */
+    @GetMapping("/questions/category/{category}")
+    public Mono<ResponseEntity<Map<String, Object>>> getQuestionsByCategory(
+        @PathVariable String category,
+        @RequestParam(defaultValue = "1") int page,
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "full") String view,
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "any") String tagMatch) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/category/{} - Fetching questions by category", category);
+        boolean summaryOnly = isSummaryView(view);
+        return Mono.defer(() -> {
+            TagFilter tagFilter = TagFilter.parse(tags, tagMatch);
+            if (after != null) {
+                return withFacets(questionService.getQuestionsByCategoryAfter(category, after, limit, tagFilter, summaryOnly)
+                    .map(questions -> cursorResponse("Questions retrieved successfully", questions, limit, summaryOnly)), tagFilter);
+            }
+            return withFacets(questionService.getQuestionsByCategory(category, page, limit, tagFilter, summaryOnly)
+                .map(questions -> pageResponse("Questions retrieved successfully", questions, page, limit, summaryOnly)), tagFilter);
+        })
+            .map(ResponseEntity::ok)
+            .onErrorResume(IllegalArgumentException.class, e -> failure(HttpStatus.BAD_REQUEST, e))
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Get questions by mentor
+     */
+    @GetMapping("/mentor/{mentorId}/questions")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<Map<String, Object>>> getQuestionsByMentor(
+        @PathVariable String mentorId,
+        @RequestParam(defaultValue = "1") int page,
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "full") String view) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/mentor/{}/questions - Fetching mentor's questions", mentorId);
+        boolean summaryOnly = isSummaryView(view);
+        if (after != null) {
+            return questionService.getQuestionsByMentorAfter(mentorId, after, limit, summaryOnly)
+                .map(questions -> ResponseEntity.ok(cursorResponse("Questions retrieved successfully", questions, limit, summaryOnly)))
+                .onErrorResume(IllegalArgumentException.class, e -> failure(HttpStatus.BAD_REQUEST, e))
+                .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+        }
+        return questionService.getQuestionsByMentor(mentorId, page, limit, summaryOnly)
+            .map(questions -> ResponseEntity.ok(pageResponse("Questions retrieved successfully", questions, page, limit, summaryOnly)))
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Search questions
+     */
+    @GetMapping("/questions/search")
+    public Mono<ResponseEntity<Map<String, Object>>> searchQuestions(
+        @RequestParam String q,
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "1") int page,
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "any") String tagMatch) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/search - Searching questions with query: {}", q);
+        return Mono.defer(() -> {
+            TagFilter tagFilter = TagFilter.parse(tags, tagMatch);
+            return withFacets(questionService.searchQuestions(q, category, tagFilter, page, limit)
+                .map(questions -> pageResponse("Search results retrieved successfully", questions, page, limit, false)), tagFilter);
+        })
+            .map(ResponseEntity::ok)
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Typeahead suggestions for the search box: popular questions whose title or
+     * tags match {@code q}, the last word of which may be partial
+     */
+    @GetMapping("/questions/autocomplete")
+    public Mono<ResponseEntity<Map<String, Object>>> autocomplete(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "8") int limit) {
+        
+        return questionService.suggestTitles(q, limit)
+            .map(suggestions -> ResponseEntity.ok(success("Suggestions retrieved successfully", "suggestions", suggestions)))
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Get tag and category facet counts; with {@code tags}, also the tags used alongside them
+     */
+    @GetMapping("/tags")
+    public Mono<ResponseEntity<Map<String, Object>>> getTagFacets(
+        @RequestParam(required = false) String tags,
+        @RequestParam(defaultValue = "50") int limit) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/tags - Fetching tag facets");
+        return Mono.defer(() -> questionService.getFacets(TagFilter.parse(tags, null), limit))
+            .map(facets -> ResponseEntity.ok(success("Tags retrieved successfully", "facets", facets)))
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Get the tags most often used together with one tag
+     */
+    @GetMapping("/tags/{tag}/related")
+    public Mono<ResponseEntity<Map<String, Object>>> getRelatedTags(
+        @PathVariable String tag,
+        @RequestParam(defaultValue = "10") int limit) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/tags/{}/related - Fetching related tags", tag);
+        return questionService.getRelatedTags(tag, limit)
+            .map(related -> ResponseEntity.ok(success("Related tags retrieved successfully", "tags", related)))
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    /**
+     * Live forum events (question-created, answer-added, vote-changed) as server-sent
+     * events, optionally for one category. Browsers resume with Last-Event-ID.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamEvents(
+        @RequestParam(required = false) String category,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        
+        try {
+            return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(eventPublisher.stream(lastEventId, category));
+        } catch (IllegalStateException e) {
+            logger.error("❌ [FORUM - JAVA] Event stream refused: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+        }
+    }
+    
+    /**
+     * Export questions with their answers, archived ones included, as NDJSON (Admin only),
+     * optionally gzip-compressed and filtered by category and createdAt range. The export
+     * reads blocking Mongo cursors on the bounded elastic scheduler and is piped to the response.
+     */
+    @GetMapping("/admin/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<Void> exportQuestions(
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "false") boolean gzip,
+        ServerHttpResponse response) {
+        
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/admin/export - Exporting questions");
+        try {
+            // Checked before anything is written, while an error status can still be sent
+            QuestionExportService.checkRange(from, to);
+        } catch (IllegalArgumentException e) {
+            return writeFailure(response, HttpStatus.BAD_REQUEST, e);
+        }
+        
+        String filename = "questions-" + System.currentTimeMillis() + (gzip ? ".ndjson.gz" : ".ndjson");
+        response.getHeaders().setContentType(gzip
+            ? MediaType.parseMediaType("application/gzip")
+            : MediaType.APPLICATION_NDJSON);
+        response.getHeaders().set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        
+        // A failed export fails the body, so the connection is aborted instead of ending cleanly
+        return response.writeWith(piped(response.bufferFactory(), out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, PIPE_BUFFER_BYTES);
+                questionExportService.exportQuestions(category, from, to, compressed);
+                // Only a complete export gets the gzip trailer, so a failed one cannot pass for a whole file
+                compressed.finish();
+            } else {
+                questionExportService.exportQuestions(category, from, to, out);
+            }
+        }))
+            .doOnError(e -> logger.error("❌ [FORUM - JAVA] Question export failed", e));
+    }
+    
+    /**
+     * Import questions with their answers from a JSON array (Admin only).
+     * The body is piped to the blocking ingest on the bounded elastic scheduler, which writes it in chunks;
+     * the response counts every outcome and lists the items not fully imported.
+     */
+    @PostMapping(value = "/admin/import", consumes = "application/json")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<Map<String, Object>>> importQuestions(
+        @RequestParam(required = false) Integer chunkSize,
+        ServerHttpRequest request) {
+        
+        logger.info("🔵 [FORUM - JAVA] POST /api/forum/admin/import - Importing questions");
+        return Mono.fromCallable(() -> {
+            PipedInputStream body = new PipedInputStream(PIPE_BUFFER_BYTES);
+            PipedOutputStream sink = new PipedOutputStream(body);
+            // Blocks while the pipe is full, so the body is read no faster than it is imported.
+            // If the ingest stops early it closes the pipe, and the rest of the body is dropped
+            DataBufferUtils.write(request.getBody().publishOn(Schedulers.boundedElastic()), sink)
+                .doOnNext(DataBufferUtils::release)
+                .doFinally(signal -> closeQuietly(sink))
+                .subscribe(buffer -> { }, e -> logger.debug("Import body copy stopped: {}", e.getMessage()));
+            try (InputStream in = body) {
+                return questionIngestService.ingest(in, chunkSize);
+            }
+        })
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(result -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", result.getFailed() == 0);
+                response.put("message", "Imported " + result.getCreated() + " of " + result.getReceived() + " questions");
+                response.put("result", result);
+                return ResponseEntity.ok(response);
+            })
+            .onErrorResume(IllegalArgumentException.class, e -> failure(HttpStatus.BAD_REQUEST, e))
+            .onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+    
+    private Map<String, Object> pageResponse(String message, Page<Question> questions, int page, int limit,
+                                             boolean summaryOnly) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("questions", listPayload(questions.getContent(), summaryOnly));
+        response.put("total", questions.getTotalElements());
+        response.put("page", page);
+        response.put("limit", limit);
+        return response;
+    }
+    
+    /**
+     * Response envelope for cursor-paged lists (no total; use nextCursor to continue)
+     */
+    private Map<String, Object> cursorResponse(String message, CursorPage<Question> questions, int limit,
+                                               boolean summaryOnly) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("questions", listPayload(questions.getItems(), summaryOnly));
+        response.put("nextCursor", questions.getNextCursor());
+        response.put("hasNext", questions.isHasNext());
+        response.put("limit", limit);
+        return response;
+    }
+    
+    private Mono<Map<String, Object>> withFacets(Mono<Map<String, Object>> response, TagFilter tags) {
+        return response.zipWith(questionService.getFacets(tags, FACET_LIMIT), (body, facets) -> {
+            body.put("facets", facets);
+            return body;
+        });
+    }
+    
+    private Map<String, Object> success(String message, String key, Object value) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put(key, value);
+        return response;
+    }
+    
+    /**
+     * Body written by blocking {@code writer} on the bounded elastic scheduler and read back
+     * through a pipe, so a slow client holds up the writer instead of data piling up in memory.
+     * The body fails if {@code writer} throws.
+     */
+    private static Flux<DataBuffer> piped(DataBufferFactory bufferFactory, BodyWriter writer) {
+        return Flux.defer(() -> {
+            PipedInputStream in = new PipedInputStream(PIPE_BUFFER_BYTES);
+            PipedOutputStream out;
+            try {
+                out = new PipedOutputStream(in);
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            
+            Mono.fromRunnable(() -> {
+                try {
+                    writer.writeTo(out);
+                } catch (Exception e) {
+                    failure.set(e);
+                } finally {
+                    // Set before the close, so the reader sees the failure once it reaches the end
+                    closeQuietly(out);
+                }
+            }).subscribeOn(Schedulers.boundedElastic()).subscribe();
+            
+            return DataBufferUtils.readInputStream(() -> in, bufferFactory, PIPE_BUFFER_BYTES)
+                .subscribeOn(Schedulers.boundedElastic())
+                .concatWith(Mono.defer(() -> failure.get() != null ? Mono.error(failure.get()) : Mono.empty()));
+        });
+    }
+    
+    private Mono<Void> writeFailure(ServerHttpResponse response, HttpStatus status, Throwable e) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("success", false, "message", e.getMessage()));
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException jsonError) {
+            return response.setComplete();
+        }
+    }
+    
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing left to do with a pipe end that will not close
+        }
+    }
+    
+    private Mono<ResponseEntity<Map<String, Object>>> failure(HttpStatus status, Throwable e) {
+        return Mono.just(ResponseEntity.status(status)
+            .body(Map.<String, Object>of("success", false, "message", e.getMessage())));
+    }
+    
+    private boolean isSummaryView(String view) {
+        return "summary".equalsIgnoreCase(view);
+    }
+    
+    private List<?> listPayload(List<Question> questions, boolean summaryOnly) {
+        if (!summaryOnly) {
+            return questions;
+        }
+        return questions.stream().map(QuestionSummary::from).collect(Collectors.toList());
+    }
+    
+    private Mono<ResponseEntity<Map<String, Object>>> feedResponse(String feed, String category, int limit) {
+        logger.info("🔵 [FORUM - JAVA] GET /api/forum/questions/{} - Fetching feed", feed);
+        return Mono.fromCallable(() -> {
+            List<QuestionSummary> questions = questionFeedService.getFeed(feed, category, limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Questions retrieved successfully");
+            response.put("questions", questions);
+            response.put("limit", limit);
+            return ResponseEntity.ok(response);
+        }).onErrorResume(e -> failure(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+}
@@ -0,0 +1,33 @@
+package com.mentorlink.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+
+/**
+ * An answer imported together with its {@link BulkQuestionItem}
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkAnswerItem {
+    
+    @NotBlank(message = "Answer content is required")
+    private String content;
+    
+    @NotBlank(message = "Answer author is required")
+    @JsonAlias("author")
+    private String authorId;
+    
+    @PositiveOrZero(message = "Upvotes cannot be negative")
+    private Integer upvotes;
+    
+    private LocalDateTime createdAt;
+}
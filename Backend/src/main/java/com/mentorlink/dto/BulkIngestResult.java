@@ -0,0 +1,30 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkIngestResult {
+    
+    private int received;
+    
+    private int created;
+    
+    private int invalid;
+    
+    private int failed;
+    
+    private long answersCreated;
+    
+    private long durationMs;
+    
+    // Items that were not fully imported, by position; at most the first 1000 of them
+    private List<BulkItemResult> results;
+    
+    private boolean resultsTruncated;
+}
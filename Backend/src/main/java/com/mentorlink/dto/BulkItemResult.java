@@ -0,0 +1,29 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a bulk import, by its position in the request array
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResult {
+    
+    public static final String CREATED = "created";
+    public static final String INVALID = "invalid";
+    public static final String FAILED = "failed";
+    
+    private int index;
+    
+    private String status;
+    
+    // Id of the created question
+    private String id;
+    
+    private int answersCreated;
+    
+    private String message;
+}
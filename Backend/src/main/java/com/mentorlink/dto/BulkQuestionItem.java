@@ -0,0 +1,52 @@
+package com.mentorlink.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One question in a bulk import. Also accepts the Node forum's field names
+ * ({@code author}) and ignores fields the Java forum does not store.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkQuestionItem {
+    
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must be less than 200 characters")
+    private String title;
+    
+    @NotBlank(message = "Content is required")
+    private String content;
+    
+    @NotBlank(message = "Category is required")
+    private String category;
+    
+    @Size(max = TagFilter.MAX_TAGS, message = "At most 10 tags are allowed")
+    private List<String> tags;
+    
+    @NotBlank(message = "Author is required")
+    @JsonAlias("author")
+    private String authorId;
+    
+    @PositiveOrZero(message = "Upvotes cannot be negative")
+    private Integer upvotes;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    @Valid
+    private List<BulkAnswerItem> answers;
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
 import java.util.List;
 
 @Data
@@ -21,5 +22,9 @@ public class CreateQuestionRequest {
     @NotBlank(message = "Category is required")
     private String category;
     
+    @Size(max = TagFilter.MAX_TAGS, message = "At most 10 tags are allowed")
     private List<String> tags;
+    
+    // Set when the author has seen the suggested duplicates and posts anyway
+    private boolean ignoreDuplicates;
 }
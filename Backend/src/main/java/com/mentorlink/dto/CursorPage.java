@@ -0,0 +1,19 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    
+    private List<T> items;
+    
+    private String nextCursor;
+    
+    private boolean hasNext;
+}
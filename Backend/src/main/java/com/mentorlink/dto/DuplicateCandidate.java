@@ -0,0 +1,21 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An existing question that a new one probably repeats, with the estimated
+ * share of word pairs they have in common (0 to 1)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DuplicateCandidate {
+    
+    private String id;
+    
+    private String title;
+    
+    private double similarity;
+}
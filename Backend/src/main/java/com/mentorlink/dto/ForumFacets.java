@@ -0,0 +1,25 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Question counts per tag and per category for filter sidebars. With a tag
+ * filter, {@code relatedTags} counts the questions that carry each other tag
+ * together with one of the filtered tags. {@code categories} is null until the
+ * question counters are first reconciled after startup.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ForumFacets {
+    
+    private Map<String, Long> tags;
+    
+    private Map<String, Long> categories;
+    
+    private Map<String, Long> relatedTags;
+}
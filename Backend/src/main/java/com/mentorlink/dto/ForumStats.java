@@ -0,0 +1,17 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ForumStats {
+    
+    private long totalQuestions;
+    
+    private Map<String, Long> questionsByCategory;
+}
@@ -0,0 +1,118 @@
+package com.mentorlink.dto;
+
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Position in a keyset-paginated question (or answer) list: the sort key value
+ * and id of the last row on the previous page. Clients only ever see the opaque
+ * token produced by {@link #encode()}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuestionCursor {
+    
+    // Each has an index ending in _id; updatedAt is left out because it changes under a reader and is only indexed alone
+    public static final Set<String> SORT_FIELDS = Set.of("createdAt", "upvotes");
+    
+    private String sortField;
+    
+    private Sort.Direction direction;
+    
+    private Object value;
+    
+    private String id;
+    
+    /**
+     * Cursor pointing just after the given question
+     */
+    public static QuestionCursor after(Question question, String sortField, Sort.Direction direction) {
+        Object value;
+        switch (sortField) {
+            case "createdAt":
+                value = question.getCreatedAt();
+                break;
+            case "upvotes":
+                value = question.getUpvotes();
+                break;
+            default:
+                throw new RuntimeException("Unsupported sort field for cursor paging: " + sortField);
+        }
+        return new QuestionCursor(sortField, direction, value, question.getId());
+    }
+    
+    /**
+     * Cursor pointing just after the given answer
+     */
+    public static QuestionCursor after(Answer answer, String sortField, Sort.Direction direction) {
+        Object value;
+        switch (sortField) {
+            case "createdAt":
+                value = answer.getCreatedAt();
+                break;
+            case "upvotes":
+                value = answer.getUpvotes();
+                break;
+            default:
+                throw new RuntimeException("Unsupported sort field for cursor paging: " + sortField);
+        }
+        return new QuestionCursor(sortField, direction, value, answer.getId());
+    }
+    
+    /**
+     * Rows whose (sortField, _id) comes strictly after this cursor in its direction.
+     * The id bound is an ObjectId: the query mapper leaves _id inside $lt/$gt as given,
+     * and a string never compares with the stored ObjectIds, which would drop every tied row.
+     */
+    public Criteria toCriteria() {
+        boolean desc = direction.isDescending();
+        ObjectId lastId = new ObjectId(id);
+        Criteria pastValue = desc
+            ? Criteria.where(sortField).lt(value)
+            : Criteria.where(sortField).gt(value);
+        Criteria sameValuePastId = desc
+            ? Criteria.where(sortField).is(value).and("_id").lt(lastId)
+            : Criteria.where(sortField).is(value).and("_id").gt(lastId);
+        return new Criteria().orOperator(pastValue, sameValuePastId);
+    }
+    
+    public String encode() {
+        String raw = sortField + "|" + direction.name() + "|" + (value == null ? "" : value.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * @throws IllegalArgumentException when the token is not one {@link #encode()} produced
+     */
+    public static QuestionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !SORT_FIELDS.contains(parts[0]) || !ObjectId.isValid(parts[3])) {
+                throw new IllegalArgumentException();
+            }
+            
+            String field = parts[0];
+            Object value = null;
+            if (!parts[2].isEmpty()) {
+                value = "upvotes".equals(field) ? (Object) Integer.valueOf(parts[2]) : LocalDateTime.parse(parts[2]);
+            }
+            return new QuestionCursor(field, Sort.Direction.valueOf(parts[1]), value, parts[3]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.mentorlink.dto;
+
+import com.mentorlink.entity.AuthorSnapshot;
+import com.mentorlink.entity.Question;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * List-page view of a question: no body, no answers, no resolved author.
+ * Built from a field projection, so one query serves a whole page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuestionSummary {
+    
+    public static final int EXCERPT_LENGTH = 200;
+    
+    /**
+     * Fields read from the questions collection for a summary
+     */
+    public static final String[] FIELDS = {
+        "title", "category", "tags", "upvotes", "answerCount", "excerpt", "authorSnapshot", "createdAt", "updatedAt"
+    };
+    
+    private String id;
+    
+    private String title;
+    
+    private String category;
+    
+    private List<String> tags;
+    
+    private Integer upvotes;
+    
+    private Integer answerCount;
+    
+    private String excerpt;
+    
+    private AuthorSnapshot author;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    public static QuestionSummary from(Question question) {
+        return new QuestionSummary(
+            question.getId(),
+            question.getTitle(),
+            question.getCategory(),
+            question.getTags(),
+            question.getUpvotes(),
+            question.getAnswerCount(),
+            question.getExcerpt(),
+            question.getAuthorSnapshot(),
+            question.getCreatedAt(),
+            question.getUpdatedAt());
+    }
+    
+    public static String excerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, EXCERPT_LENGTH);
+    }
+}
@@ -0,0 +1,21 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A question shown next to another as related, with the cosine similarity of
+ * their TF-IDF vectors (0 to 1)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RelatedQuestion {
+    
+    private String id;
+    
+    private String title;
+    
+    private double score;
+}
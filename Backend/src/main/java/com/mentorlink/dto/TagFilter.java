@@ -0,0 +1,79 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tag restriction on a question list or search: questions carrying any of
+ * the tags, or all of them when {@code matchAll} is set.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TagFilter {
+    
+    public static final int MAX_TAGS = 10;
+    
+    private List<String> tags;
+    
+    private boolean matchAll;
+    
+    /**
+     * Parse the {@code tags} (comma-separated) and {@code tagMatch} ("any" or "all")
+     * request parameters. Returns null when no tags are given.
+     */
+    public static TagFilter parse(String tags, String match) {
+        if (tags == null || tags.isBlank()) {
+            return null;
+        }
+        List<String> normalized = normalize(Arrays.asList(tags.split(",")));
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (normalized.size() > MAX_TAGS) {
+            throw new RuntimeException("At most " + MAX_TAGS + " tags can be filtered on");
+        }
+        return new TagFilter(normalized, "all".equalsIgnoreCase(match));
+    }
+    
+    /**
+     * Tags as stored and indexed: trimmed, lower-case, without blanks or duplicates
+     */
+    public static List<String> normalize(List<String> tags) {
+        if (tags == null) {
+            return new ArrayList<>();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) {
+                normalized.add(tag.trim().toLowerCase());
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+    
+    /**
+     * Filter on the multikey tags index
+     */
+    public Criteria toCriteria() {
+        return matchAll ? Criteria.where("tags").all(tags) : Criteria.where("tags").in(tags);
+    }
+    
+    /**
+     * Combine with another filter, which may be null
+     */
+    public static Criteria and(Criteria filter, TagFilter tags) {
+        if (tags == null) {
+            return filter;
+        }
+        return filter == null ? tags.toCriteria() : new Criteria().andOperator(filter, tags.toCriteria());
+    }
+}
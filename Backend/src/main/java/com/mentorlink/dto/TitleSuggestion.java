@@ -0,0 +1,22 @@
+package com.mentorlink.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One autocomplete suggestion: a question whose title or tags match what was typed
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TitleSuggestion {
+    
+    private String id;
+    
+    private String title;
+    
+    private int upvotes;
+    
+    private int answerCount;
+}
@@ -5,6 +5,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -19,4 +21,8 @@ public class UpdateQuestionRequest {
     
     @NotBlank(message = "Category is required")
     private String category;
+    
+    // Null keeps the current tags
+    @Size(max = TagFilter.MAX_TAGS, message = "At most 10 tags are allowed")
+    private List<String> tags;
 }
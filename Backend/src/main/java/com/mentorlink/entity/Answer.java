@@ -6,11 +6,21 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 
+@Document(collection = "answers")
+@CompoundIndexes({
+    @CompoundIndex(name = "question_created_id", def = "{'questionId': 1, 'createdAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "question_upvotes_id", def = "{'questionId': 1, 'upvotes': -1, '_id': -1}"),
+    // Resync catch-up finds answers added since a point in time
+    @CompoundIndex(name = "created", def = "{'createdAt': 1}")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -19,14 +29,19 @@ public class Answer {
     @Id
     private String id;
     
+    private String questionId;
+    
     @NotBlank(message = "Answer content is required")
     private String content;
     
-    @DBRef
+    @DBRef(lazy = true)
     private User author;
     
     private Integer upvotes = 0;
     
+    // Mirrors the question's acceptedAnswerId
+    private boolean accepted;
+    
     @CreatedDate
     private LocalDateTime createdAt;
     
@@ -0,0 +1,38 @@
+package com.mentorlink.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One upvote cast by a user on an answer. The unique (answerId, userId) index
+ * is what enforces "one vote per user".
+ */
+@Document(collection = "answer_votes")
+@CompoundIndex(name = "answer_user_unique", def = "{'answerId': 1, 'userId': 1}", unique = true)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnswerVote {
+    
+    @Id
+    private String id;
+    
+    private String answerId;
+    
+    // Lets a question's votes be deleted with it
+    @Indexed
+    private String questionId;
+    
+    private String userId;
+    
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
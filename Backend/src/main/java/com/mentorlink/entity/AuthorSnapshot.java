@@ -0,0 +1,25 @@
+package com.mentorlink.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Copy of the author fields shown in forum lists, embedded in the question so
+ * list pages do not have to resolve the {@code @DBRef} to {@link User}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuthorSnapshot {
+    
+    private String id;
+    
+    private String name;
+    
+    private String avatar;
+    
+    public static AuthorSnapshot of(User user) {
+        return new AuthorSnapshot(user.getId(), user.getName(), user.getProfilePicture());
+    }
+}
@@ -1,21 +1,39 @@
 package com.mentorlink.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mentorlink.dto.DuplicateCandidate;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import javax.validation.constraints.Length;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Document(collection = "questions")
+@CompoundIndexes({
+    @CompoundIndex(name = "created_id", def = "{'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "upvotes_id", def = "{'upvotes': -1, '_id': -1}"),
+    @CompoundIndex(name = "category_upvotes", def = "{'category': 1, 'upvotes': -1, 'answerCount': -1}"),
+    @CompoundIndex(name = "category_created_id", def = "{'category': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "author_created_id", def = "{'author.$id': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "tags_created_id", def = "{'tags': 1, 'createdAt': -1, '_id': -1}"),
+    // Resync catch-up finds questions changed or promoted since a point in time
+    @CompoundIndex(name = "updated", def = "{'updatedAt': 1}"),
+    @CompoundIndex(name = "promoted", def = "{'promotedAt': 1}", sparse = true)
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,7 +43,7 @@ public class Question {
     private String id;
     
     @NotBlank(message = "Title is required")
-    @Length(max = 200, message = "Title must be less than 200 characters")
+    @Size(max = 200, message = "Title must be less than 200 characters")
     private String title;
     
     @NotBlank(message = "Content is required")
@@ -33,11 +51,28 @@ public class Question {
     
     private String category; // engineering, data-science, business, product, general
     
-    @DBRef
+    @DBRef(lazy = true)
     private User author;
     
+    // Denormalized for list pages; see QuestionSummary
+    private AuthorSnapshot authorSnapshot;
+    
+    private String excerpt;
+    
+    private Integer answerCount = 0;
+    
+    // Answer picked as best by the question's author, shown before the others
+    private String acceptedAnswerId;
+    
+    // Stored in the answers collection; only the first page is attached on reads
+    @Transient
     private List<Answer> answers = new ArrayList<>();
     
+    // Likely duplicates found when the question was created; only set on the create response
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<DuplicateCandidate> possibleDuplicates;
+    
     private Integer upvotes = 0;
     
     private List<String> tags = new ArrayList<>();
@@ -47,4 +82,12 @@ public class Question {
     
     @LastModifiedDate
     private LocalDateTime updatedAt;
+    
+    // Set when brought back from the cold tier, so it is not archived again before it has been idle anew
+    @JsonIgnore
+    private LocalDateTime promotedAt;
+    
+    // Bumped by edits to title, content, category and tags only; counter updates leave it alone
+    @Version
+    private Long version;
 }
@@ -0,0 +1,33 @@
+package com.mentorlink.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One upvote cast by a user on a question. The unique (questionId, userId)
+ * index is what enforces "one vote per user".
+ */
+@Document(collection = "question_votes")
+@CompoundIndex(name = "question_user_unique", def = "{'questionId': 1, 'userId': 1}", unique = true)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuestionVote {
+    
+    @Id
+    private String id;
+    
+    private String questionId;
+    
+    private String userId;
+    
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package com.mentorlink.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of the Node backend's users that the forum reads. The rest of
+ * the user document (credentials, profile, karma) is owned by that backend
+ * and deliberately not mapped, so it can never end up in a forum response.
+ */
+@Document(collection = "users")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class User {
+    
+    @Id
+    private String id;
+    
+    private String role;
+    
+    private String name;
+    
+    private String email;
+    
+    private String profilePicture;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+}
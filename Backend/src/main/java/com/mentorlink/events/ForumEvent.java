@@ -0,0 +1,31 @@
+package com.mentorlink.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One entry of the live event stream. {@code data} is the payload already
+ * serialized to JSON, so it is encoded once no matter how many subscribers receive it.
+ */
+@Data
+@AllArgsConstructor
+public class ForumEvent {
+    
+    public static final String QUESTION_CREATED = "question-created";
+    public static final String ANSWER_ADDED = "answer-added";
+    public static final String VOTE_CHANGED = "vote-changed";
+    public static final String ANSWER_VOTE_CHANGED = "answer-vote-changed";
+    public static final String ANSWER_ACCEPTED = "answer-accepted";
+    
+    // Sent instead of events a subscriber fell too far behind to receive
+    public static final String RESYNC = "resync";
+    
+    private long sequence;
+    
+    private String type;
+    
+    // Category of the question the event is about, for subscriber filters; may be null
+    private String category;
+    
+    private String data;
+}
@@ -0,0 +1,375 @@
+package com.mentorlink.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live forum events over server-sent events.
+ *
+ * Events go into a bounded {@link ForumEventRing}; nothing is queued per
+ * subscriber. A sweep every {@code dispatch-interval-ms} hands each subscriber
+ * with unread events to a small sender pool, which writes everything from the
+ * subscriber's cursor up to the head. A subscriber still busy with a slow
+ * write is skipped, so one stalled client holds at most one sender thread. A
+ * subscriber that falls more than the ring's capacity behind gets a "resync"
+ * event and jumps to the head (or is disconnected, with {@code overrun=drop});
+ * it should then reload whatever it displays.
+ *
+ * WebFlux streams ({@link #stream}) read the same ring. Instead of a sender
+ * thread, the sweep emits a tick that each stream takes once it has written
+ * what it read on the previous one, so a slow client skips ticks rather than
+ * queueing events.
+ */
+@Component
+public class ForumEventPublisher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ForumEventPublisher.class);
+    
+    private static final int MAX_EVENTS_PER_SEND = 256;
+    
+    private static final class Subscriber {
+        final long id;
+        final SseEmitter emitter;
+        final String category;
+        final AtomicBoolean busy = new AtomicBoolean();
+        volatile long cursor;
+        volatile long lastSentAt;
+        
+        Subscriber(long id, SseEmitter emitter, String category, long cursor) {
+            this.id = id;
+            this.emitter = emitter;
+            this.category = category;
+            this.cursor = cursor;
+            this.lastSentAt = System.currentTimeMillis();
+        }
+    }
+    
+    private static final class StreamState {
+        volatile long cursor;
+        volatile long lastSentAt = System.currentTimeMillis();
+        volatile boolean dropped;
+        
+        StreamState(long cursor) {
+            this.cursor = cursor;
+        }
+    }
+    
+    private final ObjectMapper objectMapper;
+    private final ForumEventRing ring;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMs;
+    private final long heartbeatMs;
+    private final boolean dropOnOverrun;
+    
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    // Subscribers without demand miss a tick, which is what lets slow streams skip ahead
+    private final Sinks.Many<Long> ticks = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger streams = new AtomicInteger();
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService senders;
+    
+    private final Counter resyncs;
+    private final Counter drops;
+    
+    public ForumEventPublisher(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${forum.events.ring-capacity:4096}") int ringCapacity,
+        @Value("${forum.events.max-subscribers:50000}") int maxSubscribers,
+        @Value("${forum.events.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+        @Value("${forum.events.heartbeat-ms:15000}") long heartbeatMs,
+        @Value("${forum.events.dispatch-interval-ms:25}") long dispatchIntervalMs,
+        @Value("${forum.events.send-threads:16}") int sendThreads,
+        @Value("${forum.events.overrun:resync}") String overrun) {
+        this.objectMapper = objectMapper;
+        this.ring = new ForumEventRing(ringCapacity);
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.heartbeatMs = heartbeatMs;
+        this.dropOnOverrun = "drop".equalsIgnoreCase(overrun);
+        
+        this.senders = Executors.newFixedThreadPool(sendThreads, daemon("forum-events-send"));
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(daemon("forum-events-dispatch"));
+        this.dispatcher.scheduleWithFixedDelay(this::sweep, dispatchIntervalMs, dispatchIntervalMs, TimeUnit.MILLISECONDS);
+        
+        meterRegistry.gauge("forum.events.subscribers", this, ForumEventPublisher::subscriberCount);
+        this.resyncs = meterRegistry.counter("forum.events.overruns", "action", "resync");
+        this.drops = meterRegistry.counter("forum.events.overruns", "action", "drop");
+    }
+    
+    /**
+     * Publish an event; {@code payload} is serialized to JSON once, here
+     */
+    public void publish(String type, String category, Object payload) {
+        try {
+            ring.publish(type, category, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            logger.error("❌ [FORUM - JAVA] Could not serialize {} event", type, e);
+        }
+    }
+    
+    /**
+     * Open a stream, optionally limited to one category. With {@code lastEventId}
+     * (the browser's Last-Event-ID on reconnect) missed events are replayed if they
+     * are still in the ring; otherwise, or when the id is not from this ring, the
+     * stream starts with a "resync" event.
+     */
+    public SseEmitter subscribe(String lastEventId, String category) {
+        if (subscriberCount() >= maxSubscribers) {
+            throw new IllegalStateException("Too many event stream subscribers");
+        }
+        
+        long head = ring.head();
+        long cursor = resumeFrom(lastEventId, head);
+        boolean resync = cursor == ForumEventRing.UNKNOWN;
+        if (resync) {
+            cursor = head;
+        }
+        
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter,
+            category == null || category.isEmpty() ? null : category.toLowerCase(), cursor);
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> subscribers.remove(subscriber.id));
+        emitter.onError(e -> subscribers.remove(subscriber.id));
+        subscribers.put(subscriber.id, subscriber);
+        
+        if (resync) {
+            try {
+                sendResync(subscriber, head);
+            } catch (IOException e) {
+                subscribers.remove(subscriber.id);
+            }
+        }
+        return emitter;
+    }
+    
+    /**
+     * {@link #subscribe} for WebFlux, with the same replay, resync, heartbeat and overrun handling
+     */
+    public Flux<ServerSentEvent<String>> stream(String lastEventId, String category) {
+        if (subscriberCount() >= maxSubscribers) {
+            throw new IllegalStateException("Too many event stream subscribers");
+        }
+        String filter = category == null || category.isEmpty() ? null : category.toLowerCase();
+        
+        return Flux.defer(() -> {
+            long head = ring.head();
+            long cursor = resumeFrom(lastEventId, head);
+            Flux<ServerSentEvent<String>> start = Flux.empty();
+            if (cursor == ForumEventRing.UNKNOWN) {
+                cursor = head;
+                start = Flux.just(resyncEvent(head));
+            }
+            StreamState state = new StreamState(cursor);
+            
+            // Once dropped, the stream completes on the next tick
+            return start.concatWith(ticks.asFlux()
+                .takeWhile(tick -> !state.dropped)
+                .concatMap(tick -> Flux.fromIterable(drain(state, filter)), 1));
+        })
+            .take(Duration.ofMillis(emitterTimeoutMs))
+            .doOnSubscribe(subscription -> streams.incrementAndGet())
+            .doFinally(signal -> streams.decrementAndGet());
+    }
+    
+    public int subscriberCount() {
+        return subscribers.size() + streams.get();
+    }
+    
+    /**
+     * Position to replay from after {@code lastEventId}: the head without one, or
+     * {@link ForumEventRing#UNKNOWN} when the stream must start with a resync
+     */
+    private long resumeFrom(String lastEventId, long head) {
+        if (lastEventId == null || lastEventId.isEmpty()) {
+            return head;
+        }
+        long resumeFrom = ring.sequenceOf(lastEventId) + 1;
+        if (resumeFrom >= 0 && resumeFrom <= head && head - resumeFrom < ring.capacity()) {
+            return resumeFrom;
+        }
+        return ForumEventRing.UNKNOWN;
+    }
+    
+    /**
+     * Hand every subscriber that has unread events, or is due a heartbeat, to a sender
+     */
+    private void sweep() {
+        try {
+            long head = ring.head();
+            long heartbeatBefore = System.currentTimeMillis() - heartbeatMs;
+            for (Subscriber subscriber : subscribers.values()) {
+                boolean due = subscriber.cursor < head || subscriber.lastSentAt < heartbeatBefore;
+                if (due && subscriber.busy.compareAndSet(false, true)) {
+                    senders.execute(() -> send(subscriber, head));
+                }
+            }
+            if (ticks.currentSubscriberCount() > 0) {
+                // Only this thread emits, so the sink needs no serialization
+                ticks.tryEmitNext(head);
+            }
+        } catch (RuntimeException e) {
+            // A failure must not cancel the scheduled sweep
+            logger.error("❌ [FORUM - JAVA] Event dispatch sweep failed", e);
+        }
+    }
+    
+    /**
+     * What a WebFlux stream sends on one tick; the counterpart of {@link #send}
+     */
+    private List<ServerSentEvent<String>> drain(StreamState state, String category) {
+        long head = ring.head();
+        long cursor = state.cursor;
+        List<ServerSentEvent<String>> events = new ArrayList<>();
+        while (cursor < head && events.size() < MAX_EVENTS_PER_SEND) {
+            ForumEvent event = ring.read(cursor);
+            if (event == null) {
+                break;
+            }
+            if (event.getSequence() != cursor) {
+                if (dropOnOverrun) {
+                    drops.increment();
+                    state.dropped = true;
+                    return events;
+                }
+                resyncs.increment();
+                cursor = ring.head();
+                events.add(resyncEvent(cursor));
+                break;
+            }
+            
+            if (category == null || category.equals(event.getCategory())) {
+                events.add(ServerSentEvent.<String>builder()
+                    .id(ring.eventId(event.getSequence()))
+                    .event(event.getType())
+                    .data(event.getData())
+                    .build());
+            }
+            cursor++;
+        }
+        state.cursor = cursor;
+        
+        long now = System.currentTimeMillis();
+        if (events.isEmpty() && state.lastSentAt < now - heartbeatMs) {
+            events.add(ServerSentEvent.<String>builder().comment("heartbeat").build());
+        }
+        if (!events.isEmpty()) {
+            state.lastSentAt = now;
+        }
+        return events;
+    }
+    
+    private void send(Subscriber subscriber, long head) {
+        try {
+            long cursor = subscriber.cursor;
+            int sent = 0;
+            while (cursor < head && sent < MAX_EVENTS_PER_SEND) {
+                ForumEvent event = ring.read(cursor);
+                if (event == null) {
+                    // Claimed but not stored yet; picked up on the next sweep
+                    break;
+                }
+                if (event.getSequence() != cursor) {
+                    // Overwritten: this subscriber fell more than a ring behind
+                    if (dropOnOverrun) {
+                        drops.increment();
+                        subscribers.remove(subscriber.id);
+                        subscriber.emitter.complete();
+                        return;
+                    }
+                    resyncs.increment();
+                    cursor = ring.head();
+                    sendResync(subscriber, cursor);
+                    sent++;
+                    break;
+                }
+                
+                if (subscriber.category == null || subscriber.category.equals(event.getCategory())) {
+                    subscriber.emitter.send(SseEmitter.event()
+                        .id(ring.eventId(event.getSequence()))
+                        .name(event.getType())
+                        .data(event.getData()));
+                    sent++;
+                }
+                cursor++;
+            }
+            subscriber.cursor = cursor;
+            
+            if (sent == 0 && subscriber.lastSentAt < System.currentTimeMillis() - heartbeatMs) {
+                // Comment line: keeps proxies from closing the idle connection and detects dead clients
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                sent++;
+            }
+            if (sent > 0) {
+                subscriber.lastSentAt = System.currentTimeMillis();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            subscribers.remove(subscriber.id);
+        } finally {
+            subscriber.busy.set(false);
+        }
+    }
+    
+    private ServerSentEvent<String> resyncEvent(long head) {
+        return ServerSentEvent.<String>builder()
+            .id(ring.eventId(head - 1))
+            .event(ForumEvent.RESYNC)
+            .data("{\"sequence\":" + head + "}")
+            .build();
+    }
+    
+    private void sendResync(Subscriber subscriber, long head) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+            .id(ring.eventId(head - 1))
+            .name(ForumEvent.RESYNC)
+            .data("{\"sequence\":" + head + "}"));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        ticks.tryEmitComplete();
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+    
+    private static java.util.concurrent.ThreadFactory daemon(String name) {
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
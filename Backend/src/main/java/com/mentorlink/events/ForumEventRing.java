@@ -0,0 +1,83 @@
+package com.mentorlink.events;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent events. Publishers claim a sequence with
+ * one atomic increment and store into slot {@code sequence % capacity}; readers
+ * keep their own cursor and never block publishers. A reader that falls more
+ * than {@code capacity} events behind finds its next slot overwritten by a
+ * newer sequence and must resync.
+ *
+ * Sequences restart at 0 with every ring and are not shared between instances,
+ * so event ids carry a random epoch chosen when the ring is created. An id from
+ * another ring (an earlier process, or another instance behind the load
+ * balancer) is never mistaken for a position in this one.
+ */
+final class ForumEventRing {
+    
+    static final long UNKNOWN = Long.MIN_VALUE;
+    
+    private final AtomicReferenceArray<ForumEvent> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+    private final String epoch;
+    
+    ForumEventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+    
+    /**
+     * Event id for {@code sequence}, as sent to clients
+     */
+    String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+    
+    /**
+     * The sequence in an event id from this ring (-1 for the id sent before the first event),
+     * or {@link #UNKNOWN} if the id is malformed or from another ring
+     */
+    long sequenceOf(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + "-")) {
+            return UNKNOWN;
+        }
+        try {
+            long sequence = Long.parseLong(eventId.substring(epoch.length() + 1));
+            return sequence < -1 ? UNKNOWN : sequence;
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+    
+    int capacity() {
+        return mask + 1;
+    }
+    
+    /**
+     * Sequence the next published event will get
+     */
+    long head() {
+        return next.get();
+    }
+    
+    long publish(String type, String category, String data) {
+        long sequence = next.getAndIncrement();
+        slots.set((int) (sequence & mask), new ForumEvent(sequence, type, category, data));
+        return sequence;
+    }
+    
+    /**
+     * The slot for {@code sequence}: the event itself, null while it is still
+     * being published, or a newer event once it has been overwritten
+     */
+    ForumEvent read(long sequence) {
+        ForumEvent event = slots.get((int) (sequence & mask));
+        return event == null || event.getSequence() < sequence ? null : event;
+    }
+}
@@ -0,0 +1,105 @@
+package com.mentorlink.metrics;
+
+import com.mongodb.MongoClientSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.springframework.stereotype.Component;
+
+/**
+ * Forum-specific meters that the Spring Boot instrumentation does not cover.
+ * Request and repository timers come from Boot ({@code http.server.requests},
+ * {@code spring.data.repository.invocations}, {@code mongodb.driver.commands}).
+ */
+@Component
+public class ForumMetrics {
+    
+    // The default registry includes the DBRef and java.time codecs that forum documents use
+    private static final Codec<Document> CODEC = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+    
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary documentBytes;
+    private final DistributionSummary answerCount;
+    private final Counter searchFromIndex;
+    private final Counter searchFromRegex;
+    private final Counter droppedVotes;
+    
+    public ForumMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.documentBytes = DistributionSummary.builder("forum.question.document.bytes")
+            .description("BSON size of question documents as written")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.answerCount = DistributionSummary.builder("forum.question.answers")
+            .description("Answer count of questions served by the detail view")
+            .register(meterRegistry);
+        this.searchFromIndex = Counter.builder("forum.search.requests")
+            .tag("source", "index")
+            .register(meterRegistry);
+        this.searchFromRegex = Counter.builder("forum.search.requests")
+            .tag("source", "regex")
+            .register(meterRegistry);
+        this.droppedVotes = Counter.builder("forum.votes.dropped")
+            .description("Buffered upvotes discarded because their question no longer exists")
+            .register(meterRegistry);
+        Gauge.builder("forum.search.index.hit.ratio", this, ForumMetrics::searchIndexHitRatio)
+            .description("Share of searches answered by the in-memory index instead of the regex fallback")
+            .register(meterRegistry);
+    }
+    
+    public void recordDocumentBytes(int bytes) {
+        documentBytes.record(bytes);
+    }
+    
+    /**
+     * Bytes sent to Mongo by one question write: the whole document for "save",
+     * the update document for field-level writes
+     */
+    public void recordWriteBytes(String operation, int bytes) {
+        DistributionSummary.builder("forum.question.write.bytes")
+            .description("BSON bytes sent per question write, by operation")
+            .baseUnit("bytes")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(bytes);
+    }
+    
+    /**
+     * Encoded BSON size of a document
+     */
+    public static int bsonSize(Document document) {
+        return new RawBsonDocument(document, CODEC).getByteBuffer().remaining();
+    }
+    
+    public void recordAnswerCount(Integer answers) {
+        answerCount.record(answers != null ? answers : 0);
+    }
+    
+    public void searchServed(boolean fromIndex) {
+        (fromIndex ? searchFromIndex : searchFromRegex).increment();
+    }
+    
+    public void votesDropped(long votes) {
+        droppedVotes.increment(votes);
+    }
+    
+    /**
+     * Response body size per endpoint; {@code uri} is the matched route pattern, not the raw path
+     */
+    public void recordResponseBytes(String method, String uri, int status, long bytes) {
+        DistributionSummary.builder("forum.response.bytes")
+            .baseUnit("bytes")
+            .tags("method", method, "uri", uri, "status", Integer.toString(status))
+            .register(meterRegistry)
+            .record(bytes);
+    }
+    
+    private double searchIndexHitRatio() {
+        double total = searchFromIndex.count() + searchFromRegex.count();
+        return total > 0 ? searchFromIndex.count() / total : 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.mentorlink.metrics;
+
+import com.mentorlink.entity.Question;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the encoded size of every question document written through the mapping layer
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionDocumentMetrics extends AbstractMongoEventListener<Question> {
+    
+    private final ForumMetrics forumMetrics;
+    
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Question> event) {
+        Document document = event.getDocument();
+        if (document != null) {
+            int bytes = ForumMetrics.bsonSize(document);
+            forumMetrics.recordDocumentBytes(bytes);
+            forumMetrics.recordWriteBytes("save", bytes);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.mentorlink.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Counts the bytes written for every /api/forum response and records them per route
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ResponseSizeFilter extends OncePerRequestFilter {
+    
+    private final ForumMetrics forumMetrics;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/forum");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        
+        CountingResponse counting = new CountingResponse(response);
+        try {
+            chain.doFilter(request, counting);
+            counting.flushBuffer();
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            forumMetrics.recordResponseBytes(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN",
+                response.getStatus(), counting.bytes());
+        }
+    }
+    
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        
+        private CountingOutputStream outputStream;
+        private PrintWriter writer;
+        
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+        
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+        
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+        
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+        
+        long bytes() {
+            return outputStream != null ? outputStream.count : 0;
+        }
+    }
+    
+    private static final class CountingOutputStream extends ServletOutputStream {
+        
+        private final ServletOutputStream delegate;
+        private long count;
+        
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+        
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+        
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
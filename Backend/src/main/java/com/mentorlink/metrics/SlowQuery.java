@@ -0,0 +1,27 @@
+package com.mentorlink.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * A Mongo command that took longer than the slow-query threshold
+ */
+@Data
+@AllArgsConstructor
+public class SlowQuery {
+    
+    private Instant at;
+    
+    private String commandName;
+    
+    private String collection;
+    
+    private long durationMs;
+    
+    private boolean failed;
+    
+    // The command as sent by the driver, truncated
+    private String command;
+}
@@ -0,0 +1,24 @@
+package com.mentorlink.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the most recent slow Mongo commands with their generated query
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+    
+    private final SlowQueryListener slowQueryListener;
+    
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryListener.recent();
+    }
+}
@@ -0,0 +1,141 @@
+package com.mentorlink.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures Mongo commands slower than {@code forum.metrics.slow-query-ms}: logs
+ * them with the generated command, counts them per command and collection, and
+ * keeps the most recent ones for the {@code slowqueries} actuator endpoint.
+ *
+ * The command document is only valid during the started callback, so a copy
+ * of its bytes is kept there and rendered to JSON, capped at {@code max-chars},
+ * only once the command turns out slow. getMores that wait for data on
+ * change-stream and tailable cursors are slow by design and are skipped. A
+ * negative threshold disables capture entirely.
+ */
+@Component
+public class SlowQueryListener implements CommandListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryListener.class);
+    
+    // Handshake and auth traffic, never interesting and possibly sensitive
+    private static final Set<String> IGNORED_COMMANDS = Set.of(
+        "hello", "ismaster", "isMaster", "ping", "saslStart", "saslContinue", "authenticate", "endSessions");
+    
+    private static final class Started {
+        final String collection;
+        final BsonDocument command;
+        
+        Started(String collection, BsonDocument command) {
+            this.collection = collection;
+            this.command = command;
+        }
+    }
+    
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final int retained;
+    private final JsonWriterSettings jsonSettings;
+    
+    private final Map<Integer, Started> inFlight = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> recent = new ConcurrentLinkedDeque<>();
+    
+    public SlowQueryListener(
+        MeterRegistry meterRegistry,
+        @Value("${forum.metrics.slow-query-ms:100}") long thresholdMs,
+        @Value("${forum.metrics.slow-query.retained:50}") int retained,
+        @Value("${forum.metrics.slow-query.max-chars:2048}") int maxChars) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = thresholdMs < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.retained = retained;
+        this.jsonSettings = JsonWriterSettings.builder().maxLength(maxChars).build();
+    }
+    
+    /**
+     * Most recent slow commands, newest first
+     */
+    public List<SlowQuery> recent() {
+        return new ArrayList<>(recent);
+    }
+    
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (thresholdNanos < 0 || IGNORED_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonDocument command = event.getCommand();
+        boolean getMore = "getMore".equals(event.getCommandName());
+        // The driver only sends maxTimeMS on a getMore to bound an awaitData wait
+        if (getMore && command.containsKey("maxTimeMS")) {
+            return;
+        }
+        BsonValue target = command.get(getMore ? "collection" : event.getCommandName());
+        String collection = target != null && target.isString() ? target.asString().getValue() : "";
+        // Copies the bytes, which is much cheaper than rendering every command
+        inFlight.put(event.getRequestId(), new Started(collection, command.clone()));
+    }
+    
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+    
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+    
+    private void finished(int requestId, String commandName, long elapsedNanos, boolean failed) {
+        Started started = inFlight.remove(requestId);
+        if (started == null || elapsedNanos < thresholdNanos) {
+            return;
+        }
+        
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String command = render(started.command);
+        meterRegistry.counter("forum.mongo.slow.queries",
+            "command", commandName, "collection", started.collection).increment();
+        logger.warn("⚠️ [FORUM - JAVA] Slow Mongo {} on {} took {} ms: {}",
+            commandName, started.collection, durationMs, command);
+        
+        recent.addFirst(new SlowQuery(Instant.now(), commandName, started.collection, durationMs, failed, command));
+        while (recent.size() > retained) {
+            recent.pollLast();
+        }
+    }
+    
+    /**
+     * The documents of an insert or update arrive as raw BSON, and the JSON writer
+     * fails on raw documents once it reaches {@code max-chars}, so they are decoded
+     * into plain documents first.
+     */
+    private String render(BsonDocument command) {
+        BsonDocument plain = new BsonDocumentCodec().decode(new BsonDocumentReader(command),
+            DecoderContext.builder().build());
+        return plain.toJson(jsonSettings);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.Answer;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnswerRepository extends MongoRepository<Answer, String>, AnswerRepositoryCustom {
+    
+    boolean existsByIdAndQuestionId(String id, String questionId);
+    
+    long deleteByQuestionId(String questionId);
+}
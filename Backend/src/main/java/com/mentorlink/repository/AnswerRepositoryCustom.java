@@ -0,0 +1,44 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.entity.Answer;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AnswerRepositoryCustom {
+    
+    /**
+     * Keyset page of one question's answers ordered by ({@code sortField}, _id)
+     *
+     * @param after     position of the last answer on the previous page, or {@code null} for the first page
+     * @param excludeId an answer left out of every page (the accepted one, shown separately), or {@code null}
+     */
+    Slice<Answer> findSlice(String questionId, String sortField, Sort.Direction direction,
+                            QuestionCursor after, int limit, String excludeId);
+    
+    /**
+     * Atomically add {@code delta} to an answer's upvotes.
+     *
+     * @return the updated answer with only its question id and upvotes, or {@code null} if it does not exist
+     */
+    Answer incrementUpvotes(String id, int delta);
+    
+    /**
+     * Set or clear an answer's accepted flag
+     */
+    void setAccepted(String id, boolean accepted);
+    
+    /**
+     * Clear the accepted flag on a question's answers other than {@code keepId} (all of them when null)
+     */
+    void clearAcceptedExcept(String questionId, String keepId);
+    
+    /**
+     * Id and content of a question's answers, without loading authors or other fields:
+     * those created at or after {@code since}, or all of them when it is {@code null}
+     */
+    List<Answer> findForIndex(String questionId, LocalDateTime since);
+}
@@ -0,0 +1,84 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.entity.Answer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class AnswerRepositoryImpl implements AnswerRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public Slice<Answer> findSlice(String questionId, String sortField, Sort.Direction direction,
+                                   QuestionCursor after, int limit, String excludeId) {
+        Criteria criteria = Criteria.where("questionId").is(questionId);
+        if (excludeId != null) {
+            criteria = criteria.and("_id").ne(excludeId);
+        }
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria, after.toCriteria());
+        }
+        
+        // Fetch one extra row to know whether another page exists
+        Query query = new Query(criteria)
+            .with(Sort.by(direction, sortField).and(Sort.by(direction, "_id")))
+            .limit(limit + 1);
+        
+        List<Answer> answers = mongoTemplate.find(query, Answer.class);
+        boolean hasNext = answers.size() > limit;
+        if (hasNext) {
+            answers = answers.subList(0, limit);
+        }
+        return new SliceImpl<>(answers, PageRequest.of(0, limit), hasNext);
+    }
+    
+    @Override
+    public Answer incrementUpvotes(String id, int delta) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("questionId").include("upvotes");
+        
+        // One $inc; the (questionId, upvotes) index keeps the vote order without any re-sorting
+        return mongoTemplate.findAndModify(query, new Update().inc("upvotes", delta),
+            FindAndModifyOptions.options().returnNew(true), Answer.class);
+    }
+    
+    @Override
+    public void setAccepted(String id, boolean accepted) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)),
+            new Update().set("accepted", accepted), Answer.class);
+    }
+    
+    @Override
+    public void clearAcceptedExcept(String questionId, String keepId) {
+        Criteria criteria = Criteria.where("questionId").is(questionId).and("accepted").is(true);
+        if (keepId != null) {
+            criteria.and("_id").ne(keepId);
+        }
+        mongoTemplate.updateMulti(new Query(criteria), new Update().set("accepted", false), Answer.class);
+    }
+    
+    @Override
+    public List<Answer> findForIndex(String questionId, LocalDateTime since) {
+        Criteria criteria = Criteria.where("questionId").is(questionId);
+        if (since != null) {
+            // The (questionId, createdAt, _id) index bounds the scan to the new answers
+            criteria = criteria.and("createdAt").gte(since);
+        }
+        Query query = new Query(criteria);
+        query.fields().include("content");
+        return mongoTemplate.find(query, Answer.class);
+    }
+}
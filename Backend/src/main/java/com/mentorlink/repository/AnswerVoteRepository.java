@@ -0,0 +1,11 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.AnswerVote;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnswerVoteRepository extends MongoRepository<AnswerVote, String> {
+    
+    long deleteByQuestionId(String questionId);
+}
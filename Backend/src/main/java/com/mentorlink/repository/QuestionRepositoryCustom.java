@@ -0,0 +1,99 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.entity.Question;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+/**
+ * Queries and field-level writes on the questions collection that derived
+ * repository methods cannot express.
+ */
+public interface QuestionRepositoryCustom {
+    
+    /**
+     * Atomically add {@code delta} to a question's upvotes.
+     *
+     * @return the updated question with only the {@link com.mentorlink.dto.QuestionSummary} fields,
+     *         or {@code null} if the question does not exist
+     */
+    Question incrementUpvotes(String id, long delta);
+    
+    /**
+     * Atomically add {@code delta} to a question's answer count and touch updatedAt.
+     *
+     * @return the updated question, or {@code null} if it does not exist
+     */
+    Question incrementAnswerCount(String id, int delta);
+    
+    /**
+     * Apply {@code update} if the question is still at {@code expectedVersion} (null matches
+     * documents written before versioning), incrementing the version.
+     *
+     * @return the updated question, or {@code null} if it does not exist or was edited concurrently
+     */
+    Question updateIfVersion(String id, Long expectedVersion, Update update);
+    
+    /**
+     * Read only the stored upvote count of a question, or {@code null} if it does not exist
+     */
+    Integer findUpvotes(String id);
+    
+    /**
+     * Read only what answer operations need (author, category, accepted answer id),
+     * or {@code null} if the question does not exist
+     */
+    Question findForAnswers(String id);
+    
+    /**
+     * Set a question's accepted answer and touch updatedAt.
+     *
+     * @return the question as it was before, with only its accepted answer id,
+     *         or {@code null} if it does not exist
+     */
+    Question setAcceptedAnswer(String id, String answerId);
+    
+    /**
+     * Touch a question's updatedAt for a change stored outside its document (an answer vote),
+     * so conditional GETs and other instances see the question as modified.
+     *
+     * @return false if the question does not exist
+     */
+    boolean touch(String id);
+    
+    /**
+     * Keyset page: up to {@code limit} questions matching {@code filter} that sort
+     * strictly after {@code after} on ({@code sortField}, _id). No count query is run.
+     *
+     * @param after position of the last question on the previous page, or {@code null} for the first page
+     * @param summaryOnly read only the {@link com.mentorlink.dto.QuestionSummary} fields
+     */
+    Slice<Question> findSlice(Criteria filter, String sortField, Sort.Direction direction,
+                              QuestionCursor after, int limit, boolean summaryOnly);
+    
+    /**
+     * Offset page of questions matching {@code filter}.
+     *
+     * @param summaryOnly read only the {@link com.mentorlink.dto.QuestionSummary} fields; the author
+     *                    {@code @DBRef} is then not read, so no per-row user lookups happen
+     * @param knownTotal  total number of matches if the caller already knows it, so no count query
+     *                    is run; {@code null} to count
+     */
+    Page<Question> findPage(Criteria filter, Pageable pageable, boolean summaryOnly, Long knownTotal);
+    
+    /**
+     * Case-insensitive substring match on title or content, optionally within one category
+     * and tag filter. This is a collection scan; it only serves search while the in-memory
+     * index is unavailable.
+     */
+    Page<Question> searchByRegex(String text, String category, TagFilter tags, Pageable pageable);
+    
+    List<String> findDistinctCategories();
+}
@@ -0,0 +1,168 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.entity.Question;
+import com.mentorlink.metrics.ForumMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@RequiredArgsConstructor
+public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    private final ForumMetrics forumMetrics;
+    
+    @Override
+    public Question incrementUpvotes(String id, long delta) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include(QuestionSummary.FIELDS);
+        
+        Update update = new Update()
+            .inc("upvotes", delta)
+            .set("updatedAt", LocalDateTime.now());
+        forumMetrics.recordWriteBytes("upvote", ForumMetrics.bsonSize(update.getUpdateObject()));
+        
+        return mongoTemplate.findAndModify(
+            query, update, FindAndModifyOptions.options().returnNew(true), Question.class);
+    }
+    
+    @Override
+    public Question incrementAnswerCount(String id, int delta) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        Update update = new Update()
+            .inc("answerCount", delta)
+            .set("updatedAt", LocalDateTime.now());
+        forumMetrics.recordWriteBytes("answer-count", ForumMetrics.bsonSize(update.getUpdateObject()));
+        
+        return mongoTemplate.findAndModify(
+            query, update, FindAndModifyOptions.options().returnNew(true), Question.class);
+    }
+    
+    @Override
+    public Question updateIfVersion(String id, Long expectedVersion, Update update) {
+        Query query = new Query(Criteria.where("_id").is(id).and("version").is(expectedVersion));
+        update.inc("version", 1);
+        forumMetrics.recordWriteBytes("edit", ForumMetrics.bsonSize(update.getUpdateObject()));
+        
+        return mongoTemplate.findAndModify(
+            query, update, FindAndModifyOptions.options().returnNew(true), Question.class);
+    }
+    
+    @Override
+    public Integer findUpvotes(String id) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("upvotes");
+        
+        Question question = mongoTemplate.findOne(query, Question.class);
+        return question != null ? question.getUpvotes() : null;
+    }
+    
+    @Override
+    public Question findForAnswers(String id) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("author").include("category").include("acceptedAnswerId");
+        
+        return mongoTemplate.findOne(query, Question.class);
+    }
+    
+    @Override
+    public Question setAcceptedAnswer(String id, String answerId) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("acceptedAnswerId");
+        
+        Update update = new Update()
+            .set("acceptedAnswerId", answerId)
+            .set("updatedAt", LocalDateTime.now());
+        forumMetrics.recordWriteBytes("accept-answer", ForumMetrics.bsonSize(update.getUpdateObject()));
+        
+        return mongoTemplate.findAndModify(query, update, Question.class);
+    }
+    
+    @Override
+    public boolean touch(String id) {
+        Update update = new Update().set("updatedAt", LocalDateTime.now());
+        forumMetrics.recordWriteBytes("touch", ForumMetrics.bsonSize(update.getUpdateObject()));
+        
+        return mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)), update, Question.class)
+            .getMatchedCount() > 0;
+    }
+    
+    @Override
+    public Slice<Question> findSlice(Criteria filter, String sortField, Sort.Direction direction,
+                                     QuestionCursor after, int limit, boolean summaryOnly) {
+        Criteria criteria = filter != null ? filter : new Criteria();
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria, after.toCriteria());
+        }
+        
+        // Fetch one extra row to know whether another page exists
+        Query query = new Query(criteria)
+            .with(Sort.by(direction, sortField).and(Sort.by(direction, "_id")))
+            .limit(limit + 1);
+        if (summaryOnly) {
+            query.fields().include(QuestionSummary.FIELDS);
+        }
+        
+        List<Question> questions = mongoTemplate.find(query, Question.class);
+        boolean hasNext = questions.size() > limit;
+        if (hasNext) {
+            questions = questions.subList(0, limit);
+        }
+        return new SliceImpl<>(questions, PageRequest.of(0, limit), hasNext);
+    }
+    
+    @Override
+    public Page<Question> findPage(Criteria filter, Pageable pageable, boolean summaryOnly, Long knownTotal) {
+        Query query = new Query(filter != null ? filter : new Criteria()).with(pageable);
+        if (summaryOnly) {
+            query.fields().include(QuestionSummary.FIELDS);
+        }
+        
+        List<Question> questions = mongoTemplate.find(query, Question.class);
+        if (knownTotal != null) {
+            return new PageImpl<>(questions, pageable, knownTotal);
+        }
+        return PageableExecutionUtils.getPage(questions, pageable,
+            () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Question.class));
+    }
+    
+    @Override
+    public Page<Question> searchByRegex(String text, String category, TagFilter tags, Pageable pageable) {
+        String pattern = Pattern.quote(text);
+        Criteria criteria = new Criteria().orOperator(
+            Criteria.where("title").regex(pattern, "i"),
+            Criteria.where("content").regex(pattern, "i"));
+        if (category != null && !category.isEmpty()) {
+            criteria = new Criteria().andOperator(criteria, Criteria.where("category").is(category.toLowerCase()));
+        }
+        criteria = TagFilter.and(criteria, tags);
+        
+        Query query = new Query(criteria).with(pageable);
+        List<Question> questions = mongoTemplate.find(query, Question.class);
+        return PageableExecutionUtils.getPage(questions, pageable,
+            () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Question.class));
+    }
+    
+    @Override
+    public List<String> findDistinctCategories() {
+        return mongoTemplate.findDistinct(new Query(), "category", Question.class, String.class);
+    }
+}
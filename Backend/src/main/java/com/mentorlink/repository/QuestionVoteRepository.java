@@ -0,0 +1,15 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.QuestionVote;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuestionVoteRepository extends MongoRepository<QuestionVote, String> {
+    
+    boolean existsByQuestionIdAndUserId(String questionId, String userId);
+    
+    long deleteByQuestionId(String questionId);
+    
+    long deleteByQuestionIdAndUserId(String questionId, String userId);
+}
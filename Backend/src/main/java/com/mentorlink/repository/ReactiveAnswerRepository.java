@@ -0,0 +1,14 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.Answer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public interface ReactiveAnswerRepository extends ReactiveMongoRepository<Answer, String> {
+    
+    Mono<Long> deleteByQuestionId(String questionId);
+}
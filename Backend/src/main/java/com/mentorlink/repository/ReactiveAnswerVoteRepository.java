@@ -0,0 +1,14 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.AnswerVote;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public interface ReactiveAnswerVoteRepository extends ReactiveMongoRepository<AnswerVote, String> {
+    
+    Mono<Long> deleteByQuestionId(String questionId);
+}
@@ -0,0 +1,11 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.Question;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("reactive")
+public interface ReactiveQuestionRepository extends ReactiveMongoRepository<Question, String> {
+}
@@ -0,0 +1,16 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.QuestionVote;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public interface ReactiveQuestionVoteRepository extends ReactiveMongoRepository<QuestionVote, String> {
+    
+    Mono<Long> deleteByQuestionId(String questionId);
+    
+    Mono<Long> deleteByQuestionIdAndUserId(String questionId, String userId);
+}
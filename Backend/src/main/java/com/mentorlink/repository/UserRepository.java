@@ -0,0 +1,9 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.entity.User;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserRepository extends MongoRepository<User, String> {
+}
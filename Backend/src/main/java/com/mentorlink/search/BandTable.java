@@ -0,0 +1,104 @@
+package com.mentorlink.search;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Multimap from a 32-bit LSH band key to doc ids, as one open-addressed
+ * {@code long[]} (key in the high half, doc + 1 in the low half, 0 for empty)
+ * with linear probing and backward-shift deletion. Most buckets hold one doc,
+ * so this costs about 8 bytes per entry plus slack instead of a boxed map
+ * entry and list per bucket. Not thread-safe.
+ */
+final class BandTable {
+    
+    private long[] slots = new long[1024];
+    private int mask = slots.length - 1;
+    private int size;
+    
+    void add(int key, int doc) {
+        if ((size + 1) * 4 > slots.length * 3) {
+            resize(slots.length * 2);
+        }
+        insert(pack(key, doc));
+        size++;
+    }
+    
+    void remove(int key, int doc) {
+        long entry = pack(key, doc);
+        int i = home(key);
+        while (slots[i] != 0 && slots[i] != entry) {
+            i = (i + 1) & mask;
+        }
+        if (slots[i] == 0) {
+            return;
+        }
+        // Shift later entries of the probe run back into the hole unless they would move before their home slot
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (slots[j] == 0) {
+                break;
+            }
+            int home = home(keyOf(slots[j]));
+            boolean staysPut = i <= j ? (home > i && home <= j) : (home > i || home <= j);
+            if (!staysPut) {
+                slots[i] = slots[j];
+                i = j;
+            }
+        }
+        slots[i] = 0;
+        size--;
+    }
+    
+    /**
+     * Visit the docs stored under {@code key}, stopping after {@code max}
+     */
+    void forEach(int key, int max, IntConsumer action) {
+        int visited = 0;
+        for (int i = home(key); slots[i] != 0 && visited < max; i = (i + 1) & mask) {
+            if (keyOf(slots[i]) == key) {
+                action.accept(docOf(slots[i]));
+                visited++;
+            }
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    private void insert(long entry) {
+        int i = home(keyOf(entry));
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = entry;
+    }
+    
+    private void resize(int capacity) {
+        long[] old = slots;
+        slots = new long[capacity];
+        mask = capacity - 1;
+        for (long entry : old) {
+            if (entry != 0) {
+                insert(entry);
+            }
+        }
+    }
+    
+    private int home(int key) {
+        return (int) MinHash.mix(key) & mask;
+    }
+    
+    private static long pack(int key, int doc) {
+        return ((long) key << 32) | ((doc + 1) & 0xFFFFFFFFL);
+    }
+    
+    private static int keyOf(long entry) {
+        return (int) (entry >>> 32);
+    }
+    
+    private static int docOf(long entry) {
+        return (int) entry - 1;
+    }
+}
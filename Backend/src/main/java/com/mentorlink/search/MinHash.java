@@ -0,0 +1,95 @@
+package com.mentorlink.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MinHash signatures of question text.
+ *
+ * The text's shingles are word pairs from the title and (separately) from the
+ * first {@value #MAX_CONTENT_TOKENS} content tokens, after {@link SearchTokenizer}
+ * normalization. Each of the {@value #SIZE} signature slots keeps the minimum of
+ * one seeded hash over all shingles, so the share of equal slots between two
+ * signatures estimates the Jaccard similarity of their shingle sets.
+ */
+final class MinHash {
+    
+    static final int SIZE = 64;
+    
+    // Bounds the cost of a signature on very long posts; duplicates show in the opening anyway
+    private static final int MAX_CONTENT_TOKENS = 400;
+    
+    private static final long[] SEEDS = new long[SIZE];
+    
+    static {
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+    
+    private MinHash() {
+    }
+    
+    /**
+     * Signature of a question, or null if its text has no terms
+     */
+    static int[] signature(String title, String content) {
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        
+        boolean any = addShingles(signature, SearchTokenizer.tokenize(title));
+        List<String> contentTokens = SearchTokenizer.tokenize(content);
+        if (contentTokens.size() > MAX_CONTENT_TOKENS) {
+            contentTokens = contentTokens.subList(0, MAX_CONTENT_TOKENS);
+        }
+        any |= addShingles(signature, contentTokens);
+        return any ? signature : null;
+    }
+    
+    /**
+     * Share of equal slots, an estimate of the Jaccard similarity
+     */
+    static double similarity(int[] a, int aOffset, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[aOffset + i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+    
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private static boolean addShingles(int[] signature, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return false;
+        }
+        // A one-word text is its own shingle
+        long previous = mix(tokens.get(0).hashCode());
+        if (tokens.size() == 1) {
+            offer(signature, previous);
+        }
+        for (int i = 1; i < tokens.size(); i++) {
+            long current = mix(tokens.get(i).hashCode());
+            offer(signature, previous * 0x9E3779B97F4A7C15L + current);
+            previous = current;
+        }
+        return true;
+    }
+    
+    private static void offer(int[] signature, long shingle) {
+        for (int i = 0; i < SIZE; i++) {
+            int hash = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+            if (hash < signature[i]) {
+                signature[i] = hash;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mentorlink.search;
+
+import java.util.Arrays;
+
+/**
+ * Postings for one term in one field: parallel arrays of doc ids and term
+ * frequencies, sorted by doc id with one posting per doc. New docs get the
+ * highest id so they append; answer text added to an older doc is merged into
+ * its posting, or inserted in place. Removed documents stay in the list until
+ * {@link #compact}; {@link #live} counts the postings of documents not yet removed.
+ */
+final class PostingList {
+    
+    int[] docs = new int[4];
+    int[] freqs = new int[4];
+    int size;
+    int live;
+    
+    /**
+     * Add {@code freq} occurrences of the term in {@code doc}; true if {@code doc} had no posting yet
+     */
+    boolean add(int doc, int freq) {
+        int position = size == 0 || docs[size - 1] < doc ? -(size + 1) : Arrays.binarySearch(docs, 0, size, doc);
+        if (position >= 0) {
+            freqs[position] += freq;
+            return false;
+        }
+        position = -(position + 1);
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        System.arraycopy(docs, position, docs, position + 1, size - position);
+        System.arraycopy(freqs, position, freqs, position + 1, size - position);
+        docs[position] = doc;
+        freqs[position] = freq;
+        size++;
+        live++;
+        return true;
+    }
+    
+    /**
+     * Drop postings of removed documents and renumber the rest; {@code newIds}
+     * maps each old doc id to its new one, or to -1 when the doc was removed
+     */
+    void compact(int[] newIds) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = newIds[docs[i]];
+            if (doc >= 0) {
+                docs[kept] = doc;
+                freqs[kept] = freqs[i];
+                kept++;
+            }
+        }
+        size = kept;
+        live = kept;
+        if (docs.length > 16 && size < docs.length / 4) {
+            docs = Arrays.copyOf(docs, Math.max(4, size * 2));
+            freqs = Arrays.copyOf(freqs, Math.max(4, size * 2));
+        }
+    }
+}
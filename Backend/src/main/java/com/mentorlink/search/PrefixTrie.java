@@ -0,0 +1,205 @@
+package com.mentorlink.search;
+
+import java.util.Arrays;
+
+/**
+ * Character trie over terms, with the doc ids of each term at its end node.
+ *
+ * Every node also caches the best {@code k} docs of its whole subtree, so a
+ * prefix lookup is a walk down the prefix plus a copy of at most {@code k} ids.
+ * Adding a doc offers it to the caches along the term's path. Removing a doc
+ * from a full cache marks that cache stale; it is rebuilt on the next lookup
+ * from the node's own postings and its children's caches.
+ *
+ * A doc's terms must be added and removed together. Not thread-safe for
+ * writes; lookups may run concurrently with each other (a stale rebuild is
+ * idempotent) but not with writes.
+ */
+final class PrefixTrie {
+    
+    /**
+     * Ranking of doc ids; higher first
+     */
+    interface Ranking {
+        int compare(int a, int b);
+    }
+    
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final int[] NO_DOCS = new int[0];
+    
+    static final class Node {
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        int[] postings = NO_DOCS;
+        int postingCount;
+        volatile int[] top = NO_DOCS;
+        volatile boolean stale;
+    }
+    
+    private final Node root = new Node();
+    private final int k;
+    private final Ranking ranking;
+    private int nodeCount = 1;
+    
+    PrefixTrie(int k, Ranking ranking) {
+        this.k = k;
+        this.ranking = ranking;
+    }
+    
+    int nodeCount() {
+        return nodeCount;
+    }
+    
+    void add(String term, int doc) {
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            node = child(node, term.charAt(i), true);
+            offer(node, doc);
+        }
+        if (node.postingCount == node.postings.length) {
+            node.postings = Arrays.copyOf(node.postings, Math.max(2, node.postingCount * 2));
+        }
+        node.postings[node.postingCount++] = doc;
+    }
+    
+    void remove(String term, int doc) {
+        Node node = root;
+        for (int i = 0; i < term.length() && node != null; i++) {
+            node = child(node, term.charAt(i), false);
+            if (node != null) {
+                withdraw(node, doc);
+            }
+        }
+        if (node == null) {
+            return;
+        }
+        for (int i = 0; i < node.postingCount; i++) {
+            if (node.postings[i] == doc) {
+                node.postings[i] = node.postings[--node.postingCount];
+                break;
+            }
+        }
+        // Emptied nodes are kept; they are dropped on the next rebuild
+    }
+    
+    /**
+     * The best docs among all terms starting with {@code prefix}, best first
+     */
+    int[] top(String prefix) {
+        Node node = find(prefix);
+        return node == null ? NO_DOCS : topOf(node);
+    }
+    
+    /**
+     * Number of docs with exactly {@code term}
+     */
+    int postingCount(String term) {
+        Node node = find(term);
+        return node == null ? 0 : node.postingCount;
+    }
+    
+    /**
+     * Up to {@code max} docs with exactly {@code term}, unordered
+     */
+    int[] postings(String term, int max) {
+        Node node = find(term);
+        return node == null ? NO_DOCS : Arrays.copyOf(node.postings, Math.min(max, node.postingCount));
+    }
+    
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = child(node, prefix.charAt(i), false);
+        }
+        return node;
+    }
+    
+    private int[] topOf(Node node) {
+        if (!node.stale) {
+            return node.top;
+        }
+        int[] best = NO_DOCS;
+        for (int i = 0; i < node.postingCount; i++) {
+            best = insert(best, node.postings[i]);
+        }
+        for (Node child : node.children) {
+            for (int doc : topOf(child)) {
+                best = insert(best, doc);
+            }
+        }
+        node.top = best;
+        node.stale = false;
+        return best;
+    }
+    
+    private void offer(Node node, int doc) {
+        if (!node.stale) {
+            node.top = insert(node.top, doc);
+        }
+    }
+    
+    private void withdraw(Node node, int doc) {
+        int[] top = node.top;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == doc) {
+                int[] shrunk = new int[top.length - 1];
+                System.arraycopy(top, 0, shrunk, 0, i);
+                System.arraycopy(top, i + 1, shrunk, i, top.length - i - 1);
+                node.top = shrunk;
+                // A full cache may have had a next-best doc that it did not keep
+                if (top.length == k) {
+                    node.stale = true;
+                }
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Copy of {@code top} with {@code doc} inserted in rank order, capped at k entries
+     */
+    private int[] insert(int[] top, int doc) {
+        for (int existing : top) {
+            // Several terms of one doc can share a prefix
+            if (existing == doc) {
+                return top;
+            }
+        }
+        int position = top.length;
+        while (position > 0 && ranking.compare(doc, top[position - 1]) > 0) {
+            position--;
+        }
+        if (position >= k) {
+            return top;
+        }
+        int[] result = new int[Math.min(k, top.length + 1)];
+        System.arraycopy(top, 0, result, 0, position);
+        result[position] = doc;
+        System.arraycopy(top, position, result, position + 1, result.length - position - 1);
+        return result;
+    }
+    
+    private Node child(Node node, char label, boolean create) {
+        int index = Arrays.binarySearch(node.labels, label);
+        if (index >= 0) {
+            return node.children[index];
+        }
+        if (!create) {
+            return null;
+        }
+        int insertAt = -index - 1;
+        char[] labels = new char[node.labels.length + 1];
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.labels, 0, labels, 0, insertAt);
+        System.arraycopy(node.children, 0, children, 0, insertAt);
+        labels[insertAt] = label;
+        children[insertAt] = new Node();
+        System.arraycopy(node.labels, insertAt, labels, insertAt + 1, node.labels.length - insertAt);
+        System.arraycopy(node.children, insertAt, children, insertAt + 1, node.children.length - insertAt);
+        node.labels = labels;
+        node.children = children;
+        nodeCount++;
+        return children[insertAt];
+    }
+}
@@ -0,0 +1,589 @@
+package com.mentorlink.search;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over forum questions with BM25 ranking.
+ *
+ * Title, content (question body plus answer text) and tags each get their own posting
+ * lists and length statistics; category and each exact tag are kept as doc-id
+ * bitsets and used as filters. Updates re-index the whole question under a new doc id and
+ * tombstone the old one. Once tombstones make up a quarter of the index, compaction
+ * drops their postings and renumbers the live docs from zero, so doc ids, the per-doc
+ * arrays and the bitsets stay proportional to the live questions, not to every write.
+ * Each doc remembers which answers its content holds, so an answer seen again (from
+ * this instance's own write echoed by the change stream, or a resync) is not added twice.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionSearchIndex.class);
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private static final int REBUILD_BATCH = 500;
+    
+    enum Field {
+        TITLE(3.0), CONTENT(1.0), TAGS(2.0);
+        
+        final double weight;
+        
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    private final ColdQuestionStore coldStore;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final List<Map<String, PostingList>> postings = new ArrayList<>();
+    private final Map<String, BitSet> categories = new HashMap<>();
+    private final Map<String, BitSet> tagDocs = new HashMap<>();
+    private final Map<String, Integer> docByQuestionId = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private String[] questionIds = new String[1024];
+    private String[] docCategories = new String[1024];
+    private List<String>[] docTags = newTagArray(1024);
+    // Hashes of the ids of the answers in each doc's content
+    private int[][] docAnswers = new int[1024][];
+    // Posting lists each doc appears in, so removing it keeps their live document frequencies exact
+    private PostingList[][] docPostings = new PostingList[1024][];
+    private int[][] fieldLengths = new int[Field.values().length][1024];
+    private final long[] totalFieldLengths = new long[Field.values().length];
+    private int nextDoc;
+    private int liveDocs;
+    private int tombstones;
+    
+    // Questions removed while the startup rebuild is running, so it does not resurrect them
+    private final Set<String> removedDuringRebuild = new HashSet<>();
+    private volatile boolean ready;
+    
+    // Score accumulators are borrowed per query, so the pool only grows with peak search concurrency
+    private final ConcurrentLinkedQueue<float[]> scratchPool = new ConcurrentLinkedQueue<>();
+    
+    {
+        for (int i = 0; i < Field.values().length; i++) {
+            postings.add(new HashMap<>());
+        }
+    }
+    
+    /**
+     * Whether the startup rebuild has finished and search can be served from the index
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        return liveDocs;
+    }
+    
+    /**
+     * Snapshot of the ids of every indexed question
+     */
+    public Set<String> questionIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docByQuestionId.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Add or replace a question in the index, together with its answers (only their ids and content are read)
+     */
+    public void index(Question question, List<Answer> answers) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(question.getId());
+            addLocked(question, answers);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Add or replace several questions under one lock hold; {@code answers} maps question ids to their answers
+     */
+    public void indexAll(List<Question> questions, Map<String, List<Answer>> answers) {
+        lock.writeLock().lock();
+        try {
+            for (Question question : questions) {
+                removeLocked(question.getId());
+                addLocked(question, answers.getOrDefault(question.getId(), Collections.emptyList()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Add an answer's text to an already indexed question, unless the question already holds it
+     */
+    public void appendAnswer(String questionId, Answer answer) {
+        lock.writeLock().lock();
+        try {
+            appendLocked(questionId, answer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove a question from the index
+     */
+    public void remove(String questionId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(questionId);
+            if (!ready) {
+                removedDuringRebuild.add(questionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Rank questions matching any query term, optionally restricted to one category
+     * and to a tag filter. Returns the ids for the requested page in score order.
+     */
+    public SearchResult search(String query, String category, TagFilter tags, int page, int limit) {
+        List<String> terms = new ArrayList<>(new HashSet<>(SearchTokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        
+        lock.readLock().lock();
+        try {
+            BitSet filter = null;
+            if (category != null && !category.isEmpty()) {
+                filter = categories.get(category.toLowerCase());
+                if (filter == null) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+            }
+            if (tags != null) {
+                BitSet tagged = tagFilterLocked(tags);
+                if (filter != null) {
+                    tagged.and(filter);
+                }
+                if (tagged.isEmpty()) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+                filter = tagged;
+            }
+            
+            float[] scores = borrowScratch(nextDoc);
+            BitSet touched = new BitSet(nextDoc);
+            
+            for (Field field : Field.values()) {
+                double avgLength = liveDocs == 0 ? 1 : Math.max(1.0, (double) totalFieldLengths[field.ordinal()] / liveDocs);
+                int[] lengths = fieldLengths[field.ordinal()];
+                
+                for (String term : terms) {
+                    PostingList list = postings.get(field.ordinal()).get(term);
+                    if (list == null) {
+                        continue;
+                    }
+                    // Live document frequency, so tombstones awaiting compaction cannot push idf below zero
+                    double idf = Math.max(0, Math.log(1 + (liveDocs - list.live + 0.5) / (list.live + 0.5)));
+                    
+                    for (int i = 0; i < list.size; i++) {
+                        int doc = list.docs[i];
+                        if (!live.get(doc) || (filter != null && !filter.get(doc))) {
+                            continue;
+                        }
+                        int tf = list.freqs[i];
+                        double norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+                        scores[doc] += (float) (field.weight * idf * tf * (K1 + 1) / (tf + norm));
+                        touched.set(doc);
+                    }
+                }
+            }
+            
+            int wanted = Math.max(0, page) * limit;
+            int skip = Math.max(0, page - 1) * limit;
+            // Min-heap on score; newer doc wins ties
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, wanted), (a, b) -> {
+                int cmp = Float.compare(scores[a], scores[b]);
+                return cmp != 0 ? cmp : Integer.compare(a, b);
+            });
+            
+            long totalHits = 0;
+            for (int doc = touched.nextSetBit(0); doc >= 0; doc = touched.nextSetBit(doc + 1)) {
+                totalHits++;
+                if (wanted > 0) {
+                    top.offer(doc);
+                    if (top.size() > wanted) {
+                        top.poll();
+                    }
+                }
+            }
+            
+            int[] ranked = new int[top.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = top.poll();
+            }
+            
+            List<String> ids = new ArrayList<>();
+            for (int i = skip; i < ranked.length; i++) {
+                ids.add(questionIds[ranked[i]]);
+            }
+            
+            for (int doc = touched.nextSetBit(0); doc >= 0; doc = touched.nextSetBit(doc + 1)) {
+                scores[doc] = 0f;
+            }
+            scratchPool.offer(scores);
+            return new SearchResult(ids, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Build the index from every stored question, hot and archived. Runs once at startup; until it
+     * finishes {@link #isReady()} is false and callers fall back to Mongo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Query query = new Query();
+        query.fields().include("title").include("content").include("category").include("tags");
+        
+        // Questions are indexed in batches together with their answers, read with one query per batch
+        int indexed = 0;
+        List<Question> batch = new ArrayList<>(REBUILD_BATCH);
+        try (CloseableIterator<Question> questions = mongoTemplate.stream(query, Question.class)) {
+            while (questions.hasNext()) {
+                batch.add(questions.next());
+                if (batch.size() == REBUILD_BATCH) {
+                    indexed += indexBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        indexed += indexBatch(batch);
+        
+        // Archived questions stay searchable; their answers are stored with them
+        int[] archived = new int[1];
+        coldStore.forEachSearchable((question, answers) -> {
+            lock.writeLock().lock();
+            try {
+                // A question left in both tiers by an interrupted promotion was indexed by the hot pass
+                if (!docByQuestionId.containsKey(question.getId())
+                    && !removedDuringRebuild.contains(question.getId())) {
+                    addLocked(question, answers);
+                    archived[0]++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        
+        lock.writeLock().lock();
+        try {
+            removedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("✅ [FORUM - JAVA] Search index built with {} questions and {} archived ones in {} ms",
+            indexed, archived[0], System.currentTimeMillis() - start);
+    }
+    
+    private int indexBatch(List<Question> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<String> ids = new ArrayList<>(batch.size());
+        for (Question question : batch) {
+            ids.add(question.getId());
+        }
+        Query answerQuery = new Query(Criteria.where("questionId").in(ids));
+        answerQuery.fields().include("questionId").include("content");
+        Map<String, List<Answer>> answers = new HashMap<>();
+        for (Answer answer : mongoTemplate.find(answerQuery, Answer.class)) {
+            answers.computeIfAbsent(answer.getQuestionId(), id -> new ArrayList<>()).add(answer);
+        }
+        
+        int indexed = 0;
+        lock.writeLock().lock();
+        try {
+            for (Question question : batch) {
+                // A live write may already have indexed a newer version with its answers, or deleted it
+                if (!docByQuestionId.containsKey(question.getId())
+                    && !removedDuringRebuild.contains(question.getId())) {
+                    addLocked(question, answers.getOrDefault(question.getId(), Collections.emptyList()));
+                    indexed++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return indexed;
+    }
+    
+    private void addLocked(Question question, List<Answer> answers) {
+        int doc = nextDoc++;
+        ensureCapacity(doc + 1);
+        
+        questionIds[doc] = question.getId();
+        docByQuestionId.put(question.getId(), doc);
+        live.set(doc);
+        liveDocs++;
+        
+        StringBuilder content = new StringBuilder(question.getContent() == null ? "" : question.getContent());
+        int[] answerKeys = new int[answers.size()];
+        for (int i = 0; i < answers.size(); i++) {
+            content.append(' ').append(answers.get(i).getContent());
+            answerKeys[i] = answerKey(answers.get(i));
+        }
+        docAnswers[doc] = answerKeys;
+        
+        List<PostingList> lists = new ArrayList<>();
+        addField(Field.TITLE, doc, SearchTokenizer.tokenize(question.getTitle()), lists);
+        addField(Field.CONTENT, doc, SearchTokenizer.tokenize(content.toString()), lists);
+        addField(Field.TAGS, doc, SearchTokenizer.tokenize(
+            question.getTags() == null ? "" : String.join(" ", question.getTags())), lists);
+        docPostings[doc] = lists.toArray(new PostingList[0]);
+        
+        docCategories[doc] = question.getCategory();
+        if (question.getCategory() != null) {
+            categories.computeIfAbsent(question.getCategory(), c -> new BitSet()).set(doc);
+        }
+        
+        List<String> tags = TagFilter.normalize(question.getTags());
+        docTags[doc] = tags;
+        for (String tag : tags) {
+            tagDocs.computeIfAbsent(tag, t -> new BitSet()).set(doc);
+        }
+    }
+    
+    /**
+     * Docs carrying any (or all) of the filter's tags, as a new bitset the caller may modify
+     */
+    private BitSet tagFilterLocked(TagFilter filter) {
+        BitSet result = null;
+        for (String tag : filter.getTags()) {
+            BitSet docs = tagDocs.get(tag);
+            if (docs == null) {
+                if (filter.isMatchAll()) {
+                    return new BitSet();
+                }
+                continue;
+            }
+            if (result == null) {
+                result = (BitSet) docs.clone();
+            } else if (filter.isMatchAll()) {
+                result.and(docs);
+            } else {
+                result.or(docs);
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+    
+    private void appendLocked(String questionId, Answer answer) {
+        Integer doc = docByQuestionId.get(questionId);
+        if (doc == null) {
+            return;
+        }
+        int key = answerKey(answer);
+        int[] keys = docAnswers[doc];
+        for (int existing : keys) {
+            if (existing == key) {
+                return;
+            }
+        }
+        keys = Arrays.copyOf(keys, keys.length + 1);
+        keys[keys.length - 1] = key;
+        docAnswers[doc] = keys;
+        
+        List<String> tokens = SearchTokenizer.tokenize(answer.getContent());
+        fieldLengths[Field.CONTENT.ordinal()][doc] += tokens.size();
+        totalFieldLengths[Field.CONTENT.ordinal()] += tokens.size();
+        List<PostingList> lists = new ArrayList<>(Arrays.asList(docPostings[doc]));
+        addPostings(Field.CONTENT, doc, tokens, lists);
+        docPostings[doc] = lists.toArray(new PostingList[0]);
+    }
+    
+    private void addField(Field field, int doc, List<String> tokens, List<PostingList> lists) {
+        fieldLengths[field.ordinal()][doc] = tokens.size();
+        totalFieldLengths[field.ordinal()] += tokens.size();
+        addPostings(field, doc, tokens, lists);
+    }
+    
+    /**
+     * Add the doc's postings for {@code tokens}, collecting into {@code lists} those it was not in yet
+     */
+    private void addPostings(Field field, int doc, List<String> tokens, List<PostingList> lists) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        Map<String, PostingList> fieldPostings = postings.get(field.ordinal());
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            PostingList list = fieldPostings.computeIfAbsent(entry.getKey(), t -> new PostingList());
+            if (list.add(doc, entry.getValue())) {
+                lists.add(list);
+            }
+        }
+    }
+    
+    private void removeLocked(String questionId) {
+        Integer doc = docByQuestionId.remove(questionId);
+        if (doc == null) {
+            return;
+        }
+        
+        live.clear(doc);
+        liveDocs--;
+        questionIds[doc] = null;
+        docAnswers[doc] = null;
+        for (PostingList list : docPostings[doc]) {
+            list.live--;
+        }
+        docPostings[doc] = null;
+        for (Field field : Field.values()) {
+            totalFieldLengths[field.ordinal()] -= fieldLengths[field.ordinal()][doc];
+        }
+        if (docCategories[doc] != null) {
+            categories.get(docCategories[doc]).clear(doc);
+            docCategories[doc] = null;
+        }
+        if (docTags[doc] != null) {
+            for (String tag : docTags[doc]) {
+                BitSet docs = tagDocs.get(tag);
+                docs.clear(doc);
+                if (docs.isEmpty()) {
+                    tagDocs.remove(tag);
+                }
+            }
+            docTags[doc] = null;
+        }
+        
+        tombstones++;
+        if (tombstones > 1024 && tombstones > liveDocs / 4) {
+            compactLocked();
+        }
+    }
+    
+    private void compactLocked() {
+        // Live docs keep their relative order, so every posting list stays sorted by doc id
+        int[] newIds = new int[nextDoc];
+        int next = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (!live.get(doc)) {
+                newIds[doc] = -1;
+                continue;
+            }
+            newIds[doc] = next;
+            questionIds[next] = questionIds[doc];
+            docCategories[next] = docCategories[doc];
+            docTags[next] = docTags[doc];
+            docAnswers[next] = docAnswers[doc];
+            docPostings[next] = docPostings[doc];
+            for (int[] lengths : fieldLengths) {
+                lengths[next] = lengths[doc];
+            }
+            next++;
+        }
+        Arrays.fill(questionIds, next, nextDoc, null);
+        Arrays.fill(docCategories, next, nextDoc, null);
+        Arrays.fill(docTags, next, nextDoc, null);
+        Arrays.fill(docAnswers, next, nextDoc, null);
+        Arrays.fill(docPostings, next, nextDoc, null);
+        
+        for (Map<String, PostingList> fieldPostings : postings) {
+            fieldPostings.values().removeIf(list -> {
+                list.compact(newIds);
+                return list.size == 0;
+            });
+        }
+        
+        categories.clear();
+        tagDocs.clear();
+        for (int doc = 0; doc < next; doc++) {
+            docByQuestionId.put(questionIds[doc], doc);
+            if (docCategories[doc] != null) {
+                categories.computeIfAbsent(docCategories[doc], c -> new BitSet()).set(doc);
+            }
+            for (String tag : docTags[doc]) {
+                tagDocs.computeIfAbsent(tag, t -> new BitSet()).set(doc);
+            }
+        }
+        live.clear();
+        live.set(0, next);
+        nextDoc = next;
+        tombstones = 0;
+    }
+    
+    private void ensureCapacity(int docs) {
+        if (docs <= questionIds.length) {
+            return;
+        }
+        int capacity = Math.max(docs, questionIds.length * 2);
+        questionIds = Arrays.copyOf(questionIds, capacity);
+        docCategories = Arrays.copyOf(docCategories, capacity);
+        docTags = Arrays.copyOf(docTags, capacity);
+        docAnswers = Arrays.copyOf(docAnswers, capacity);
+        docPostings = Arrays.copyOf(docPostings, capacity);
+        for (int i = 0; i < fieldLengths.length; i++) {
+            fieldLengths[i] = Arrays.copyOf(fieldLengths[i], capacity);
+        }
+    }
+    
+    /**
+     * 32-bit hash of the answer id; a collision among one question's answers would only drop a
+     * duplicate-looking answer from search until the question is next re-indexed
+     */
+    private static int answerKey(Answer answer) {
+        return answer.getId() == null ? 0 : answer.getId().hashCode();
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<String>[] newTagArray(int size) {
+        return (List<String>[]) new List[size];
+    }
+    
+    private float[] borrowScratch(int docs) {
+        float[] scores = scratchPool.poll();
+        if (scores == null || scores.length < docs) {
+            scores = new float[Math.max(docs, 1024) + docs / 4];
+        }
+        return scores;
+    }
+}
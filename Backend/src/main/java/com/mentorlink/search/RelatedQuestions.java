@@ -0,0 +1,575 @@
+package com.mentorlink.search;
+
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.entity.Question;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed "related questions" from sparse TF-IDF vectors.
+ *
+ * Each question keeps its term counts (title x3, tags x2, the first
+ * {@value #MAX_CONTENT_TOKENS} content tokens x1) and a normalized vector of its
+ * {@value #VECTOR_TERMS} highest-weighted terms; those vector entries are also
+ * posted under their terms. A question's neighbors are found by walking the
+ * postings of its {@value #QUERY_TERMS} strongest terms and summing weight
+ * products, i.e. cosine similarity over the pruned vectors; very long posting
+ * lists are only walked in part.
+ *
+ * Neighbor lists are kept in a concurrent map, so {@link #related} is a single
+ * lookup. Creates and edits re-vectorize the question at once and queue it;
+ * every {@code forum.related.refresh-interval-ms} the queue is drained, each
+ * queued question gets a fresh list and is offered to its neighbors' lists. The
+ * same batch re-weights the next {@code forum.related.sweep-batch} questions
+ * round-robin, so vectors follow document frequencies as the corpus grows.
+ *
+ * Estimated memory is about 1.1 KB per question (term counts ~250 B, vector and
+ * postings ~350 B, id and title ~250 B, neighbor list ~250 B), about 550 MB at
+ * 500k questions.
+ */
+@Component
+public class RelatedQuestions {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RelatedQuestions.class);
+    
+    private static final int MAX_CONTENT_TOKENS = 200;
+    private static final int VECTOR_TERMS = 16;
+    private static final int QUERY_TERMS = 8;
+    
+    // A term posted for more questions than this says little about any one of them;
+    // only this many of its postings are walked
+    private static final int MAX_POSTINGS_WALK = 2000;
+    
+    // Lists recomputed per read-lock hold, so a full refresh does not stall writers for long
+    private static final int RECOMPUTE_CHUNK = 4096;
+    
+    // Term counts are packed as term id << 8 | count
+    private static final int MAX_TERM_ID = (1 << 24) - 1;
+    private static final int MAX_COUNT = 255;
+    
+    private static final float[] NO_WEIGHTS = new float[0];
+    private static final int[] NO_TERMS = new int[0];
+    
+    private static final class Postings {
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        int size;
+        
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+        
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    size--;
+                    docs[i] = docs[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+    
+    // Per-thread score accumulator for one neighbor search
+    private static final class Scores {
+        float[] scores = new float[0];
+        int[] touched = new int[256];
+        int touchedCount;
+        
+        void ensure(int docs) {
+            if (scores.length < docs) {
+                scores = new float[Math.max(docs, scores.length * 2)];
+            }
+        }
+        
+        void add(int doc, float value) {
+            if (scores[doc] == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = doc;
+            }
+            scores[doc] += value;
+        }
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    private final int neighborCount;
+    private final double minScore;
+    private final int sweepBatch;
+    private final Timer refreshTimer;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private int[] documentFrequencies = new int[1024];
+    
+    private final Map<String, Integer> docByQuestionId = new HashMap<>();
+    private String[] questionIds = new String[1024];
+    private String[] titles = new String[1024];
+    private int[][] termCounts = new int[1024][];
+    private int[][] vectorTerms = new int[1024][];
+    private float[][] vectorWeights = new float[1024][];
+    private int[] freeDocs = new int[64];
+    private int freeCount;
+    private int nextDoc;
+    private int liveDocs;
+    private int sweepCursor;
+    
+    private final Map<String, List<RelatedQuestion>> neighbors = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Scores> scores = ThreadLocal.withInitial(Scores::new);
+    
+    // Questions removed while the startup rebuild is running, so it does not resurrect them
+    private final Set<String> removedDuringRebuild = new HashSet<>();
+    private volatile boolean ready;
+    
+    public RelatedQuestions(
+        MongoTemplate mongoTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${forum.related.count:5}") int neighborCount,
+        @Value("${forum.related.min-score:0.1}") double minScore,
+        @Value("${forum.related.sweep-batch:2000}") int sweepBatch) {
+        this.mongoTemplate = mongoTemplate;
+        this.neighborCount = neighborCount;
+        this.minScore = minScore;
+        this.sweepBatch = sweepBatch;
+        this.refreshTimer = Timer.builder("forum.related.refresh")
+            .description("Time to recompute queued related-question lists")
+            .register(meterRegistry);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Related questions of a question, most similar first; empty until computed
+     */
+    public List<RelatedQuestion> related(String questionId) {
+        List<RelatedQuestion> list = neighbors.getOrDefault(questionId, Collections.emptyList());
+        // Lists are not symmetric, so a removed question can linger in lists that
+        // were not queued; only live questions have a list of their own
+        for (RelatedQuestion neighbor : list) {
+            if (!neighbors.containsKey(neighbor.getId())) {
+                return list.stream()
+                    .filter(candidate -> neighbors.containsKey(candidate.getId()))
+                    .collect(Collectors.toList());
+            }
+        }
+        return list;
+    }
+    
+    /**
+     * Add or replace a question. Its related list, and the lists it used to
+     * appear in, are recomputed on the next refresh.
+     */
+    public void index(Question question) {
+        Map<String, Integer> counts = countTerms(question);
+        lock.writeLock().lock();
+        try {
+            removeLocked(question.getId());
+            int doc = addLocked(question.getId(), question.getTitle(), counts);
+            vectorizeLocked(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        pending.add(question.getId());
+        queueNeighbors(question.getId());
+    }
+    
+    /**
+     * Add or replace several questions under one lock hold; terms are counted before taking it
+     */
+    public void indexAll(List<Question> questions) {
+        List<Map<String, Integer>> counts = new ArrayList<>(questions.size());
+        for (Question question : questions) {
+            counts.add(countTerms(question));
+        }
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < questions.size(); i++) {
+                Question question = questions.get(i);
+                removeLocked(question.getId());
+                vectorizeLocked(addLocked(question.getId(), question.getTitle(), counts.get(i)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (Question question : questions) {
+            pending.add(question.getId());
+            queueNeighbors(question.getId());
+        }
+    }
+    
+    /**
+     * Remove a question. Lists it appears in stop showing it at once; its own
+     * neighbors' lists are recomputed on the next refresh, others as the sweep reaches them.
+     */
+    public void remove(String questionId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(questionId);
+            if (!ready) {
+                removedDuringRebuild.add(questionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        pending.remove(questionId);
+        queueNeighbors(questionId);
+        neighbors.remove(questionId);
+    }
+    
+    /**
+     * Recompute the lists of queued questions plus the next sweep batch
+     */
+    @Scheduled(initialDelayString = "${forum.related.refresh-interval-ms:5000}",
+        fixedDelayString = "${forum.related.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        List<String> batch = new ArrayList<>();
+        for (Iterator<String> it = pending.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+        }
+        
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < sweepBatch && nextDoc > 0; i++) {
+                int doc = sweepCursor++ % nextDoc;
+                if (questionIds[doc] != null) {
+                    vectorizeLocked(doc);
+                    batch.add(questionIds[doc]);
+                }
+            }
+            sweepCursor %= Math.max(nextDoc, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        refreshTimer.record(() -> recompute(batch, true));
+    }
+    
+    /**
+     * Recompute every related list, in parallel
+     */
+    public void refreshAll() {
+        List<String> all;
+        lock.readLock().lock();
+        try {
+            all = new ArrayList<>(docByQuestionId.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+        recompute(all, false);
+    }
+    
+    /**
+     * Build from every stored question. Runs once at startup: term counts first,
+     * then vectors against the final document frequencies, then every list.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Query query = new Query();
+        query.fields().include("title").include("content").include("tags");
+        
+        int indexed = 0;
+        try (CloseableIterator<Question> questions = mongoTemplate.stream(query, Question.class)) {
+            while (questions.hasNext()) {
+                Question question = questions.next();
+                Map<String, Integer> counts = countTerms(question);
+                lock.writeLock().lock();
+                try {
+                    // A live write may already have indexed a newer version, or deleted it
+                    if (!docByQuestionId.containsKey(question.getId())
+                        && !removedDuringRebuild.contains(question.getId())) {
+                        addLocked(question.getId(), question.getTitle(), counts);
+                        indexed++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+        
+        lock.writeLock().lock();
+        try {
+            for (int doc = 0; doc < nextDoc; doc++) {
+                if (questionIds[doc] != null) {
+                    vectorizeLocked(doc);
+                }
+            }
+            removedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        pending.clear();
+        refreshAll();
+        ready = true;
+        logger.info("✅ [FORUM - JAVA] Related questions built for {} questions, {} terms in {} ms",
+            indexed, termIds.size(), System.currentTimeMillis() - start);
+    }
+    
+    private void recompute(List<String> batch, boolean offerToNeighbors) {
+        for (int from = 0; from < batch.size(); from += RECOMPUTE_CHUNK) {
+            List<String> chunk = batch.subList(from, Math.min(batch.size(), from + RECOMPUTE_CHUNK));
+            lock.readLock().lock();
+            try {
+                // The pool's workers read under the lock held here; writers wait for the whole chunk
+                IntStream.range(0, chunk.size()).parallel().forEach(i -> {
+                    String questionId = chunk.get(i);
+                    Integer doc = docByQuestionId.get(questionId);
+                    if (doc == null) {
+                        return;
+                    }
+                    List<RelatedQuestion> list = findNeighborsLocked(doc);
+                    neighbors.put(questionId, list);
+                    if (offerToNeighbors) {
+                        for (RelatedQuestion neighbor : list) {
+                            offer(neighbor.getId(), questionId, titles[doc], neighbor.getScore());
+                        }
+                    }
+                });
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+    
+    private List<RelatedQuestion> findNeighborsLocked(int doc) {
+        Scores acc = scores.get();
+        acc.ensure(nextDoc);
+        int[] terms = vectorTerms[doc];
+        float[] weights = vectorWeights[doc];
+        for (int i = 0; i < Math.min(QUERY_TERMS, terms.length); i++) {
+            Postings list = postings.get(terms[i]);
+            int walk = Math.min(list.size, MAX_POSTINGS_WALK);
+            for (int p = 0; p < walk; p++) {
+                acc.add(list.docs[p], weights[i] * list.weights[p]);
+            }
+        }
+        
+        int[] best = new int[neighborCount];
+        float[] bestScores = new float[neighborCount];
+        int found = 0;
+        for (int t = 0; t < acc.touchedCount; t++) {
+            int other = acc.touched[t];
+            float score = acc.scores[other];
+            acc.scores[other] = 0;
+            if (other == doc || score < minScore) {
+                continue;
+            }
+            if (found < neighborCount || score > bestScores[found - 1]) {
+                int position = Math.min(found, neighborCount - 1);
+                while (position > 0 && bestScores[position - 1] < score) {
+                    best[position] = best[position - 1];
+                    bestScores[position] = bestScores[position - 1];
+                    position--;
+                }
+                best[position] = other;
+                bestScores[position] = score;
+                found = Math.min(found + 1, neighborCount);
+            }
+        }
+        acc.touchedCount = 0;
+        
+        List<RelatedQuestion> list = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            list.add(new RelatedQuestion(questionIds[best[i]], titles[best[i]], bestScores[i]));
+        }
+        return list;
+    }
+    
+    /**
+     * Put a candidate into the list of {@code questionId} if it ranks there
+     */
+    private void offer(String questionId, String candidateId, String candidateTitle, double score) {
+        neighbors.computeIfPresent(questionId, (id, list) -> {
+            List<RelatedQuestion> updated = new ArrayList<>(list.size() + 1);
+            for (RelatedQuestion existing : list) {
+                if (!existing.getId().equals(candidateId)) {
+                    updated.add(existing);
+                }
+            }
+            int position = 0;
+            while (position < updated.size() && updated.get(position).getScore() >= score) {
+                position++;
+            }
+            if (position >= neighborCount) {
+                return list;
+            }
+            updated.add(position, new RelatedQuestion(candidateId, candidateTitle, score));
+            if (updated.size() > neighborCount) {
+                updated.remove(updated.size() - 1);
+            }
+            return updated;
+        });
+    }
+    
+    private void queueNeighbors(String questionId) {
+        for (RelatedQuestion neighbor : related(questionId)) {
+            pending.add(neighbor.getId());
+        }
+    }
+    
+    private Map<String, Integer> countTerms(Question question) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(question.getTitle())) {
+            counts.merge(token, 3, Integer::sum);
+        }
+        if (question.getTags() != null) {
+            for (String token : SearchTokenizer.tokenize(String.join(" ", question.getTags()))) {
+                counts.merge(token, 2, Integer::sum);
+            }
+        }
+        List<String> content = SearchTokenizer.tokenize(question.getContent());
+        for (String token : content.subList(0, Math.min(MAX_CONTENT_TOKENS, content.size()))) {
+            counts.merge(token, 1, Integer::sum);
+        }
+        return counts;
+    }
+    
+    private int addLocked(String questionId, String title, Map<String, Integer> counts) {
+        int doc = freeCount > 0 ? freeDocs[--freeCount] : nextDoc++;
+        ensureCapacity(doc + 1);
+        
+        questionIds[doc] = questionId;
+        titles[doc] = title;
+        docByQuestionId.put(questionId, doc);
+        liveDocs++;
+        
+        int[] packed = new int[counts.size()];
+        int size = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            Integer id = termIds.get(entry.getKey());
+            if (id == null) {
+                if (termIds.size() > MAX_TERM_ID) {
+                    continue;
+                }
+                id = termIds.size();
+                termIds.put(entry.getKey(), id);
+                postings.add(new Postings());
+                if (id == documentFrequencies.length) {
+                    documentFrequencies = Arrays.copyOf(documentFrequencies, id * 2);
+                }
+            }
+            documentFrequencies[id]++;
+            packed[size++] = id << 8 | Math.min(entry.getValue(), MAX_COUNT);
+        }
+        termCounts[doc] = size == packed.length ? packed : Arrays.copyOf(packed, size);
+        vectorTerms[doc] = NO_TERMS;
+        vectorWeights[doc] = NO_WEIGHTS;
+        return doc;
+    }
+    
+    private void removeLocked(String questionId) {
+        Integer doc = docByQuestionId.remove(questionId);
+        if (doc == null) {
+            return;
+        }
+        for (int term : vectorTerms[doc]) {
+            postings.get(term).remove(doc);
+        }
+        for (int packed : termCounts[doc]) {
+            documentFrequencies[packed >>> 8]--;
+        }
+        questionIds[doc] = null;
+        titles[doc] = null;
+        termCounts[doc] = null;
+        vectorTerms[doc] = null;
+        vectorWeights[doc] = null;
+        liveDocs--;
+        
+        if (freeCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, freeCount * 2);
+        }
+        freeDocs[freeCount++] = doc;
+    }
+    
+    /**
+     * Recompute a question's pruned vector against the current document
+     * frequencies and re-post it
+     */
+    private void vectorizeLocked(int doc) {
+        for (int term : vectorTerms[doc]) {
+            postings.get(term).remove(doc);
+        }
+        
+        int[] packed = termCounts[doc];
+        float[] weights = new float[packed.length];
+        Integer[] order = new Integer[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            int df = documentFrequencies[packed[i] >>> 8];
+            double idf = Math.log(1.0 + (double) liveDocs / Math.max(df, 1));
+            weights[i] = (float) ((1 + Math.log(packed[i] & MAX_COUNT)) * idf);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(weights[b], weights[a]));
+        
+        int size = Math.min(VECTOR_TERMS, packed.length);
+        double norm = 0;
+        for (int i = 0; i < size; i++) {
+            norm += weights[order[i]] * weights[order[i]];
+        }
+        norm = Math.sqrt(norm);
+        
+        int[] terms = new int[size];
+        float[] vector = new float[size];
+        for (int i = 0; i < size; i++) {
+            terms[i] = packed[order[i]] >>> 8;
+            vector[i] = norm > 0 ? (float) (weights[order[i]] / norm) : 0;
+            postings.get(terms[i]).add(doc, vector[i]);
+        }
+        vectorTerms[doc] = terms;
+        vectorWeights[doc] = vector;
+    }
+    
+    private void ensureCapacity(int docs) {
+        if (docs <= questionIds.length) {
+            return;
+        }
+        int capacity = Math.max(docs, questionIds.length * 2);
+        questionIds = Arrays.copyOf(questionIds, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        termCounts = Arrays.copyOf(termCounts, capacity);
+        vectorTerms = Arrays.copyOf(vectorTerms, capacity);
+        vectorWeights = Arrays.copyOf(vectorWeights, capacity);
+    }
+}
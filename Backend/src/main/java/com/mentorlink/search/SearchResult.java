@@ -0,0 +1,20 @@
+package com.mentorlink.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of ranked question ids plus the total number of matching questions
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResult {
+    
+    private List<String> questionIds;
+    
+    private long totalHits;
+}
@@ -0,0 +1,64 @@
+package com.mentorlink.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into normalized search terms: Unicode-folded, lowercased,
+ * accents stripped, split on anything that is not a letter or digit, with
+ * common English stopwords removed.
+ */
+public final class SearchTokenizer {
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into",
+        "is", "it", "no", "not", "of", "on", "or", "such", "that", "the", "their", "then",
+        "there", "these", "they", "this", "to", "was", "will", "with", "i", "how", "what", "do"
+    );
+    
+    private SearchTokenizer() {
+    }
+    
+    public static boolean isStopword(String token) {
+        return STOPWORDS.contains(token);
+    }
+    
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+    
+    /**
+     * Tokenize, optionally keeping stopwords (a half-typed word may be the start of a real term)
+     */
+    public static List<String> tokenize(String text, boolean keepStopwords) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+        
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = normalized.substring(start, i);
+                if (keepStopwords || !STOPWORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
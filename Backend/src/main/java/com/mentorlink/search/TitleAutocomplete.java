@@ -0,0 +1,373 @@
+package com.mentorlink.search;
+
+import com.mentorlink.dto.TitleSuggestion;
+import com.mentorlink.entity.Question;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over question titles and tags, ranked by popularity
+ * (upvotes + 2 x answer count).
+ *
+ * Title and tag terms go into a {@link PrefixTrie} whose nodes cache their ten
+ * most popular questions, so a one-word prefix is answered by walking the
+ * prefix and copying the cached ids. With more words, the earlier words must
+ * match whole terms: the rarest one's questions (at most {@value #MAX_SCAN})
+ * are checked against the rest and the prefix.
+ *
+ * Estimated memory per million titles (compressed oops), assuming about 60
+ * characters and 6 indexed terms per title and a 300k-term vocabulary sharing
+ * about 800k trie nodes:
+ * - trie nodes with child arrays and top-10 caches: ~135 B each, ~110 MB
+ * - term postings: 4 B per question per term plus growth slack, ~35 MB
+ * - per question: id (~64 B), title (~100 B), id map entry (~56 B), term ids
+ *   (~48 B) and counters, ~290 MB
+ * That is roughly 450 MB in total. Most of it is the stored ids and titles,
+ * which let a lookup answer without a Mongo round trip.
+ *
+ * Kept current by create, update and delete; popularity is refreshed from Mongo
+ * every {@code forum.autocomplete.refresh-interval-ms}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TitleAutocomplete {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TitleAutocomplete.class);
+    
+    public static final int MAX_SUGGESTIONS = 10;
+    
+    private static final int MAX_TERM_LENGTH = 32;
+    private static final int MAX_SCAN = 4096;
+    
+    private final MongoTemplate mongoTemplate;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final PrefixTrie trie = new PrefixTrie(MAX_SUGGESTIONS, this::compare);
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    
+    private final Map<String, Integer> docByQuestionId = new HashMap<>();
+    private String[] questionIds = new String[1024];
+    private String[] titles = new String[1024];
+    private int[] upvotes = new int[1024];
+    private int[] answerCounts = new int[1024];
+    private int[][] docTerms = new int[1024][];
+    private int[] freeDocs = new int[64];
+    private int freeCount;
+    private int nextDoc;
+    
+    // Questions removed while the startup rebuild is running, so it does not resurrect them
+    private final Set<String> removedDuringRebuild = new HashSet<>();
+    private volatile boolean ready;
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Add or replace a question
+     */
+    public void index(Question question) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(question.getId());
+            addLocked(question);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Add or replace several questions under one lock hold
+     */
+    public void indexAll(List<Question> questions) {
+        lock.writeLock().lock();
+        try {
+            for (Question question : questions) {
+                removeLocked(question.getId());
+                addLocked(question);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove a question
+     */
+    public void remove(String questionId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(questionId);
+            if (!ready) {
+                removedDuringRebuild.add(questionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Most popular questions whose title or tags match {@code text}, the last word
+     * of which may be incomplete
+     */
+    public List<TitleSuggestion> suggest(String text, int limit) {
+        List<String> words = SearchTokenizer.tokenize(text, true);
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String prefix = truncate(words.get(words.size() - 1));
+        
+        lock.readLock().lock();
+        try {
+            Set<Integer> required = new LinkedHashSet<>();
+            String rarest = null;
+            for (String word : words.subList(0, words.size() - 1)) {
+                if (SearchTokenizer.isStopword(word)) {
+                    continue;
+                }
+                Integer id = termIds.get(truncate(word));
+                if (id == null) {
+                    return Collections.emptyList();
+                }
+                required.add(id);
+                if (rarest == null || trie.postingCount(terms.get(id)) < trie.postingCount(rarest)) {
+                    rarest = terms.get(id);
+                }
+            }
+            
+            int[] ranked = rarest == null ? trie.top(prefix) : filter(trie.postings(rarest, MAX_SCAN), required, prefix);
+            
+            List<TitleSuggestion> suggestions = new ArrayList<>();
+            for (int i = 0; i < ranked.length && suggestions.size() < Math.min(limit, MAX_SUGGESTIONS); i++) {
+                int doc = ranked[i];
+                suggestions.add(new TitleSuggestion(questionIds[doc], titles[doc], upvotes[doc], answerCounts[doc]));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Build from every stored question. Runs once at startup; until it finishes
+     * {@link #isReady()} is false and suggestions may be incomplete.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int indexed = 0;
+        try (CloseableIterator<Question> questions = mongoTemplate.stream(popularityQuery(true), Question.class)) {
+            while (questions.hasNext()) {
+                Question question = questions.next();
+                lock.writeLock().lock();
+                try {
+                    // A live write may already have indexed a newer version, or deleted it
+                    if (!docByQuestionId.containsKey(question.getId())
+                        && !removedDuringRebuild.contains(question.getId())) {
+                        addLocked(question);
+                        indexed++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+        
+        lock.writeLock().lock();
+        try {
+            removedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("✅ [FORUM - JAVA] Autocomplete built with {} questions, {} terms, {} trie nodes in {} ms",
+            indexed, terms.size(), trie.nodeCount(), System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Re-rank questions whose votes or answer count changed since they were indexed
+     */
+    @Scheduled(initialDelayString = "${forum.autocomplete.refresh-interval-ms:300000}",
+        fixedDelayString = "${forum.autocomplete.refresh-interval-ms:300000}")
+    public void refreshPopularity() {
+        if (!ready) {
+            return;
+        }
+        int changed = 0;
+        try (CloseableIterator<Question> questions = mongoTemplate.stream(popularityQuery(false), Question.class)) {
+            while (questions.hasNext()) {
+                Question question = questions.next();
+                lock.writeLock().lock();
+                try {
+                    Integer doc = docByQuestionId.get(question.getId());
+                    int votes = orZero(question.getUpvotes());
+                    int answers = orZero(question.getAnswerCount());
+                    if (doc != null && (upvotes[doc] != votes || answerCounts[doc] != answers)) {
+                        rerankLocked(doc, votes, answers);
+                        changed++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+        if (changed > 0) {
+            logger.info("✅ [FORUM - JAVA] Autocomplete re-ranked {} questions", changed);
+        }
+    }
+    
+    private int[] filter(int[] candidates, Set<Integer> required, String prefix) {
+        List<Integer> matches = new ArrayList<>();
+        for (int doc : candidates) {
+            if (matchesLocked(doc, required, prefix)) {
+                matches.add(doc);
+            }
+        }
+        matches.sort((a, b) -> compare(b, a));
+        return matches.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    private boolean matchesLocked(int doc, Set<Integer> required, String prefix) {
+        int[] docTermIds = docTerms[doc];
+        if (docTermIds == null) {
+            return false;
+        }
+        int found = 0;
+        boolean prefixFound = false;
+        for (int termId : docTermIds) {
+            if (required.contains(termId)) {
+                found++;
+            }
+            if (!prefixFound && terms.get(termId).startsWith(prefix)) {
+                prefixFound = true;
+            }
+        }
+        return found == required.size() && prefixFound;
+    }
+    
+    private void addLocked(Question question) {
+        int doc = freeCount > 0 ? freeDocs[--freeCount] : nextDoc++;
+        ensureCapacity(doc + 1);
+        
+        questionIds[doc] = question.getId();
+        titles[doc] = question.getTitle();
+        upvotes[doc] = orZero(question.getUpvotes());
+        answerCounts[doc] = orZero(question.getAnswerCount());
+        docByQuestionId.put(question.getId(), doc);
+        
+        Set<String> docTermSet = new LinkedHashSet<>();
+        for (String token : SearchTokenizer.tokenize(question.getTitle())) {
+            docTermSet.add(truncate(token));
+        }
+        if (question.getTags() != null) {
+            for (String token : SearchTokenizer.tokenize(String.join(" ", question.getTags()))) {
+                docTermSet.add(truncate(token));
+            }
+        }
+        
+        int[] ids = new int[docTermSet.size()];
+        int i = 0;
+        for (String term : docTermSet) {
+            Integer id = termIds.get(term);
+            if (id == null) {
+                id = terms.size();
+                terms.add(term);
+                termIds.put(term, id);
+            }
+            ids[i++] = id;
+        }
+        docTerms[doc] = ids;
+        
+        for (int id : ids) {
+            trie.add(terms.get(id), doc);
+        }
+    }
+    
+    private void removeLocked(String questionId) {
+        Integer doc = docByQuestionId.remove(questionId);
+        if (doc == null) {
+            return;
+        }
+        for (int id : docTerms[doc]) {
+            trie.remove(terms.get(id), doc);
+        }
+        questionIds[doc] = null;
+        titles[doc] = null;
+        docTerms[doc] = null;
+        
+        if (freeCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, freeCount * 2);
+        }
+        freeDocs[freeCount++] = doc;
+    }
+    
+    private void rerankLocked(int doc, int votes, int answers) {
+        for (int id : docTerms[doc]) {
+            trie.remove(terms.get(id), doc);
+        }
+        upvotes[doc] = votes;
+        answerCounts[doc] = answers;
+        for (int id : docTerms[doc]) {
+            trie.add(terms.get(id), doc);
+        }
+    }
+    
+    /**
+     * Popularity order; on a tie the higher doc id wins
+     */
+    private int compare(int a, int b) {
+        int cmp = Integer.compare(upvotes[a] + 2 * answerCounts[a], upvotes[b] + 2 * answerCounts[b]);
+        return cmp != 0 ? cmp : Integer.compare(a, b);
+    }
+    
+    private Query popularityQuery(boolean withText) {
+        Query query = new Query();
+        query.fields().include("upvotes").include("answerCount");
+        if (withText) {
+            query.fields().include("title").include("tags");
+        }
+        return query;
+    }
+    
+    private void ensureCapacity(int docs) {
+        if (docs <= questionIds.length) {
+            return;
+        }
+        int capacity = Math.max(docs, questionIds.length * 2);
+        questionIds = Arrays.copyOf(questionIds, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        upvotes = Arrays.copyOf(upvotes, capacity);
+        answerCounts = Arrays.copyOf(answerCounts, capacity);
+        docTerms = Arrays.copyOf(docTerms, capacity);
+    }
+    
+    private static String truncate(String term) {
+        return term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term;
+    }
+    
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.mentorlink.service;
+
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves answers embedded in question documents into the answers collection
+ * and sets the question's answerCount. Idempotent: answers keep their ids, so
+ * re-running after a partial migration skips the ones already copied.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerMigration {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AnswerMigration.class);
+    
+    // Mongo's duplicate key error code
+    private static final int DUPLICATE_KEY = 11000;
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        MongoCollection<Document> questions = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Question.class));
+        MongoCollection<Document> answers = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Answer.class));
+        
+        int migratedQuestions = 0;
+        int migratedAnswers = 0;
+        try (MongoCursor<Document> cursor = questions.find(Filters.exists("answers"))
+            .projection(Projections.include("answers"))
+            .iterator()) {
+            
+            while (cursor.hasNext()) {
+                Document question = cursor.next();
+                String questionId = question.get("_id").toString();
+                List<Document> embedded = question.getList("answers", Document.class, new ArrayList<>());
+                
+                List<Document> copies = new ArrayList<>(embedded.size());
+                for (Document answer : embedded) {
+                    Document copy = new Document(answer);
+                    copy.put("questionId", questionId);
+                    copies.add(copy);
+                }
+                
+                if (!copies.isEmpty()) {
+                    try {
+                        answers.insertMany(copies, new InsertManyOptions().ordered(false));
+                    } catch (MongoBulkWriteException e) {
+                        boolean onlyDuplicates = e.getWriteErrors().stream()
+                            .allMatch(error -> error.getCode() == DUPLICATE_KEY);
+                        if (!onlyDuplicates) {
+                            throw e;
+                        }
+                    }
+                }
+                
+                questions.updateOne(Filters.eq("_id", question.get("_id")), Updates.combine(
+                    Updates.unset("answers"),
+                    Updates.set("answerCount", embedded.size())));
+                migratedQuestions++;
+                migratedAnswers += embedded.size();
+            }
+        }
+        
+        // Questions from before answerCount existed that never had an answers array
+        questions.updateMany(Filters.exists("answerCount", false), Updates.set("answerCount", 0));
+        
+        if (migratedQuestions > 0) {
+            logger.info("✅ [FORUM - JAVA] Moved {} embedded answers from {} questions into the answers collection",
+                migratedAnswers, migratedQuestions);
+        }
+    }
+}
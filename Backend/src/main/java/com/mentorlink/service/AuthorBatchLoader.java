@@ -0,0 +1,114 @@
+package com.mentorlink.service;
+
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.User;
+import com.mentorlink.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the lazy {@code @DBRef} authors of questions and their answers in
+ * one {@code $in} query instead of one {@code findById} per reference.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorBatchLoader {
+    
+    private final UserRepository userRepository;
+    private final AuthorMemo authorMemo;
+    
+    /**
+     * Replace every author reference in the given questions (and their attached answers) with the loaded user
+     */
+    public void resolve(Collection<Question> questions) {
+        List<Answer> answers = new ArrayList<>();
+        for (Question question : questions) {
+            if (question.getAnswers() != null) {
+                answers.addAll(question.getAnswers());
+            }
+        }
+        resolve(questions, answers);
+    }
+    
+    /**
+     * Replace every author reference in the given answers with the loaded user
+     */
+    public void resolveAnswers(Collection<Answer> answers) {
+        resolve(Collections.emptyList(), answers);
+    }
+    
+    private void resolve(Collection<Question> questions, Collection<Answer> answers) {
+        Map<String, User> users = RequestContextHolder.getRequestAttributes() != null
+            ? authorMemo.users()
+            : new HashMap<>();
+        
+        Set<String> missing = new HashSet<>();
+        int references = 0;
+        for (Question question : questions) {
+            references += collect(question.getAuthor(), users, missing);
+        }
+        for (Answer answer : answers) {
+            references += collect(answer.getAuthor(), users, missing);
+        }
+        
+        if (!missing.isEmpty()) {
+            for (User user : userRepository.findAllById(missing)) {
+                users.put(user.getId(), user);
+            }
+        }
+        
+        for (Question question : questions) {
+            question.setAuthor(lookup(question.getAuthor(), users));
+        }
+        for (Answer answer : answers) {
+            answer.setAuthor(lookup(answer.getAuthor(), users));
+        }
+        
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            authorMemo.recordBatch(references, missing.size());
+        }
+    }
+    
+    private int collect(User author, Map<String, User> users, Set<String> missing) {
+        String id = authorId(author);
+        if (id == null) {
+            return 0;
+        }
+        if (!(author instanceof LazyLoadingProxy)) {
+            users.putIfAbsent(id, author);
+        } else if (!users.containsKey(id)) {
+            missing.add(id);
+        }
+        return 1;
+    }
+    
+    private User lookup(User author, Map<String, User> users) {
+        String id = authorId(author);
+        return id == null ? null : users.get(id);
+    }
+    
+    /**
+     * Author id without triggering the lazy proxy's own database load
+     */
+    public static String authorId(User author) {
+        if (author == null) {
+            return null;
+        }
+        if (author instanceof LazyLoadingProxy) {
+            return String.valueOf(((LazyLoadingProxy) author).toDBRef().getId());
+        }
+        return author.getId();
+    }
+}
@@ -0,0 +1,45 @@
+package com.mentorlink.service;
+
+import com.mentorlink.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-request memo of authors already loaded by {@link AuthorBatchLoader}, so
+ * an author who appears in several questions or answers is fetched once.
+ * Records how many user lookups batching saved when the request ends.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class AuthorMemo {
+    
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<String, User> users = new HashMap<>();
+    private int references;
+    private int fetched;
+    
+    Map<String, User> users() {
+        return users;
+    }
+    
+    void recordBatch(int referencesResolved, int usersFetched) {
+        references += referencesResolved;
+        fetched += usersFetched;
+    }
+    
+    @PreDestroy
+    public void report() {
+        if (references > 0) {
+            // Without batching every reference would have been its own findById
+            meterRegistry.summary("forum.author.lookups.saved").record(references - fetched);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.mentorlink.service;
+
+import com.mentorlink.dto.DuplicateCandidate;
+
+import java.util.List;
+
+/**
+ * A new question was refused because it repeats an existing one. The author
+ * can link to one of the duplicates or resend with {@code ignoreDuplicates}.
+ */
+public class DuplicateQuestionException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final List<DuplicateCandidate> duplicates;
+    
+    public DuplicateQuestionException(List<DuplicateCandidate> duplicates) {
+        super("This question looks like a duplicate of an existing one");
+        this.duplicates = duplicates;
+    }
+    
+    public List<DuplicateCandidate> getDuplicates() {
+        return duplicates;
+    }
+}
@@ -0,0 +1,88 @@
+package com.mentorlink.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for question detail views.
+ *
+ * Bounded by the estimated in-memory size of the cached questions (or by
+ * entry count when no byte budget is configured) and by a TTL. Concurrent
+ * misses for the same id wait on a single load. Every write path that
+ * changes what the detail view shows must call {@link #invalidate}.
+ */
+@Component
+public class QuestionCache {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    
+    private final Cache<String, Question> cache;
+    
+    public QuestionCache(
+        MeterRegistry meterRegistry,
+        @Value("${forum.cache.max-weight-bytes:67108864}") long maxWeightBytes,
+        @Value("${forum.cache.max-entries:10000}") long maxEntries,
+        @Value("${forum.cache.ttl-seconds:60}") long ttlSeconds) {
+        
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats();
+        
+        // Caffeine bounds by weight or by count, not both
+        if (maxWeightBytes > 0) {
+            builder.maximumWeight(maxWeightBytes)
+                .weigher((String id, Question question) -> estimateBytes(question));
+        } else {
+            builder.maximumSize(maxEntries);
+        }
+        
+        this.cache = builder.build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "forum.questions");
+        Gauge.builder("forum.questions.cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Cached question, or the result of {@code loader} stored for later reads.
+     * Concurrent callers for the same id share one load. A null result is not
+     * stored, and {@code loader} must not invalidate entries of this cache.
+     */
+    public Question get(String id, Function<String, Question> loader) {
+        return cache.get(id, loader);
+    }
+    
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+    
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Rough heap footprint of a question: two bytes per character of text plus a fixed overhead
+     */
+    static int estimateBytes(Question question) {
+        long chars = length(question.getTitle()) + length(question.getContent()) + length(question.getExcerpt());
+        if (question.getAnswers() != null) {
+            for (Answer answer : question.getAnswers()) {
+                chars += length(answer.getContent()) + ENTRY_OVERHEAD_BYTES / 2;
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars * 2 + ENTRY_OVERHEAD_BYTES);
+    }
+    
+    private static int length(String text) {
+        return text == null ? 0 : text.length();
+    }
+}
@@ -0,0 +1,145 @@
+package com.mentorlink.service;
+
+import com.mentorlink.entity.Question;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Question totals (overall, per category, per author) kept in memory so list
+ * pages do not need a count query.
+ *
+ * Updated on every create, delete and category change, and periodically
+ * replaced by exact counts from Mongo to correct drift (writes from other
+ * instances, failures between the write and the counter update).
+ * Until the first reconciliation finishes {@link #isReady()} is false.
+ */
+@Component
+public class QuestionCounters {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionCounters.class);
+    
+    private static final class Counts {
+        final LongAdder total = new LongAdder();
+        final ConcurrentHashMap<String, LongAdder> byCategory = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, LongAdder> byAuthor = new ConcurrentHashMap<>();
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    
+    private volatile Counts counts = new Counts();
+    private volatile boolean ready;
+    
+    public QuestionCounters(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public long total() {
+        return counts.total.sum();
+    }
+    
+    public long byCategory(String category) {
+        return get(counts.byCategory, category);
+    }
+    
+    public long byAuthor(String authorId) {
+        return get(counts.byAuthor, authorId);
+    }
+    
+    public Map<String, Long> categoryTotals() {
+        Map<String, Long> totals = new HashMap<>();
+        counts.byCategory.forEach((category, count) -> totals.put(category, count.sum()));
+        return totals;
+    }
+    
+    public void questionCreated(String category, String authorId) {
+        adjust(category, authorId, 1);
+    }
+    
+    public void questionDeleted(String category, String authorId) {
+        adjust(category, authorId, -1);
+    }
+    
+    public void categoryChanged(String oldCategory, String newCategory) {
+        Counts current = counts;
+        if (oldCategory != null) {
+            adder(current.byCategory, oldCategory).decrement();
+        }
+        if (newCategory != null) {
+            adder(current.byCategory, newCategory).increment();
+        }
+    }
+    
+    /**
+     * Replace the counters with exact counts from Mongo
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${forum.counters.reconcile-interval-ms:300000}",
+        fixedDelayString = "${forum.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        Counts exact = new Counts();
+        String collection = mongoTemplate.getCollectionName(Question.class);
+        
+        exact.total.add(mongoTemplate.getCollection(collection).estimatedDocumentCount());
+        for (Document group : aggregateCounts(collection, "$category")) {
+            if (group.get("_id") != null) {
+                adder(exact.byCategory, group.get("_id").toString()).add(group.getInteger("count"));
+            }
+        }
+        // Grouped by the denormalized snapshot id; aggregation cannot address the DBRef's $id
+        for (Document group : aggregateCounts(collection, "$authorSnapshot.id")) {
+            if (group.get("_id") != null) {
+                adder(exact.byAuthor, group.get("_id").toString()).add(group.getInteger("count"));
+            }
+        }
+        
+        // Writes that land while the aggregation runs are corrected on the next pass
+        counts = exact;
+        ready = true;
+        logger.info("✅ [FORUM - JAVA] Question counters reconciled ({} questions) in {} ms",
+            exact.total.sum(), System.currentTimeMillis() - start);
+    }
+    
+    private Iterable<Document> aggregateCounts(String collection, String groupKey) {
+        List<Document> pipeline = Arrays.asList(
+            new Document("$group", new Document("_id", groupKey).append("count", new Document("$sum", 1))));
+        return mongoTemplate.getCollection(collection).aggregate(pipeline).allowDiskUse(true);
+    }
+    
+    private void adjust(String category, String authorId, int delta) {
+        Counts current = counts;
+        current.total.add(delta);
+        if (category != null) {
+            adder(current.byCategory, category).add(delta);
+        }
+        if (authorId != null) {
+            adder(current.byAuthor, authorId).add(delta);
+        }
+    }
+    
+    private static LongAdder adder(ConcurrentHashMap<String, LongAdder> counters, String key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+    
+    private static long get(Map<String, LongAdder> counters, String key) {
+        LongAdder adder = key != null ? counters.get(key) : null;
+        return adder != null ? adder.sum() : 0;
+    }
+}
@@ -0,0 +1,163 @@
+package com.mentorlink.service;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mongodb.MongoClientSettings;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Streams every question thread as NDJSON, one question per line with its
+ * answers nested under "answers", straight from server-side cursors. Hot
+ * questions come first, then archived ones from the cold tier, marked with
+ * "archived": true. Documents are written as stored (relaxed extended JSON)
+ * without mapping to entities, so memory use is bounded by one cursor batch
+ * whatever the number of questions. A question archived or promoted while an
+ * export runs may appear twice, or not at all.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionExportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionExportService.class);
+    
+    private static final int CURSOR_BATCH_SIZE = 1000;
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+    // The driver's registry, which can encode the DBRefs authors are stored as; Document's own cannot
+    private static final DocumentCodec CODEC = new DocumentCodec(MongoClientSettings.getDefaultCodecRegistry());
+    
+    private final MongoTemplate mongoTemplate;
+    private final ColdQuestionStore coldStore;
+    
+    /**
+     * Reject a createdAt range that cannot match anything
+     */
+    public static void checkRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+    }
+    
+    /**
+     * Write every question matching the optional filters to {@code out}; returns the number written.
+     * {@code from} is inclusive and {@code to} exclusive, both on createdAt.
+     */
+    public long exportQuestions(String category, LocalDateTime from, LocalDateTime to, OutputStream out)
+        throws IOException {
+        checkRange(from, to);
+        
+        long start = System.currentTimeMillis();
+        long exported = 0;
+        long archived = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+        
+        try (CloseableIterator<Document> questions = mongoTemplate.stream(
+                 query(filter("", category, from, to)), Document.class, mongoTemplate.getCollectionName(Question.class))) {
+            List<Document> batch = new ArrayList<>(CURSOR_BATCH_SIZE);
+            while (questions.hasNext()) {
+                batch.add(questions.next());
+                if (batch.size() == CURSOR_BATCH_SIZE || !questions.hasNext()) {
+                    writeWithAnswers(batch, writer);
+                    exported += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        
+        // A cold entry already holds the whole thread
+        try (CloseableIterator<Document> entries = mongoTemplate.stream(
+                 query(filter("question.", category, from, to)), Document.class, coldStore.collectionName())) {
+            while (entries.hasNext()) {
+                Document entry = entries.next();
+                Document question = entry.get("question", Document.class);
+                question.put("answers", entry.get("answers"));
+                question.put("archived", true);
+                write(question, writer);
+                archived++;
+            }
+        }
+        writer.flush();
+        
+        logger.info("✅ [FORUM - JAVA] Exported {} questions ({} archived) in {} ms",
+            exported + archived, archived, System.currentTimeMillis() - start);
+        return exported + archived;
+    }
+    
+    /**
+     * Filters on category and the createdAt range, for fields under {@code prefix}
+     */
+    private static Criteria filter(String prefix, String category, LocalDateTime from, LocalDateTime to) {
+        Criteria criteria = new Criteria();
+        if (category != null && !category.isEmpty()) {
+            criteria.and(prefix + "category").is(category.toLowerCase());
+        }
+        if (from != null || to != null) {
+            Criteria createdAt = criteria.and(prefix + "createdAt");
+            if (from != null) {
+                createdAt.gte(from);
+            }
+            if (to != null) {
+                createdAt.lt(to);
+            }
+        }
+        return criteria;
+    }
+    
+    private static Query query(Criteria criteria) {
+        // _id order walks the primary index, so each document is read once even while others are updated
+        return new Query(criteria)
+            .with(Sort.by(Sort.Direction.ASC, "_id"))
+            .cursorBatchSize(CURSOR_BATCH_SIZE)
+            .noCursorTimeout();
+    }
+    
+    /**
+     * Write a batch of questions with their answers, read with one query per batch
+     */
+    private void writeWithAnswers(List<Document> questions, Writer writer) throws IOException {
+        List<String> ids = questions.stream()
+            .map(question -> question.get("_id").toString())
+            .collect(Collectors.toList());
+        Query answerQuery = new Query(Criteria.where("questionId").in(ids))
+            .with(Sort.by(Sort.Direction.ASC, "questionId", "createdAt", "_id"));
+        Map<String, List<Document>> answers = new HashMap<>();
+        for (Document answer : mongoTemplate.find(answerQuery, Document.class, mongoTemplate.getCollectionName(Answer.class))) {
+            answers.computeIfAbsent(answer.getString("questionId"), id -> new ArrayList<>()).add(answer);
+        }
+        for (Document question : questions) {
+            question.put("answers", answers.getOrDefault(question.get("_id").toString(), new ArrayList<>()));
+            write(question, writer);
+        }
+    }
+    
+    private static void write(Document document, Writer writer) throws IOException {
+        writer.write(document.toJson(JSON, CODEC));
+        writer.write('\n');
+    }
+}
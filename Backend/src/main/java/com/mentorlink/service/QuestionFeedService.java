@@ -0,0 +1,235 @@
+package com.mentorlink.service;
+
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.entity.Question;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "Trending" and "top" question feeds, overall and per category, kept in memory.
+ *
+ * Trending uses exponential time decay: a question's weight is its engagement
+ * times e^(-age / decay). Ranking by that is the same as ranking by
+ * ln(engagement) + createdAt / decay, which does not change as time passes,
+ * so a score only needs recomputing when the question's votes or answers do.
+ * Top ranks by upvotes, then answers.
+ *
+ * Feeds are updated from question writes and periodically rebuilt from Mongo
+ * to pick up anything missed (other instances, evicted questions regaining votes).
+ */
+@Service
+public class QuestionFeedService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionFeedService.class);
+    
+    public static final String TRENDING = "trending";
+    public static final String TOP = "top";
+    
+    private static final String ALL = "";
+    private static final double ANSWER_WEIGHT = 2.0;
+    
+    private static final class Feeds {
+        final Map<String, TopKFeed> trending = new ConcurrentHashMap<>();
+        final Map<String, TopKFeed> top = new ConcurrentHashMap<>();
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    private final int size;
+    private final double decaySeconds;
+    private final int rebaseHorizonDays;
+    
+    private volatile Feeds feeds = new Feeds();
+    
+    public QuestionFeedService(
+        MongoTemplate mongoTemplate,
+        @Value("${forum.feeds.size:100}") int size,
+        @Value("${forum.feeds.decay-hours:12}") double decayHours,
+        @Value("${forum.feeds.rebase-horizon-days:30}") int rebaseHorizonDays) {
+        this.mongoTemplate = mongoTemplate;
+        this.size = size;
+        this.decaySeconds = decayHours * 3600;
+        this.rebaseHorizonDays = rebaseHorizonDays;
+    }
+    
+    /**
+     * Up to {@code limit} questions of a feed, optionally for one category
+     */
+    public List<QuestionSummary> getFeed(String type, String category, int limit) {
+        Feeds current = feeds;
+        Map<String, TopKFeed> byCategory;
+        if (TRENDING.equals(type)) {
+            byCategory = current.trending;
+        } else if (TOP.equals(type)) {
+            byCategory = current.top;
+        } else {
+            throw new RuntimeException("Unknown feed: " + type);
+        }
+        
+        TopKFeed feed = byCategory.get(category == null || category.isEmpty() ? ALL : category.toLowerCase());
+        // Clamped here too, for when admission control (which rejects bad limits) is off
+        return feed != null ? feed.top(Math.max(0, Math.min(limit, size))) : Collections.emptyList();
+    }
+    
+    /**
+     * Re-score a question after it was created, edited, voted on or answered.
+     * {@code question} needs at least the {@link QuestionSummary} fields.
+     */
+    public void questionChanged(Question question) {
+        Feeds current = feeds;
+        QuestionSummary summary = QuestionSummary.from(question);
+        
+        // The category may have changed, so drop it from every category feed first
+        for (TopKFeed feed : current.trending.values()) {
+            feed.remove(question.getId());
+        }
+        for (TopKFeed feed : current.top.values()) {
+            feed.remove(question.getId());
+        }
+        offer(current, summary);
+    }
+    
+    public void questionDeleted(String questionId) {
+        Feeds current = feeds;
+        for (TopKFeed feed : current.trending.values()) {
+            feed.remove(questionId);
+        }
+        for (TopKFeed feed : current.top.values()) {
+            feed.remove(questionId);
+        }
+    }
+    
+    /**
+     * Rebuild every feed from Mongo and swap them in. Trending only considers
+     * questions from the last {@code rebase-horizon-days}; older ones cannot
+     * outscore recent activity under any realistic decay setting.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${forum.feeds.rebase-interval-ms:600000}",
+        fixedDelayString = "${forum.feeds.rebase-interval-ms:600000}")
+    public void rebase() {
+        long start = System.currentTimeMillis();
+        Feeds rebuilt = new Feeds();
+        int capacity = size * 2;
+        
+        List<String> categories = mongoTemplate.findDistinct(new Query(), "category", Question.class, String.class);
+        List<String> scopes = new ArrayList<>(categories);
+        scopes.add(ALL);
+        
+        for (String scope : scopes) {
+            Criteria scopeFilter = ALL.equals(scope) ? new Criteria() : Criteria.where("category").is(scope);
+            
+            Query topQuery = new Query(scopeFilter)
+                .with(Sort.by(Sort.Direction.DESC, "upvotes", "answerCount"))
+                .limit(capacity);
+            topQuery.fields().include(QuestionSummary.FIELDS);
+            for (Question question : mongoTemplate.find(topQuery, Question.class)) {
+                rebuilt.top.computeIfAbsent(scope, s -> new TopKFeed(capacity))
+                    .offer(QuestionSummary.from(question), topScore(question));
+            }
+            
+            for (Question question : findTrendingCandidates(scope, capacity)) {
+                rebuilt.trending.computeIfAbsent(scope, s -> new TopKFeed(capacity))
+                    .offer(QuestionSummary.from(question), trendingScore(question));
+            }
+        }
+        
+        feeds = rebuilt;
+        logger.info("✅ [FORUM - JAVA] Question feeds rebuilt for {} categories in {} ms",
+            categories.size(), System.currentTimeMillis() - start);
+    }
+    
+    private List<Question> findTrendingCandidates(String scope, int limit) {
+        Date horizon = Date.from(LocalDateTime.now().minusDays(rebaseHorizonDays)
+            .atZone(ZoneId.systemDefault()).toInstant());
+        Document match = new Document("createdAt", new Document("$gte", horizon));
+        if (!ALL.equals(scope)) {
+            match.append("category", scope);
+        }
+        
+        // Same formula as trendingScore, evaluated server-side
+        Document engagement = new Document("$add", Arrays.asList(1,
+            new Document("$ifNull", Arrays.asList("$upvotes", 0)),
+            new Document("$multiply", Arrays.asList(ANSWER_WEIGHT,
+                new Document("$ifNull", Arrays.asList("$answerCount", 0))))));
+        Document score = new Document("$add", Arrays.asList(
+            new Document("$ln", engagement),
+            new Document("$divide", Arrays.asList(
+                new Document("$divide", Arrays.asList(new Document("$toLong", "$createdAt"), 1000)),
+                decaySeconds))));
+        
+        Document projection = new Document("_trendingScore", score);
+        for (String field : QuestionSummary.FIELDS) {
+            projection.append(field, 1);
+        }
+        
+        List<Document> pipeline = Arrays.asList(
+            new Document("$match", match),
+            new Document("$project", projection),
+            new Document("$sort", new Document("_trendingScore", -1)),
+            new Document("$limit", limit));
+        
+        List<Question> questions = new ArrayList<>();
+        for (Document document : mongoTemplate.getCollection(mongoTemplate.getCollectionName(Question.class))
+            .aggregate(pipeline)) {
+            questions.add(mongoTemplate.getConverter().read(Question.class, document));
+        }
+        return questions;
+    }
+    
+    private void offer(Feeds current, QuestionSummary summary) {
+        int capacity = size * 2;
+        double trending = trendingScore(summary);
+        double top = topScore(summary.getUpvotes(), summary.getAnswerCount());
+        
+        current.trending.computeIfAbsent(ALL, s -> new TopKFeed(capacity)).offer(summary, trending);
+        current.top.computeIfAbsent(ALL, s -> new TopKFeed(capacity)).offer(summary, top);
+        if (summary.getCategory() != null) {
+            current.trending.computeIfAbsent(summary.getCategory(), s -> new TopKFeed(capacity)).offer(summary, trending);
+            current.top.computeIfAbsent(summary.getCategory(), s -> new TopKFeed(capacity)).offer(summary, top);
+        }
+    }
+    
+    private double trendingScore(Question question) {
+        return trendingScore(QuestionSummary.from(question));
+    }
+    
+    private double trendingScore(QuestionSummary question) {
+        double engagement = 1 + nullToZero(question.getUpvotes()) + ANSWER_WEIGHT * nullToZero(question.getAnswerCount());
+        LocalDateTime createdAt = question.getCreatedAt() != null ? question.getCreatedAt() : LocalDateTime.now();
+        double createdSeconds = createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return Math.log(engagement) + createdSeconds / decaySeconds;
+    }
+    
+    private double topScore(Question question) {
+        return topScore(question.getUpvotes(), question.getAnswerCount());
+    }
+    
+    private double topScore(Integer upvotes, Integer answerCount) {
+        // Answers only break ties between equal vote counts
+        return nullToZero(upvotes) + nullToZero(answerCount) / 1_000_000.0;
+    }
+    
+    private static int nullToZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.mentorlink.service;
+
+import com.mentorlink.dto.CreateQuestionRequest;
+import com.mentorlink.dto.DuplicateCandidate;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.dto.UpdateQuestionRequest;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.AuthorSnapshot;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.User;
+import com.mentorlink.search.DuplicateIndex;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.RelatedQuestions;
+import com.mentorlink.search.TitleAutocomplete;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The question writes both {@link QuestionService} and {@link ReactiveQuestionService}
+ * make, minus the I/O: building the stored fields, the duplicate check, and keeping
+ * the in-memory indexes, feeds and counters in step afterwards.
+ *
+ * The search, autocomplete, duplicate and related-question indexes take write locks
+ * that a rebuild or refresh can hold for a while, so the reactive service calls
+ * everything here that touches them off the event loop.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionIndexes {
+    
+    // Likely duplicates returned with a new question
+    private static final int MAX_DUPLICATES = 5;
+    
+    private final QuestionSearchIndex searchIndex;
+    private final TitleAutocomplete titleAutocomplete;
+    private final DuplicateIndex duplicateIndex;
+    private final RelatedQuestions relatedQuestions;
+    private final QuestionFeedService questionFeedService;
+    private final QuestionCounters questionCounters;
+    private final TagFacets tagFacets;
+    
+    /**
+     * A new question from the request, without its author reference or id
+     */
+    public static Question newQuestion(CreateQuestionRequest request, User author) {
+        Question question = new Question();
+        question.setTitle(request.getTitle());
+        question.setContent(request.getContent());
+        question.setCategory(request.getCategory().toLowerCase());
+        question.setAuthorSnapshot(AuthorSnapshot.of(author));
+        question.setExcerpt(QuestionSummary.excerpt(request.getContent()));
+        question.setAnswerCount(0);
+        question.setTags(TagFilter.normalize(request.getTags()));
+        question.setUpvotes(0);
+        question.setCreatedAt(LocalDateTime.now());
+        question.setUpdatedAt(LocalDateTime.now());
+        return question;
+    }
+    
+    /**
+     * Only the edited fields are written; counters and the author are left as stored
+     */
+    public static Update editUpdate(UpdateQuestionRequest request) {
+        Update update = new Update()
+            .set("title", request.getTitle())
+            .set("content", request.getContent())
+            .set("excerpt", QuestionSummary.excerpt(request.getContent()))
+            .set("category", request.getCategory().toLowerCase())
+            .set("updatedAt", LocalDateTime.now());
+        if (request.getTags() != null) {
+            update.set("tags", TagFilter.normalize(request.getTags()));
+        }
+        return update;
+    }
+    
+    /**
+     * Likely duplicates of the requested question, or a {@link DuplicateQuestionException}
+     * when they block its creation
+     */
+    public List<DuplicateCandidate> checkDuplicates(CreateQuestionRequest request) {
+        List<DuplicateCandidate> duplicates =
+            duplicateIndex.find(request.getTitle(), request.getContent(), MAX_DUPLICATES);
+        if (!request.isIgnoreDuplicates() && duplicateIndex.blocks(duplicates)) {
+            throw new DuplicateQuestionException(duplicates);
+        }
+        return duplicates;
+    }
+    
+    /**
+     * The number of questions in {@code category} (every question when null) matching
+     * {@code tags} (may be null) when the maintained counters know it, otherwise null
+     * to count in Mongo. Of the tag filters only a single tag is counted in memory.
+     */
+    public Long knownTotal(String category, TagFilter tags) {
+        if (tags != null) {
+            if (category == null && tags.getTags().size() == 1 && tagFacets.isReady()) {
+                return tagFacets.count(tags.getTags().get(0));
+            }
+            return null;
+        }
+        if (!questionCounters.isReady()) {
+            return null;
+        }
+        return category != null ? questionCounters.byCategory(category.toLowerCase()) : questionCounters.total();
+    }
+    
+    public void questionCreated(Question saved) {
+        questionCounters.questionCreated(saved.getCategory(), AuthorBatchLoader.authorId(saved.getAuthor()));
+        tagFacets.questionCreated(saved.getTags());
+        searchIndex.index(saved, Collections.emptyList());
+        titleAutocomplete.index(saved);
+        duplicateIndex.index(saved);
+        relatedQuestions.index(saved);
+        questionFeedService.questionChanged(saved);
+    }
+    
+    /**
+     * {@code oldCategory} and {@code oldTags} are the stored values before the edit;
+     * {@code answers} are the question's answers for the search index
+     */
+    public void questionUpdated(Question saved, String oldCategory, List<String> oldTags, boolean tagsEdited,
+                                List<Answer> answers) {
+        if (!saved.getCategory().equals(oldCategory)) {
+            questionCounters.categoryChanged(oldCategory, saved.getCategory());
+        }
+        if (tagsEdited) {
+            tagFacets.tagsChanged(oldTags, saved.getTags());
+        }
+        searchIndex.index(saved, answers);
+        titleAutocomplete.index(saved);
+        duplicateIndex.index(saved);
+        relatedQuestions.index(saved);
+        questionFeedService.questionChanged(saved);
+    }
+    
+    public void questionDeleted(String id, String category, String authorId, List<String> tags) {
+        questionCounters.questionDeleted(category, authorId);
+        tagFacets.questionDeleted(tags);
+        searchIndex.remove(id);
+        titleAutocomplete.remove(id);
+        duplicateIndex.remove(id);
+        relatedQuestions.remove(id);
+        questionFeedService.questionDeleted(id);
+    }
+    
+    /**
+     * {@code question} holds the summary fields after the answer count was incremented
+     */
+    public void answerAdded(Question question, Answer answer) {
+        searchIndex.appendAnswer(answer.getQuestionId(), answer);
+        questionFeedService.questionChanged(question);
+    }
+}
@@ -0,0 +1,401 @@
+package com.mentorlink.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorlink.dto.BulkAnswerItem;
+import com.mentorlink.dto.BulkIngestResult;
+import com.mentorlink.dto.BulkItemResult;
+import com.mentorlink.dto.BulkQuestionItem;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.AuthorSnapshot;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.User;
+import com.mentorlink.repository.UserRepository;
+import com.mentorlink.search.DuplicateIndex;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.RelatedQuestions;
+import com.mentorlink.search.TitleAutocomplete;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of questions with their answers.
+ *
+ * The request body is a JSON array read one element at a time, so only one
+ * chunk is held in memory. Each chunk resolves its authors with one
+ * {@code $in}, then writes questions and answers with one unordered bulk
+ * insert each, then updates every in-memory index once for the whole chunk.
+ * Ids are assigned here, so answers can reference their question before it is
+ * written. The result counts every outcome but only lists the items that were
+ * not fully imported, up to {@value #MAX_REPORTED_ITEMS}, so it stays small
+ * whatever the size of the import.
+ */
+@Service
+public class QuestionIngestService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionIngestService.class);
+    
+    private static final int MAX_CHUNK_SIZE = 10_000;
+    private static final int MAX_REPORTED_ITEMS = 1000;
+    
+    private static final class Pending {
+        final int index;
+        final BulkQuestionItem item;
+        Question question;
+        List<Answer> answers;
+        
+        Pending(int index, BulkQuestionItem item) {
+            this.index = index;
+            this.item = item;
+        }
+    }
+    
+    private static final class Outcomes {
+        final BulkIngestResult result = new BulkIngestResult(0, 0, 0, 0, 0, 0, new ArrayList<>(), false);
+        
+        void created(BulkItemResult item) {
+            result.setCreated(result.getCreated() + 1);
+            result.setAnswersCreated(result.getAnswersCreated() + item.getAnswersCreated());
+            if (item.getMessage() != null) {
+                report(item);
+            }
+        }
+        
+        void notCreated(BulkItemResult item) {
+            if (BulkItemResult.INVALID.equals(item.getStatus())) {
+                result.setInvalid(result.getInvalid() + 1);
+            } else {
+                result.setFailed(result.getFailed() + 1);
+            }
+            report(item);
+        }
+        
+        private void report(BulkItemResult item) {
+            if (result.getResults().size() < MAX_REPORTED_ITEMS) {
+                result.getResults().add(item);
+            } else {
+                result.setResultsTruncated(true);
+            }
+        }
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final QuestionSearchIndex searchIndex;
+    private final TitleAutocomplete titleAutocomplete;
+    private final DuplicateIndex duplicateIndex;
+    private final RelatedQuestions relatedQuestions;
+    private final QuestionFeedService questionFeedService;
+    private final QuestionCounters questionCounters;
+    private final TagFacets tagFacets;
+    private final int defaultChunkSize;
+    
+    public QuestionIngestService(
+        MongoTemplate mongoTemplate,
+        UserRepository userRepository,
+        ObjectMapper objectMapper,
+        Validator validator,
+        QuestionSearchIndex searchIndex,
+        TitleAutocomplete titleAutocomplete,
+        DuplicateIndex duplicateIndex,
+        RelatedQuestions relatedQuestions,
+        QuestionFeedService questionFeedService,
+        QuestionCounters questionCounters,
+        TagFacets tagFacets,
+        @Value("${forum.ingest.chunk-size:1000}") int defaultChunkSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.searchIndex = searchIndex;
+        this.titleAutocomplete = titleAutocomplete;
+        this.duplicateIndex = duplicateIndex;
+        this.relatedQuestions = relatedQuestions;
+        this.questionFeedService = questionFeedService;
+        this.questionCounters = questionCounters;
+        this.tagFacets = tagFacets;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+    
+    /**
+     * Import every question of the JSON array in {@code body}. {@code chunkSize} overrides
+     * {@code forum.ingest.chunk-size} when given.
+     */
+    public BulkIngestResult ingest(InputStream body, Integer chunkSize) throws IOException {
+        int size = Math.max(1, Math.min(MAX_CHUNK_SIZE, chunkSize != null ? chunkSize : defaultChunkSize));
+        long start = System.currentTimeMillis();
+        
+        Outcomes outcomes = new Outcomes();
+        List<Pending> chunk = new ArrayList<>(size);
+        int received = 0;
+        
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of questions");
+            }
+            
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Unexpected end of input after " + received + " items");
+                }
+                
+                int index = received++;
+                JsonNode node = objectMapper.readTree(parser);
+                String problem = null;
+                BulkQuestionItem item = null;
+                if (!node.isObject()) {
+                    problem = "Item must be a JSON object";
+                } else {
+                    try {
+                        item = objectMapper.treeToValue(node, BulkQuestionItem.class);
+                        problem = validate(item);
+                    } catch (JsonProcessingException e) {
+                        problem = e.getOriginalMessage();
+                    }
+                }
+                
+                if (problem != null) {
+                    outcomes.notCreated(new BulkItemResult(index, BulkItemResult.INVALID, null, 0, problem));
+                    continue;
+                }
+                
+                chunk.add(new Pending(index, item));
+                if (chunk.size() == size) {
+                    writeChunk(chunk, outcomes);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Chunks before the malformed element are already written
+            throw new IllegalArgumentException("Malformed JSON after " + received + " items: " + e.getOriginalMessage());
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, outcomes);
+        }
+        
+        BulkIngestResult result = outcomes.result;
+        result.getResults().sort(Comparator.comparingInt(BulkItemResult::getIndex));
+        result.setReceived(received);
+        result.setDurationMs(System.currentTimeMillis() - start);
+        
+        logger.info("✅ [FORUM - JAVA] Imported {} of {} questions ({} answers) in {} ms",
+            result.getCreated(), received, result.getAnswersCreated(), result.getDurationMs());
+        return result;
+    }
+    
+    private String validate(BulkQuestionItem item) {
+        Set<ConstraintViolation<BulkQuestionItem>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+    
+    private void writeChunk(List<Pending> chunk, Outcomes outcomes) {
+        Map<String, User> users = loadAuthors(chunk);
+        
+        List<Pending> writable = new ArrayList<>(chunk.size());
+        for (Pending pending : chunk) {
+            String missing = missingAuthor(pending.item, users);
+            if (missing != null) {
+                outcomes.notCreated(new BulkItemResult(pending.index, BulkItemResult.INVALID, null, 0,
+                    "Author not found: " + missing));
+                continue;
+            }
+            build(pending, users);
+            writable.add(pending);
+        }
+        if (writable.isEmpty()) {
+            return;
+        }
+        
+        // Questions first; answers only for the questions that were written
+        Map<Integer, String> questionErrors = insertUnordered(Question.class,
+            writable.stream().map(p -> p.question).collect(Collectors.toList()));
+        
+        List<Pending> written = new ArrayList<>(writable.size());
+        for (int i = 0; i < writable.size(); i++) {
+            Pending pending = writable.get(i);
+            String error = questionErrors.get(i);
+            if (error != null) {
+                outcomes.notCreated(new BulkItemResult(pending.index, BulkItemResult.FAILED, null, 0, error));
+            } else {
+                written.add(pending);
+            }
+        }
+        
+        List<Answer> answers = new ArrayList<>();
+        List<Pending> answerOwners = new ArrayList<>();
+        for (Pending pending : written) {
+            for (Answer answer : pending.answers) {
+                answers.add(answer);
+                answerOwners.add(pending);
+            }
+        }
+        Map<Integer, String> answerErrors = answers.isEmpty()
+            ? Collections.emptyMap()
+            : insertUnordered(Answer.class, answers);
+        
+        Map<Pending, List<Answer>> failedAnswers = new HashMap<>();
+        for (Integer failed : answerErrors.keySet()) {
+            failedAnswers.computeIfAbsent(answerOwners.get(failed), owner -> new ArrayList<>()).add(answers.get(failed));
+        }
+        
+        List<Question> questions = new ArrayList<>(written.size());
+        Map<String, List<Answer>> answersByQuestion = new HashMap<>();
+        for (Pending pending : written) {
+            Question question = pending.question;
+            List<Answer> failed = failedAnswers.getOrDefault(pending, Collections.emptyList());
+            List<Answer> stored = pending.answers;
+            String message = null;
+            if (!failed.isEmpty()) {
+                // answerCount was written assuming every answer would be; correct it
+                mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(question.getId())),
+                    new Update().inc("answerCount", -failed.size()), Question.class);
+                question.setAnswerCount(question.getAnswerCount() - failed.size());
+                stored = new ArrayList<>(pending.answers);
+                stored.removeAll(failed);
+                message = failed.size() + " answers could not be written";
+            }
+            
+            questionCounters.questionCreated(question.getCategory(), pending.item.getAuthorId());
+            tagFacets.questionCreated(question.getTags());
+            questionFeedService.questionChanged(question);
+            questions.add(question);
+            answersByQuestion.put(question.getId(), stored);
+            outcomes.created(new BulkItemResult(pending.index, BulkItemResult.CREATED, question.getId(),
+                stored.size(), message));
+        }
+        
+        // Each index takes its write lock once per chunk instead of once per question
+        searchIndex.indexAll(questions, answersByQuestion);
+        titleAutocomplete.indexAll(questions);
+        duplicateIndex.indexAll(questions);
+        relatedQuestions.indexAll(questions);
+    }
+    
+    /**
+     * One {@code $in} for every question and answer author in the chunk
+     */
+    private Map<String, User> loadAuthors(List<Pending> chunk) {
+        Set<String> ids = new HashSet<>();
+        for (Pending pending : chunk) {
+            ids.add(pending.item.getAuthorId());
+            if (pending.item.getAnswers() != null) {
+                for (BulkAnswerItem answer : pending.item.getAnswers()) {
+                    ids.add(answer.getAuthorId());
+                }
+            }
+        }
+        
+        Map<String, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(ids)) {
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+    
+    private static String missingAuthor(BulkQuestionItem item, Map<String, User> users) {
+        if (!users.containsKey(item.getAuthorId())) {
+            return item.getAuthorId();
+        }
+        if (item.getAnswers() != null) {
+            for (BulkAnswerItem answer : item.getAnswers()) {
+                if (!users.containsKey(answer.getAuthorId())) {
+                    return answer.getAuthorId();
+                }
+            }
+        }
+        return null;
+    }
+    
+    private static void build(Pending pending, Map<String, User> users) {
+        BulkQuestionItem item = pending.item;
+        User author = users.get(item.getAuthorId());
+        LocalDateTime createdAt = item.getCreatedAt() != null ? item.getCreatedAt() : LocalDateTime.now();
+        List<BulkAnswerItem> answerItems = item.getAnswers() != null ? item.getAnswers() : Collections.emptyList();
+        
+        Question question = new Question();
+        question.setId(new ObjectId().toHexString());
+        question.setTitle(item.getTitle());
+        question.setContent(item.getContent());
+        question.setCategory(item.getCategory().toLowerCase());
+        question.setAuthor(author);
+        question.setAuthorSnapshot(AuthorSnapshot.of(author));
+        question.setExcerpt(QuestionSummary.excerpt(item.getContent()));
+        question.setAnswerCount(answerItems.size());
+        question.setTags(TagFilter.normalize(item.getTags()));
+        question.setUpvotes(item.getUpvotes() != null ? item.getUpvotes() : 0);
+        question.setCreatedAt(createdAt);
+        question.setUpdatedAt(item.getUpdatedAt() != null ? item.getUpdatedAt() : createdAt);
+        
+        List<Answer> answers = new ArrayList<>(answerItems.size());
+        for (BulkAnswerItem answerItem : answerItems) {
+            LocalDateTime answeredAt = answerItem.getCreatedAt() != null ? answerItem.getCreatedAt() : createdAt;
+            Answer answer = new Answer();
+            answer.setId(new ObjectId().toHexString());
+            answer.setQuestionId(question.getId());
+            answer.setContent(answerItem.getContent());
+            answer.setAuthor(users.get(answerItem.getAuthorId()));
+            answer.setUpvotes(answerItem.getUpvotes() != null ? answerItem.getUpvotes() : 0);
+            answer.setCreatedAt(answeredAt);
+            answer.setUpdatedAt(answeredAt);
+            answers.add(answer);
+        }
+        
+        pending.question = question;
+        pending.answers = answers;
+    }
+    
+    /**
+     * Unordered bulk insert; returns the error message for each position that was not written
+     */
+    private Map<Integer, String> insertUnordered(Class<?> type, List<?> documents) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type).insert(documents).execute();
+            return Collections.emptyMap();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> errors = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), error.getMessage());
+            }
+            return errors;
+        }
+    }
+}
@@ -1,162 +1,611 @@
 package com.mentorlink.service;
 
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.archive.QuestionArchiver;
 import com.mentorlink.dto.AddAnswerRequest;
 import com.mentorlink.dto.CreateQuestionRequest;
+import com.mentorlink.dto.CursorPage;
+import com.mentorlink.dto.DuplicateCandidate;
+import com.mentorlink.dto.ForumFacets;
+import com.mentorlink.dto.ForumStats;
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.dto.TitleSuggestion;
 import com.mentorlink.dto.UpdateQuestionRequest;
 import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.AnswerVote;
 import com.mentorlink.entity.Question;
+import com.mentorlink.entity.QuestionVote;
 import com.mentorlink.entity.User;
+import com.mentorlink.events.ForumEvent;
+import com.mentorlink.events.ForumEventPublisher;
+import com.mentorlink.metrics.ForumMetrics;
+import com.mentorlink.repository.AnswerRepository;
+import com.mentorlink.repository.AnswerVoteRepository;
 import com.mentorlink.repository.QuestionRepository;
+import com.mentorlink.repository.QuestionVoteRepository;
 import com.mentorlink.repository.UserRepository;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.RelatedQuestions;
+import com.mentorlink.search.SearchResult;
+import com.mentorlink.search.TitleAutocomplete;
 import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
 public class QuestionService {
     
+    // Answers attached to a question detail; the rest are paged through getAnswers
+    static final int ANSWER_PREVIEW_LIMIT = 20;
+    
+    // Attempts at an edit that keeps losing to concurrent edits of the same question
+    static final int MAX_EDIT_ATTEMPTS = 3;
+    
     private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
     private final UserRepository userRepository;
+    private final QuestionVoteRepository questionVoteRepository;
+    private final AnswerVoteRepository answerVoteRepository;
+    private final VoteAggregator voteAggregator;
+    private final QuestionIndexes questionIndexes;
+    private final QuestionSearchIndex searchIndex;
+    private final TitleAutocomplete titleAutocomplete;
+    private final RelatedQuestions relatedQuestions;
+    private final AuthorBatchLoader authorBatchLoader;
+    private final QuestionCache questionCache;
+    private final QuestionFeedService questionFeedService;
+    private final QuestionCounters questionCounters;
+    private final TagFacets tagFacets;
+    private final ForumMetrics forumMetrics;
+    private final ForumEventPublisher eventPublisher;
+    private final QuestionArchiver questionArchiver;
+    private final ColdQuestionStore coldStore;
     
     /**
-     * Get all questions with pagination and sorting
+     * Get all questions with pagination and sorting.
+     * With {@code summaryOnly} only the {@link QuestionSummary} fields are read;
+     * {@code tags} may be null.
      */
-    public Page<Question> getAllQuestions(int page, int limit, String sort) {
+    public Page<Question> getAllQuestions(int page, int limit, String sort, TagFilter tags, boolean summaryOnly) {
         Sort.Direction direction = sort.startsWith("-") ? Sort.Direction.DESC : Sort.Direction.ASC;
         String field = sort.replace("-", "");
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(direction, field));
-        return questionRepository.findAll(pageable);
+        Long total = questionIndexes.knownTotal(null, tags);
+        return withAuthors(questionRepository.findPage(TagFilter.and(null, tags), pageable, summaryOnly, total));
     }
     
     /**
-     * Get single question by ID
+     * Get all questions with keyset pagination.
+     * {@code after} is the cursor returned with the previous page; null or empty starts from the top.
+     */
+    public CursorPage<Question> getAllQuestionsAfter(String after, int limit, String sort, TagFilter tags,
+                                                    boolean summaryOnly) {
+        Sort.Direction direction = sort.startsWith("-") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String field = sort.replace("-", "");
+        return findSlice(TagFilter.and(null, tags), field, direction, after, limit, summaryOnly);
+    }
+    
+    /**
+     * Get single question by ID, with its accepted answer and its highest voted answers attached.
+     * An archived question is promoted back to the questions collection first.
+     * Served from {@link QuestionCache}; the returned object is shared and must not be modified.
      */
     public Question getQuestionById(String id) {
-        return questionRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Question not found"));
+        Question question = questionCache.get(id, this::loadQuestionDetail);
+        if (question == null) {
+            // Promotion invalidates the cache entry, which Caffeine refuses from inside its own load
+            questionArchiver.promote(id);
+            question = questionCache.get(id, this::loadQuestionDetail);
+        }
+        if (question == null) {
+            throw new RuntimeException("Question not found");
+        }
+        forumMetrics.recordAnswerCount(question.getAnswerCount());
+        return question;
+    }
+    
+    /**
+     * The detail view of a question in the questions collection, or null when it is not there
+     */
+    private Question loadQuestionDetail(String id) {
+        Question question = questionRepository.findById(id).orElse(null);
+        if (question == null) {
+            return null;
+        }
+        List<Answer> answers = acceptedAnswer(question.getAcceptedAnswerId());
+        answers.addAll(answerRepository
+            .findSlice(id, "upvotes", Sort.Direction.DESC, null, ANSWER_PREVIEW_LIMIT, question.getAcceptedAnswerId())
+            .getContent());
+        question.setAnswers(answers);
+        authorBatchLoader.resolve(List.of(question));
+        return question;
     }
     
     /**
-     * Create a new question
+     * Get a page of a question's answers, oldest first ("time") or highest voted first ("votes").
+     * By votes, the accepted answer is put in front of the first page and left out of the ranking.
+     * {@code after} is the cursor returned with the previous page; null or empty starts from the top.
+     */
+    public CursorPage<Answer> getAnswers(String questionId, String sort, String after, int limit) {
+        Question question = findForAnswers(questionId);
+        
+        String sortField = "votes".equals(sort) ? "upvotes" : "createdAt";
+        Sort.Direction direction = "votes".equals(sort) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        
+        QuestionCursor cursor = null;
+        if (after != null && !after.isEmpty()) {
+            cursor = QuestionCursor.decode(after);
+            if (!cursor.getSortField().equals(sortField) || cursor.getDirection() != direction) {
+                throw new IllegalArgumentException("Pagination cursor does not match the requested sort");
+            }
+        }
+        
+        String acceptedId = "votes".equals(sort) ? question.getAcceptedAnswerId() : null;
+        Slice<Answer> slice = answerRepository.findSlice(questionId, sortField, direction, cursor, limit, acceptedId);
+        List<Answer> ranked = slice.getContent();
+        List<Answer> answers = cursor == null ? acceptedAnswer(acceptedId) : new ArrayList<>();
+        answers.addAll(ranked);
+        authorBatchLoader.resolveAnswers(answers);
+        String nextCursor = slice.hasNext() && !ranked.isEmpty()
+            ? QuestionCursor.after(ranked.get(ranked.size() - 1), sortField, direction).encode()
+            : null;
+        return new CursorPage<>(answers, nextCursor, slice.hasNext());
+    }
+    
+    /**
+     * Create a new question. Likely duplicates are returned on it as
+     * {@code possibleDuplicates}, or refuse the creation when duplicate blocking is on.
      */
     public Question createQuestion(CreateQuestionRequest request, String userId) {
         User author = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        Question question = new Question();
-        question.setTitle(request.getTitle());
-        question.setContent(request.getContent());
-        question.setCategory(request.getCategory().toLowerCase());
+        List<DuplicateCandidate> duplicates = questionIndexes.checkDuplicates(request);
+        
+        Question question = QuestionIndexes.newQuestion(request, author);
         question.setAuthor(author);
-        question.setTags(request.getTags());
-        question.setUpvotes(0);
-        question.setCreatedAt(LocalDateTime.now());
-        question.setUpdatedAt(LocalDateTime.now());
         
-        return questionRepository.save(question);
+        Question saved = questionRepository.save(question);
+        questionIndexes.questionCreated(saved);
+        eventPublisher.publish(ForumEvent.QUESTION_CREATED, saved.getCategory(), QuestionSummary.from(saved));
+        saved.setPossibleDuplicates(duplicates);
+        return saved;
     }
     
     /**
      * Update an existing question
      */
     public Question updateQuestion(String id, UpdateQuestionRequest request, String userId) {
-        Question question = getQuestionById(id);
-        
-        // Check if user is the author
-        if (!question.getAuthor().getId().equals(userId)) {
-            throw new RuntimeException("You can only update your own questions");
+        for (int attempt = 1; ; attempt++) {
+            Question question = findQuestion(id);
+            
+            // Check if user is the author
+            if (!userId.equals(AuthorBatchLoader.authorId(question.getAuthor()))) {
+                throw new RuntimeException("You can only update your own questions");
+            }
+            
+            Update update = QuestionIndexes.editUpdate(request);
+            Question saved = questionRepository.updateIfVersion(id, question.getVersion(), update);
+            if (saved != null) {
+                return afterUpdate(saved, question, request);
+            }
+            if (attempt == MAX_EDIT_ATTEMPTS) {
+                throw new RuntimeException("The question was edited by someone else at the same time, please try again");
+            }
         }
-        
-        question.setTitle(request.getTitle());
-        question.setContent(request.getContent());
-        question.setCategory(request.getCategory().toLowerCase());
-        question.setUpdatedAt(LocalDateTime.now());
-        
-        return questionRepository.save(question);
+    }
+    
+    private Question afterUpdate(Question saved, Question previous, UpdateQuestionRequest request) {
+        String id = saved.getId();
+        questionCache.invalidate(id);
+        questionIndexes.questionUpdated(saved, previous.getCategory(), previous.getTags(), request.getTags() != null,
+            answerRepository.findForIndex(id, null));
+        authorBatchLoader.resolve(List.of(saved));
+        return saved;
     }
     
     /**
      * Delete a question
      */
     public void deleteQuestion(String id, String userId) {
-        Question question = getQuestionById(id);
+        Question question = findQuestion(id);
         
         // Check if user is the author
-        if (!question.getAuthor().getId().equals(userId)) {
+        if (!userId.equals(AuthorBatchLoader.authorId(question.getAuthor()))) {
             throw new RuntimeException("You can only delete your own questions");
         }
         
         questionRepository.deleteById(id);
+        questionIndexes.questionDeleted(id, question.getCategory(), userId, question.getTags());
+        questionCache.invalidate(id);
+        questionVoteRepository.deleteByQuestionId(id);
+        answerVoteRepository.deleteByQuestionId(id);
+        answerRepository.deleteByQuestionId(id);
     }
     
     /**
-     * Add an answer to a question
+     * Add an answer to a question: one insert into the answers collection plus
+     * one atomic increment of the question's answer count.
      */
-    public Question addAnswer(String questionId, AddAnswerRequest request, String userId) {
-        Question question = getQuestionById(questionId);
+    public Answer addAnswer(String questionId, AddAnswerRequest request, String userId) {
         User author = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
         Answer answer = new Answer();
-        answer.setId(new ObjectId().toString());
+        answer.setQuestionId(questionId);
         answer.setContent(request.getContent());
         answer.setAuthor(author);
         answer.setUpvotes(0);
         answer.setCreatedAt(LocalDateTime.now());
         answer.setUpdatedAt(LocalDateTime.now());
         
-        question.getAnswers().add(answer);
-        question.setUpdatedAt(LocalDateTime.now());
+        // The answer is written before the count, so other instances that see the count change find it
+        answer = answerRepository.insert(answer);
+        Question question = questionRepository.incrementAnswerCount(questionId, 1);
+        if (question == null) {
+            questionArchiver.promote(questionId);
+            question = questionRepository.incrementAnswerCount(questionId, 1);
+        }
+        if (question == null) {
+            answerRepository.deleteById(answer.getId());
+            throw new RuntimeException("Question not found");
+        }
+        
+        questionCache.invalidate(questionId);
+        questionIndexes.answerAdded(question, answer);
+        eventPublisher.publish(ForumEvent.ANSWER_ADDED, question.getCategory(), Map.of(
+            "questionId", questionId,
+            "answerId", answer.getId(),
+            "answerCount", question.getAnswerCount()));
+        return answer;
+    }
+    
+    /**
+     * Upvote a question, at most once per user.
+     * Returns the question's upvote count after this vote.
+     */
+    public int upvoteQuestion(String id, String userId) {
+        if (voteAggregator.isEnabled()) {
+            return upvoteQuestionWriteBehind(id, userId);
+        }
+        
+        if (!questionRepository.existsById(id)) {
+            questionArchiver.promote(id);
+            if (!questionRepository.existsById(id)) {
+                throw new RuntimeException("Question not found");
+            }
+        }
         
-        return questionRepository.save(question);
+        insertQuestionVote(id, userId);
+        
+        Question updated = questionRepository.incrementUpvotes(id, 1);
+        if (updated == null) {
+            throw new RuntimeException("Question not found");
+        }
+        questionCache.invalidate(id);
+        questionFeedService.questionChanged(updated);
+        eventPublisher.publish(ForumEvent.VOTE_CHANGED, updated.getCategory(),
+            Map.of("questionId", id, "upvotes", updated.getUpvotes()));
+        return updated.getUpvotes();
     }
     
     /**
-     * Upvote a question
+     * Upvote with {@link VoteAggregator} buffering. There is no existence check up front: the
+     * count is only read for the first vote on a question since its counter was last dropped,
+     * and that read doubles as the check.
      */
-    public Question upvoteQuestion(String id, String userId) {
-        Question question = getQuestionById(id);
-        question.setUpvotes(question.getUpvotes() + 1);
-        question.setUpdatedAt(LocalDateTime.now());
-        return questionRepository.save(question);
+    private int upvoteQuestionWriteBehind(String id, String userId) {
+        insertQuestionVote(id, userId);
+        long upvotes = voteAggregator.record(id);
+        if (upvotes >= 0) {
+            return (int) upvotes;
+        }
+        
+        Integer stored = questionRepository.findUpvotes(id);
+        if (stored == null) {
+            questionArchiver.promote(id);
+            stored = questionRepository.findUpvotes(id);
+        }
+        if (stored == null) {
+            // The buffered vote is dropped by the flush, which finds no question to increment
+            questionVoteRepository.deleteByQuestionIdAndUserId(id, userId);
+            throw new RuntimeException("Question not found");
+        }
+        return (int) voteAggregator.withStored(id, stored);
+    }
+    
+    private void insertQuestionVote(String id, String userId) {
+        try {
+            questionVoteRepository.insert(new QuestionVote(null, id, userId, LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("You have already upvoted this question");
+        }
+    }
+    
+    /**
+     * Upvote an answer, at most once per user.
+     * Returns the answer's upvote count after this vote.
+     */
+    public int upvoteAnswer(String questionId, String answerId, String userId) {
+        if (!answerRepository.existsByIdAndQuestionId(answerId, questionId)) {
+            // The answers of an archived question are in the cold tier with it
+            questionArchiver.promote(questionId);
+            if (!answerRepository.existsByIdAndQuestionId(answerId, questionId)) {
+                throw new RuntimeException("Answer not found");
+            }
+        }
+        
+        try {
+            answerVoteRepository.insert(new AnswerVote(null, answerId, questionId, userId, LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("You have already upvoted this answer");
+        }
+        
+        Answer updated = answerRepository.incrementUpvotes(answerId, 1);
+        if (updated == null) {
+            throw new RuntimeException("Answer not found");
+        }
+        // The question's top answers and their votes are part of its detail view
+        questionRepository.touch(questionId);
+        questionCache.invalidate(questionId);
+        // No category, so only unfiltered streams get it; looking it up would cost a read per vote
+        eventPublisher.publish(ForumEvent.ANSWER_VOTE_CHANGED, null,
+            Map.of("questionId", questionId, "answerId", answerId, "upvotes", updated.getUpvotes()));
+        return updated.getUpvotes();
     }
     
     /**
-     * Get questions by category
+     * Mark an answer as the best one, replacing any previously accepted answer.
+     * Only the question's author may do this.
      */
-    public Page<Question> getQuestionsByCategory(String category, int page, int limit) {
+    public Answer acceptAnswer(String questionId, String answerId, String userId) {
+        Question question = findForAnswers(questionId);
+        if (!userId.equals(AuthorBatchLoader.authorId(question.getAuthor()))) {
+            throw new RuntimeException("Only the question's author can accept an answer");
+        }
+        Answer answer = answerRepository.findById(answerId)
+            .filter(found -> questionId.equals(found.getQuestionId()))
+            .orElseThrow(() -> new RuntimeException("Answer not found"));
+        
+        // The question holds the source of truth; the answers' flags follow it
+        if (questionRepository.setAcceptedAnswer(questionId, answerId) == null) {
+            throw new RuntimeException("Question not found");
+        }
+        syncAcceptedFlags(questionId, answerId);
+        answer.setAccepted(true);
+        
+        questionCache.invalidate(questionId);
+        eventPublisher.publish(ForumEvent.ANSWER_ACCEPTED, question.getCategory(),
+            Map.of("questionId", questionId, "answerId", answerId));
+        authorBatchLoader.resolveAnswers(List.of(answer));
+        return answer;
+    }
+    
+    /**
+     * Make the answers' accepted flags match the question's accepted answer. Concurrent accepts
+     * can interleave their flag writes, so this repeats until the question still names the
+     * answer just flagged; the last accept to write then leaves the flags matching the question.
+     */
+    private void syncAcceptedFlags(String questionId, String acceptedId) {
+        String current = acceptedId;
+        do {
+            acceptedId = current;
+            answerRepository.clearAcceptedExcept(questionId, acceptedId);
+            if (acceptedId != null) {
+                answerRepository.setAccepted(acceptedId, true);
+            }
+            Question question = questionRepository.findForAnswers(questionId);
+            current = question != null ? question.getAcceptedAnswerId() : null;
+        } while (!Objects.equals(acceptedId, current));
+    }
+    
+    /**
+     * Get questions by category, optionally restricted to a tag filter
+     */
+    public Page<Question> getQuestionsByCategory(String category, int page, int limit, TagFilter tags,
+                                                 boolean summaryOnly) {
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return questionRepository.findByCategory(category.toLowerCase(), pageable);
+        Long total = questionIndexes.knownTotal(category, tags);
+        return withAuthors(questionRepository.findPage(TagFilter.and(
+            Criteria.where("category").is(category.toLowerCase()), tags), pageable, summaryOnly, total));
+    }
+    
+    /**
+     * Get questions by category with keyset pagination
+     */
+    public CursorPage<Question> getQuestionsByCategoryAfter(String category, String after, int limit,
+                                                           TagFilter tags, boolean summaryOnly) {
+        Criteria filter = TagFilter.and(Criteria.where("category").is(category.toLowerCase()), tags);
+        return findSlice(filter, "createdAt", Sort.Direction.DESC, after, limit, summaryOnly);
     }
     
     /**
      * Get questions by mentor/author
      */
-    public Page<Question> getQuestionsByMentor(String mentorId, int page, int limit) {
+    public Page<Question> getQuestionsByMentor(String mentorId, int page, int limit, boolean summaryOnly) {
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return questionRepository.findByAuthorId(mentorId, pageable);
+        Long total = questionCounters.isReady() ? questionCounters.byAuthor(mentorId) : null;
+        return withAuthors(questionRepository.findPage(authorFilter(mentorId), pageable, summaryOnly, total));
+    }
+    
+    /**
+     * Get questions by mentor/author with keyset pagination
+     */
+    public CursorPage<Question> getQuestionsByMentorAfter(String mentorId, String after, int limit,
+                                                         boolean summaryOnly) {
+        return findSlice(authorFilter(mentorId), "createdAt", Sort.Direction.DESC, after, limit, summaryOnly);
     }
     
     /**
-     * Search questions by title and content
+     * Question totals from the maintained counters, counted in Mongo until they are first reconciled
      */
-    public Page<Question> searchQuestions(String query, String category, int page, int limit) {
+    public ForumStats getStats() {
+        if (questionCounters.isReady()) {
+            return new ForumStats(questionCounters.total(), questionCounters.categoryTotals());
+        }
+        
+        Map<String, Long> byCategory = new HashMap<>();
+        for (String category : questionRepository.findDistinctCategories()) {
+            byCategory.put(category, questionRepository.countByCategory(category));
+        }
+        return new ForumStats(questionRepository.count(), byCategory);
+    }
+    
+    /**
+     * Tag and category facet counts from the maintained counters. With a tag
+     * filter, also the tags that co-occur with the filtered ones. Category
+     * totals are null until the counters are first reconciled: facets ride along
+     * with every list response, so they never fall back to counting in Mongo.
+     */
+    public ForumFacets getFacets(TagFilter tags, int limit) {
+        Map<String, Long> related = tags != null ? tagFacets.relatedTags(tags.getTags(), limit) : null;
+        Map<String, Long> categories = questionCounters.isReady() ? questionCounters.categoryTotals() : null;
+        return new ForumFacets(tagFacets.topTags(limit), categories, related);
+    }
+    
+    /**
+     * Tags most often used together with {@code tag}
+     */
+    public Map<String, Long> getRelatedTags(String tag, int limit) {
+        return tagFacets.relatedTags(TagFilter.normalize(List.of(tag)), limit);
+    }
+    
+    /**
+     * Search questions by title, content and tags, ranked by relevance. Archived
+     * questions are included and read from the cold tier without promoting them.
+     * Falls back to a regex scan of the questions collection while the search index is still being built.
+     */
+    public Page<Question> searchQuestions(String query, String category, TagFilter tags, int page, int limit) {
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
         
-        if (category != null && !category.isEmpty()) {
-            return questionRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
-                query, query, pageable);
+        forumMetrics.searchServed(searchIndex.isReady());
+        if (!searchIndex.isReady()) {
+            return withAuthors(questionRepository.searchByRegex(query, category, tags, pageable));
         }
         
-        return questionRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
-            query, query, pageable);
+        SearchResult result = searchIndex.search(query, category, tags, page, limit);
+        Map<String, Question> byId = StreamSupport.stream(
+            questionRepository.findAllById(result.getQuestionIds()).spliterator(), false)
+            .collect(Collectors.toMap(Question::getId, Function.identity()));
+        List<String> archived = result.getQuestionIds().stream()
+            .filter(id -> !byId.containsKey(id))
+            .collect(Collectors.toList());
+        if (!archived.isEmpty()) {
+            coldStore.findQuestions(archived).forEach(question -> byId.put(question.getId(), question));
+        }
+        List<Question> ranked = result.getQuestionIds().stream()
+            .map(byId::get)
+            .filter(q -> q != null)
+            .collect(Collectors.toList());
+        authorBatchLoader.resolve(ranked);
+        
+        return new PageImpl<>(ranked, PageRequest.of(page - 1, limit), result.getTotalHits());
+    }
+    
+    /**
+     * Typeahead suggestions for the search box, served from memory
+     */
+    public List<TitleSuggestion> suggestTitles(String text, int limit) {
+        return titleAutocomplete.suggest(text, limit);
+    }
+    
+    /**
+     * Precomputed related questions for the detail page
+     */
+    public List<RelatedQuestion> getRelatedQuestions(String id) {
+        return relatedQuestions.related(id);
+    }
+    
+    /**
+     * The accepted answer, if any, as a mutable list to add the ranked answers to
+     */
+    private List<Answer> acceptedAnswer(String acceptedId) {
+        List<Answer> answers = new ArrayList<>();
+        if (acceptedId != null) {
+            answerRepository.findById(acceptedId).ifPresent(answers::add);
+        }
+        return answers;
+    }
+    
+    /**
+     * The question from the questions collection, promoting it from the cold tier if it is archived
+     */
+    private Question findQuestion(String id) {
+        return questionRepository.findById(id)
+            .or(() -> {
+                questionArchiver.promote(id);
+                return questionRepository.findById(id);
+            })
+            .orElseThrow(() -> new RuntimeException("Question not found"));
+    }
+    
+    private Question findForAnswers(String id) {
+        Question question = questionRepository.findForAnswers(id);
+        if (question == null) {
+            questionArchiver.promote(id);
+            question = questionRepository.findForAnswers(id);
+        }
+        if (question == null) {
+            throw new RuntimeException("Question not found");
+        }
+        return question;
+    }
+    
+    private Page<Question> withAuthors(Page<Question> questions) {
+        authorBatchLoader.resolve(questions.getContent());
+        return questions;
+    }
+    
+    private Criteria authorFilter(String authorId) {
+        return Criteria.where("author.$id").is(ObjectId.isValid(authorId) ? new ObjectId(authorId) : authorId);
+    }
+    
+    private CursorPage<Question> findSlice(Criteria filter, String sortField, Sort.Direction direction,
+                                          String after, int limit, boolean summaryOnly) {
+        if (!QuestionCursor.SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Cursor paging is only supported when sorting by " + QuestionCursor.SORT_FIELDS);
+        }
+        
+        QuestionCursor cursor = null;
+        if (after != null && !after.isEmpty()) {
+            cursor = QuestionCursor.decode(after);
+            if (!cursor.getSortField().equals(sortField) || cursor.getDirection() != direction) {
+                throw new IllegalArgumentException("Pagination cursor does not match the requested sort");
+            }
+        }
+        
+        Slice<Question> slice = questionRepository.findSlice(filter, sortField, direction, cursor, limit, summaryOnly);
+        List<Question> questions = slice.getContent();
+        if (!summaryOnly) {
+            authorBatchLoader.resolve(questions);
+        }
+        String nextCursor = slice.hasNext() && !questions.isEmpty()
+            ? QuestionCursor.after(questions.get(questions.size() - 1), sortField, direction).encode()
+            : null;
+        return new CursorPage<>(questions, nextCursor, slice.hasNext());
     }
 }
@@ -0,0 +1,78 @@
+package com.mentorlink.service;
+
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.entity.AuthorSnapshot;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.User;
+import com.mentorlink.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fills the denormalized list fields (author snapshot, excerpt) on questions
+ * written before they existed. Answer counts are set by {@link AnswerMigration}. Runs once per startup and is a
+ * no-op when every question already has them; {@code forum.backfill.enabled=false}
+ * skips it once every deployment has run it.
+ */
+@Component
+@ConditionalOnProperty(name = "forum.backfill.enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QuestionSummaryBackfill {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionSummaryBackfill.class);
+    
+    private static final int AUTHOR_BATCH_SIZE = 500;
+    
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        // The excerpt is computed server-side with a pipeline update
+        AggregationUpdate derived = AggregationUpdate.update()
+            .set("excerpt").toValue(StringOperators.valueOf("content").substringCP(0, QuestionSummary.EXCERPT_LENGTH));
+        long updated = mongoTemplate.updateMulti(
+            new Query(Criteria.where("excerpt").exists(false)), derived, Question.class).getModifiedCount();
+        
+        // Author snapshots need the users collection: one $in per batch, one updateMulti per author
+        Document missingSnapshot = new Document("authorSnapshot", new Document("$exists", false));
+        List<ObjectId> authorIds = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Question.class))
+            .distinct("author.$id", missingSnapshot, ObjectId.class)
+            .into(new ArrayList<>());
+        
+        long snapshots = 0;
+        for (int i = 0; i < authorIds.size(); i += AUTHOR_BATCH_SIZE) {
+            List<String> batch = authorIds.subList(i, Math.min(i + AUTHOR_BATCH_SIZE, authorIds.size())).stream()
+                .map(ObjectId::toHexString)
+                .collect(Collectors.toList());
+            for (User user : userRepository.findAllById(batch)) {
+                Query query = new Query(Criteria.where("author.$id").is(new ObjectId(user.getId()))
+                    .and("authorSnapshot").exists(false));
+                snapshots += mongoTemplate.updateMulti(
+                    query, new Update().set("authorSnapshot", AuthorSnapshot.of(user)), Question.class).getModifiedCount();
+            }
+        }
+        
+        if (updated > 0 || snapshots > 0) {
+            logger.info("✅ [FORUM - JAVA] Backfilled summary fields on {} questions and author snapshots on {}",
+                updated, snapshots);
+        }
+    }
+}
@@ -0,0 +1,874 @@
+package com.mentorlink.service;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.archive.QuestionArchiver;
+import com.mentorlink.dto.AddAnswerRequest;
+import com.mentorlink.dto.CreateQuestionRequest;
+import com.mentorlink.dto.CursorPage;
+import com.mentorlink.dto.ForumFacets;
+import com.mentorlink.dto.ForumStats;
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.dto.QuestionSummary;
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.dto.TitleSuggestion;
+import com.mentorlink.dto.UpdateQuestionRequest;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.AnswerVote;
+import com.mentorlink.entity.Question;
+import com.mentorlink.entity.QuestionVote;
+import com.mentorlink.entity.User;
+import com.mentorlink.events.ForumEvent;
+import com.mentorlink.events.ForumEventPublisher;
+import com.mentorlink.metrics.ForumMetrics;
+import com.mentorlink.repository.ReactiveAnswerRepository;
+import com.mentorlink.repository.ReactiveAnswerVoteRepository;
+import com.mentorlink.repository.ReactiveQuestionRepository;
+import com.mentorlink.repository.ReactiveQuestionVoteRepository;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.RelatedQuestions;
+import com.mentorlink.search.TitleAutocomplete;
+import com.mongodb.DBRef;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking counterpart of {@link QuestionService}, active with the "reactive" profile.
+ *
+ * Reactive mapping cannot resolve {@code @DBRef}s, so questions and answers are
+ * read as raw documents: the author reference is taken off before mapping and
+ * the authors of a page are loaded with one {@code $in}. The search index, feeds
+ * and counters are shared with the blocking stack through {@link QuestionIndexes}.
+ * They never do I/O, but the indexes take locks a rebuild or refresh can hold for
+ * a while, so every call that touches them runs on the bounded elastic scheduler.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveQuestionService {
+    
+    // Authors are resolved per batch while streaming
+    private static final int STREAM_BATCH_SIZE = 100;
+    
+    private static final class AuthorRef {
+        final Object authorId;
+        final Consumer<User> target;
+        
+        AuthorRef(Object authorId, Consumer<User> target) {
+            this.authorId = authorId;
+            this.target = target;
+        }
+    }
+    
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReactiveQuestionRepository questionRepository;
+    private final ReactiveAnswerRepository answerRepository;
+    private final ReactiveQuestionVoteRepository questionVoteRepository;
+    private final ReactiveAnswerVoteRepository answerVoteRepository;
+    private final VoteAggregator voteAggregator;
+    private final QuestionIndexes questionIndexes;
+    private final QuestionSearchIndex searchIndex;
+    private final TitleAutocomplete titleAutocomplete;
+    private final RelatedQuestions relatedQuestions;
+    private final QuestionFeedService questionFeedService;
+    private final QuestionCounters questionCounters;
+    private final TagFacets tagFacets;
+    private final ForumMetrics forumMetrics;
+    private final ForumEventPublisher eventPublisher;
+    private final QuestionArchiver questionArchiver;
+    private final ColdQuestionStore coldStore;
+    
+    /**
+     * Get all questions with pagination and sorting
+     */
+    public Mono<Page<Question>> getAllQuestions(int page, int limit, String sort, TagFilter tags,
+                                                boolean summaryOnly) {
+        Sort.Direction direction = sort.startsWith("-") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String field = sort.replace("-", "");
+        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(direction, field));
+        Long total = questionIndexes.knownTotal(null, tags);
+        return findPage(TagFilter.and(null, tags), pageable, summaryOnly, total);
+    }
+    
+    /**
+     * Get all questions with keyset pagination
+     */
+    public Mono<CursorPage<Question>> getAllQuestionsAfter(String after, int limit, String sort, TagFilter tags,
+                                                          boolean summaryOnly) {
+        Sort.Direction direction = sort.startsWith("-") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String field = sort.replace("-", "");
+        return findSlice(TagFilter.and(null, tags), field, direction, after, limit, summaryOnly);
+    }
+    
+    /**
+     * Every question matching the optional category, in {@code sort} order, as it is read
+     * from the cursor. Authors are resolved per batch of {@value #STREAM_BATCH_SIZE}.
+     * The sort must be on one of {@link QuestionCursor#SORT_FIELDS}.
+     */
+    public Flux<Question> streamQuestions(String category, String sort, boolean summaryOnly) {
+        Sort.Direction direction = sort.startsWith("-") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String field = sort.replace("-", "");
+        if (!QuestionCursor.SORT_FIELDS.contains(field)) {
+            return Flux.error(new IllegalArgumentException("Unsupported sort field for streaming: " + field));
+        }
+        // One sort key, with no _id tie-break: category_upvotes has no _id after upvotes, and a
+        // stream is never resumed, so every combination is served in index order
+        Query query = new Query(category != null && !category.isEmpty()
+            ? Criteria.where("category").is(category.toLowerCase())
+            : new Criteria())
+            .with(Sort.by(direction, field));
+        if (summaryOnly) {
+            query.fields().include(QuestionSummary.FIELDS);
+        }
+        
+        return mongoTemplate.find(query, Document.class, questionCollection())
+            .buffer(STREAM_BATCH_SIZE)
+            .concatMap(this::toQuestions)
+            .flatMapIterable(Function.identity());
+    }
+    
+    /**
+     * Get single question by ID, with its accepted answer and its highest voted answers attached.
+     * An archived question is promoted back to the questions collection first.
+     */
+    public Mono<Question> getQuestionById(String id) {
+        return findQuestionDocument(id)
+            .flatMap(questionDocument -> {
+                String acceptedId = questionDocument.getString("acceptedAnswerId");
+                return findAcceptedAnswer(acceptedId)
+                    .zipWith(findAnswerDocuments(id, "upvotes", Sort.Direction.DESC, null,
+                        QuestionService.ANSWER_PREVIEW_LIMIT, acceptedId))
+                    .flatMap(answerDocuments -> {
+                        List<AuthorRef> refs = new ArrayList<>();
+                        Question question = readQuestion(questionDocument, refs);
+                        List<Answer> answers = new ArrayList<>();
+                        answerDocuments.getT1().forEach(document -> answers.add(readAnswer(document, refs)));
+                        answerDocuments.getT2().forEach(document -> answers.add(readAnswer(document, refs)));
+                        question.setAnswers(answers);
+                        return resolveAuthors(refs).thenReturn(question);
+                    });
+            })
+            .doOnNext(question -> forumMetrics.recordAnswerCount(question.getAnswerCount()));
+    }
+    
+    /**
+     * Get a page of a question's answers, oldest first ("time") or highest voted first ("votes").
+     * By votes, the accepted answer is put in front of the first page and left out of the ranking.
+     */
+    public Mono<CursorPage<Answer>> getAnswers(String questionId, String sort, String after, int limit) {
+        String sortField = "votes".equals(sort) ? "upvotes" : "createdAt";
+        Sort.Direction direction = "votes".equals(sort) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Query questionQuery = new Query(Criteria.where("_id").is(questionId));
+        questionQuery.fields().include("acceptedAnswerId");
+        
+        return orPromoted(questionId, () -> mongoTemplate.findOne(questionQuery, Document.class, questionCollection()))
+            .switchIfEmpty(Mono.error(new RuntimeException("Question not found")))
+            .flatMap(questionDocument -> {
+                QuestionCursor cursor = decodeCursor(after, sortField, direction);
+                String acceptedId = "votes".equals(sort) ? questionDocument.getString("acceptedAnswerId") : null;
+                return findAcceptedAnswer(cursor == null ? acceptedId : null)
+                    .zipWith(findAnswerDocuments(questionId, sortField, direction, cursor, limit + 1, acceptedId));
+            })
+            .flatMap(documents -> {
+                List<Document> ranked = documents.getT2();
+                boolean hasNext = ranked.size() > limit;
+                List<AuthorRef> refs = new ArrayList<>();
+                List<Answer> answers = new ArrayList<>();
+                documents.getT1().forEach(document -> answers.add(readAnswer(document, refs)));
+                List<Answer> rankedAnswers = ranked.stream()
+                    .limit(limit)
+                    .map(document -> readAnswer(document, refs))
+                    .collect(Collectors.toList());
+                answers.addAll(rankedAnswers);
+                String nextCursor = hasNext && !rankedAnswers.isEmpty()
+                    ? QuestionCursor.after(rankedAnswers.get(rankedAnswers.size() - 1), sortField, direction).encode()
+                    : null;
+                return resolveAuthors(refs).thenReturn(new CursorPage<>(answers, nextCursor, hasNext));
+            });
+    }
+    
+    /**
+     * Create a new question
+     */
+    public Mono<Question> createQuestion(CreateQuestionRequest request, String userId) {
+        return findUser(userId).flatMap(author -> offload(() -> questionIndexes.checkDuplicates(request))
+            .flatMap(duplicates -> {
+                Question question = QuestionIndexes.newQuestion(request, author);
+                return mongoTemplate.insert(toDocument(question, author), questionCollection())
+                    .flatMap(saved -> {
+                        question.setId(saved.get("_id").toString());
+                        question.setAuthor(author);
+                        return offload(() -> {
+                            questionIndexes.questionCreated(question);
+                            eventPublisher.publish(ForumEvent.QUESTION_CREATED, question.getCategory(),
+                                QuestionSummary.from(question));
+                            question.setPossibleDuplicates(duplicates);
+                            return question;
+                        });
+                    });
+            }));
+    }
+    
+    /**
+     * Update an existing question
+     */
+    public Mono<Question> updateQuestion(String id, UpdateQuestionRequest request, String userId) {
+        // Each attempt re-reads the question, so a lost race is retried against the newer version
+        return Mono.defer(() -> findQuestionDocument(id))
+            .flatMap(document -> {
+                // Check if user is the author
+                if (!userId.equals(authorId(document))) {
+                    return Mono.error(new RuntimeException("You can only update your own questions"));
+                }
+                
+                String oldCategory = document.getString("category");
+                List<String> oldTags = document.getList("tags", String.class);
+                Update update = QuestionIndexes.editUpdate(request).inc("version", 1);
+                forumMetrics.recordWriteBytes("edit", ForumMetrics.bsonSize(update.getUpdateObject()));
+                
+                // A null version also matches questions written before versioning
+                Query query = new Query(Criteria.where("_id").is(id).and("version").is(document.get("version")));
+                return mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), Document.class, questionCollection())
+                    .switchIfEmpty(Mono.error(new OptimisticLockingFailureException("Question " + id + " was modified")))
+                    .zipWith(findAnswersForIndex(id))
+                    .flatMap(updated -> {
+                        List<AuthorRef> refs = new ArrayList<>();
+                        Question saved = readQuestion(updated.getT1(), refs);
+                        return offload(() -> {
+                            questionIndexes.questionUpdated(saved, oldCategory, oldTags, request.getTags() != null,
+                                updated.getT2());
+                            return saved;
+                        }).then(resolveAuthors(refs)).thenReturn(saved);
+                    });
+            })
+            .retryWhen(Retry.max(QuestionService.MAX_EDIT_ATTEMPTS - 1)
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> new RuntimeException(
+                    "The question was edited by someone else at the same time, please try again")));
+    }
+    
+    /**
+     * Delete a question
+     */
+    public Mono<Void> deleteQuestion(String id, String userId) {
+        return findQuestionDocument(id)
+            .flatMap(document -> {
+                // Check if user is the author
+                if (!userId.equals(authorId(document))) {
+                    return Mono.error(new RuntimeException("You can only delete your own questions"));
+                }
+                
+                return questionRepository.deleteById(id)
+                    .then(offload(() -> {
+                        questionIndexes.questionDeleted(id, document.getString("category"), userId,
+                            document.getList("tags", String.class));
+                        return id;
+                    }))
+                    .then(questionVoteRepository.deleteByQuestionId(id))
+                    .then(answerVoteRepository.deleteByQuestionId(id))
+                    .then(answerRepository.deleteByQuestionId(id))
+                    .then();
+            });
+    }
+    
+    /**
+     * Add an answer to a question: one insert into the answers collection plus
+     * one atomic increment of the question's answer count.
+     */
+    public Mono<Answer> addAnswer(String questionId, AddAnswerRequest request, String userId) {
+        return findUser(userId).flatMap(author -> {
+            Answer answer = new Answer();
+            answer.setQuestionId(questionId);
+            answer.setContent(request.getContent());
+            answer.setUpvotes(0);
+            answer.setCreatedAt(LocalDateTime.now());
+            answer.setUpdatedAt(LocalDateTime.now());
+            
+            // The answer is written before the count, so other instances that see the count change find it
+            return mongoTemplate.insert(toDocument(answer, author), answerCollection())
+                .flatMap(saved -> incrementQuestion(questionId, "answerCount", 1)
+                    .onErrorResume(e -> mongoTemplate.remove(new Query(Criteria.where("_id").is(saved.get("_id"))),
+                        answerCollection()).then(Mono.error(e)))
+                    .flatMap(question -> {
+                        answer.setId(saved.get("_id").toString());
+                        answer.setAuthor(author);
+                        return offload(() -> {
+                            questionIndexes.answerAdded(question, answer);
+                            eventPublisher.publish(ForumEvent.ANSWER_ADDED, question.getCategory(), Map.of(
+                                "questionId", questionId,
+                                "answerId", answer.getId(),
+                                "answerCount", question.getAnswerCount()));
+                            return answer;
+                        });
+                    }));
+        });
+    }
+    
+    /**
+     * Upvote a question, at most once per user.
+     * Returns the question's upvote count after this vote.
+     */
+    public Mono<Integer> upvoteQuestion(String id, String userId) {
+        if (voteAggregator.isEnabled()) {
+            return upvoteQuestionWriteBehind(id, userId);
+        }
+        
+        return orPromoted(id, () -> questionRepository.existsById(id).filter(Boolean::booleanValue))
+            .defaultIfEmpty(false)
+            .flatMap(exists -> {
+                if (!exists) {
+                    return Mono.error(new RuntimeException("Question not found"));
+                }
+                return insertQuestionVote(id, userId);
+            })
+            .flatMap(vote -> incrementQuestion(id, "upvotes", 1)
+                .flatMap(updated -> offload(() -> {
+                    questionFeedService.questionChanged(updated);
+                    eventPublisher.publish(ForumEvent.VOTE_CHANGED, updated.getCategory(),
+                        Map.of("questionId", id, "upvotes", updated.getUpvotes()));
+                    return updated.getUpvotes();
+                })));
+    }
+    
+    /**
+     * Upvote with {@link VoteAggregator} buffering; the count is only read for the first
+     * vote on a question since its counter was last dropped, and that read doubles as the check
+     */
+    private Mono<Integer> upvoteQuestionWriteBehind(String id, String userId) {
+        return insertQuestionVote(id, userId).flatMap(vote -> {
+            long upvotes = voteAggregator.record(id);
+            if (upvotes >= 0) {
+                return Mono.just((int) upvotes);
+            }
+            
+            Query query = new Query(Criteria.where("_id").is(id));
+            query.fields().include("upvotes");
+            return orPromoted(id, () -> mongoTemplate.findOne(query, Document.class, questionCollection()))
+                .map(document -> (int) voteAggregator.withStored(id, upvotes(document)))
+                .switchIfEmpty(questionVoteRepository.deleteByQuestionIdAndUserId(id, userId)
+                    .then(Mono.error(new RuntimeException("Question not found"))));
+        });
+    }
+    
+    private Mono<QuestionVote> insertQuestionVote(String id, String userId) {
+        return questionVoteRepository.insert(new QuestionVote(null, id, userId, LocalDateTime.now()))
+            .onErrorMap(DuplicateKeyException.class,
+                e -> new RuntimeException("You have already upvoted this question"));
+    }
+    
+    /**
+     * Upvote an answer, at most once per user.
+     * Returns the answer's upvote count after this vote.
+     */
+    public Mono<Integer> upvoteAnswer(String questionId, String answerId, String userId) {
+        Query answerQuery = new Query(Criteria.where("_id").is(toObjectId(answerId)).and("questionId").is(questionId));
+        // The answers of an archived question are in the cold tier with it
+        return orPromoted(questionId,
+                () -> mongoTemplate.exists(answerQuery, answerCollection()).filter(Boolean::booleanValue))
+            .defaultIfEmpty(false)
+            .flatMap(exists -> {
+                if (!exists) {
+                    return Mono.error(new RuntimeException("Answer not found"));
+                }
+                return answerVoteRepository.insert(
+                    new AnswerVote(null, answerId, questionId, userId, LocalDateTime.now()));
+            })
+            .onErrorMap(DuplicateKeyException.class,
+                e -> new RuntimeException("You have already upvoted this answer"))
+            .flatMap(vote -> {
+                Query query = new Query(Criteria.where("_id").is(toObjectId(answerId)));
+                query.fields().include("upvotes");
+                return mongoTemplate.findAndModify(query, new Update().inc("upvotes", 1),
+                        FindAndModifyOptions.options().returnNew(true), Document.class, answerCollection())
+                    .switchIfEmpty(Mono.error(new RuntimeException("Answer not found")));
+            })
+            .flatMap(document -> {
+                // The question's top answers and their votes are part of its detail view
+                Update touch = new Update().set("updatedAt", LocalDateTime.now());
+                forumMetrics.recordWriteBytes("touch", ForumMetrics.bsonSize(touch.getUpdateObject()));
+                return mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(questionId)), touch,
+                        questionCollection())
+                    .thenReturn(document);
+            })
+            .map(document -> {
+                int upvotes = (int) upvotes(document);
+                // No category, so only unfiltered streams get it; looking it up would cost a read per vote
+                eventPublisher.publish(ForumEvent.ANSWER_VOTE_CHANGED, null,
+                    Map.of("questionId", questionId, "answerId", answerId, "upvotes", upvotes));
+                return upvotes;
+            });
+    }
+    
+    /**
+     * Mark an answer as the best one, replacing any previously accepted answer.
+     * Only the question's author may do this.
+     */
+    public Mono<Answer> acceptAnswer(String questionId, String answerId, String userId) {
+        return findQuestionDocument(questionId)
+            .flatMap(questionDocument -> {
+                if (!userId.equals(authorId(questionDocument))) {
+                    return Mono.error(new RuntimeException("Only the question's author can accept an answer"));
+                }
+                
+                return mongoTemplate.findById(answerId, Document.class, answerCollection())
+                    .filter(document -> questionId.equals(document.getString("questionId")))
+                    .switchIfEmpty(Mono.error(new RuntimeException("Answer not found")))
+                    .flatMap(answerDocument -> {
+                        // The question holds the source of truth; the answers' flags follow it
+                        Query query = new Query(Criteria.where("_id").is(questionId));
+                        query.fields().include("acceptedAnswerId");
+                        Update update = new Update()
+                            .set("acceptedAnswerId", answerId)
+                            .set("updatedAt", LocalDateTime.now());
+                        forumMetrics.recordWriteBytes("accept-answer", ForumMetrics.bsonSize(update.getUpdateObject()));
+                        
+                        return mongoTemplate.findAndModify(query, update, Document.class, questionCollection())
+                            .switchIfEmpty(Mono.error(new RuntimeException("Question not found")))
+                            .flatMap(previous -> syncAcceptedFlags(questionId, answerId))
+                            .then(Mono.defer(() -> {
+                                List<AuthorRef> refs = new ArrayList<>();
+                                Answer answer = readAnswer(answerDocument, refs);
+                                answer.setAccepted(true);
+                                eventPublisher.publish(ForumEvent.ANSWER_ACCEPTED, questionDocument.getString("category"),
+                                    Map.of("questionId", questionId, "answerId", answerId));
+                                return resolveAuthors(refs).thenReturn(answer);
+                            }));
+                    });
+            });
+    }
+    
+    /**
+     * Get questions by category
+     */
+    public Mono<Page<Question>> getQuestionsByCategory(String category, int page, int limit, TagFilter tags,
+                                                       boolean summaryOnly) {
+        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Long total = questionIndexes.knownTotal(category, tags);
+        return findPage(TagFilter.and(Criteria.where("category").is(category.toLowerCase()), tags),
+            pageable, summaryOnly, total);
+    }
+    
+    /**
+     * Get questions by category with keyset pagination
+     */
+    public Mono<CursorPage<Question>> getQuestionsByCategoryAfter(String category, String after, int limit,
+                                                                 TagFilter tags, boolean summaryOnly) {
+        Criteria filter = TagFilter.and(Criteria.where("category").is(category.toLowerCase()), tags);
+        return findSlice(filter, "createdAt", Sort.Direction.DESC, after, limit, summaryOnly);
+    }
+    
+    /**
+     * Get questions by mentor/author
+     */
+    public Mono<Page<Question>> getQuestionsByMentor(String mentorId, int page, int limit, boolean summaryOnly) {
+        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Long total = questionCounters.isReady() ? questionCounters.byAuthor(mentorId) : null;
+        return findPage(authorFilter(mentorId), pageable, summaryOnly, total);
+    }
+    
+    /**
+     * Get questions by mentor/author with keyset pagination
+     */
+    public Mono<CursorPage<Question>> getQuestionsByMentorAfter(String mentorId, String after, int limit,
+                                                               boolean summaryOnly) {
+        return findSlice(authorFilter(mentorId), "createdAt", Sort.Direction.DESC, after, limit, summaryOnly);
+    }
+    
+    /**
+     * Question totals from the maintained counters, counted in Mongo until they are first reconciled
+     */
+    public Mono<ForumStats> getStats() {
+        if (questionCounters.isReady()) {
+            return Mono.just(new ForumStats(questionCounters.total(), questionCounters.categoryTotals()));
+        }
+        
+        Mono<Map<String, Long>> byCategory = mongoTemplate
+            .findDistinct(new Query(), "category", Question.class, String.class)
+            .flatMap(category -> mongoTemplate
+                .count(new Query(Criteria.where("category").is(category)), Question.class)
+                .map(count -> Map.entry(category, count)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+        return Mono.zip(questionRepository.count(), byCategory)
+            .map(stats -> new ForumStats(stats.getT1(), stats.getT2()));
+    }
+    
+    /**
+     * Tag and category facet counts from the maintained counters. With a tag
+     * filter, also the tags that co-occur with the filtered ones. Category
+     * totals are null until the counters are first reconciled: facets ride along
+     * with every list response, so they never fall back to counting in Mongo.
+     */
+    public Mono<ForumFacets> getFacets(TagFilter tags, int limit) {
+        return offload(() -> new ForumFacets(tagFacets.topTags(limit),
+                questionCounters.isReady() ? questionCounters.categoryTotals() : null,
+                tags != null ? tagFacets.relatedTags(tags.getTags(), limit) : null));
+    }
+    
+    /**
+     * Tags most often used together with {@code tag}
+     */
+    public Mono<Map<String, Long>> getRelatedTags(String tag, int limit) {
+        return offload(() -> tagFacets.relatedTags(TagFilter.normalize(List.of(tag)), limit));
+    }
+    
+    /**
+     * Search questions by title, content and tags, ranked by relevance. Archived
+     * questions are included and read from the cold tier without promoting them.
+     * Falls back to a regex scan of the questions collection while the search index is still being built.
+     */
+    public Mono<Page<Question>> searchQuestions(String query, String category, TagFilter tags, int page, int limit) {
+        forumMetrics.searchServed(searchIndex.isReady());
+        if (!searchIndex.isReady()) {
+            return searchByRegex(query, category, tags, PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "createdAt")));
+        }
+        
+        return offload(() -> searchIndex.search(query, category, tags, page, limit))
+            .flatMap(result -> mongoTemplate.find(new Query(Criteria.where("_id").in(result.getQuestionIds())),
+                    Document.class, questionCollection())
+                .collectList()
+                .flatMap(documents -> withArchived(documents, result.getQuestionIds()))
+                .flatMap(this::toQuestions)
+                .map(questions -> {
+                    Map<String, Question> byId = questions.stream()
+                        .collect(Collectors.toMap(Question::getId, Function.identity()));
+                    List<Question> ranked = result.getQuestionIds().stream()
+                        .map(byId::get)
+                        .filter(q -> q != null)
+                        .collect(Collectors.toList());
+                    return new PageImpl<>(ranked, PageRequest.of(page - 1, limit), result.getTotalHits());
+                }));
+    }
+    
+    /**
+     * Typeahead suggestions for the search box, served from memory
+     */
+    public Mono<List<TitleSuggestion>> suggestTitles(String text, int limit) {
+        return offload(() -> titleAutocomplete.suggest(text, limit));
+    }
+    
+    /**
+     * Precomputed related questions for the detail page, served from memory
+     */
+    public Mono<List<RelatedQuestion>> getRelatedQuestions(String id) {
+        return offload(() -> relatedQuestions.related(id));
+    }
+    
+    private Mono<Page<Question>> searchByRegex(String text, String category, TagFilter tags, Pageable pageable) {
+        String pattern = Pattern.quote(text);
+        Criteria criteria = new Criteria().orOperator(
+            Criteria.where("title").regex(pattern, "i"),
+            Criteria.where("content").regex(pattern, "i"));
+        if (category != null && !category.isEmpty()) {
+            criteria = new Criteria().andOperator(criteria, Criteria.where("category").is(category.toLowerCase()));
+        }
+        return findPage(TagFilter.and(criteria, tags), pageable, false, null);
+    }
+    
+    private Mono<Page<Question>> findPage(Criteria filter, Pageable pageable, boolean summaryOnly, Long knownTotal) {
+        Query query = new Query(filter != null ? filter : new Criteria()).with(pageable);
+        if (summaryOnly) {
+            query.fields().include(QuestionSummary.FIELDS);
+        }
+        
+        Mono<List<Question>> questions = mongoTemplate.find(query, Document.class, questionCollection())
+            .collectList()
+            .flatMap(this::toQuestions);
+        Mono<Long> total = knownTotal != null
+            ? Mono.just(knownTotal)
+            : mongoTemplate.count(Query.of(query).limit(-1).skip(-1), questionCollection());
+        return Mono.zip(questions, total)
+            .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+    
+    private Mono<CursorPage<Question>> findSlice(Criteria filter, String sortField, Sort.Direction direction,
+                                                String after, int limit, boolean summaryOnly) {
+        return Mono.defer(() -> {
+            if (!QuestionCursor.SORT_FIELDS.contains(sortField)) {
+                throw new IllegalArgumentException("Cursor paging is only supported when sorting by " + QuestionCursor.SORT_FIELDS);
+            }
+            
+            QuestionCursor cursor = decodeCursor(after, sortField, direction);
+            Criteria criteria = filter != null ? filter : new Criteria();
+            if (cursor != null) {
+                criteria = new Criteria().andOperator(criteria, cursor.toCriteria());
+            }
+            
+            // Fetch one extra row to know whether another page exists
+            Query query = new Query(criteria)
+                .with(Sort.by(direction, sortField).and(Sort.by(direction, "_id")))
+                .limit(limit + 1);
+            if (summaryOnly) {
+                query.fields().include(QuestionSummary.FIELDS);
+            }
+            
+            return mongoTemplate.find(query, Document.class, questionCollection()).collectList();
+        }).flatMap(documents -> {
+            boolean hasNext = documents.size() > limit;
+            return toQuestions(hasNext ? documents.subList(0, limit) : documents)
+                .map(questions -> {
+                    String nextCursor = hasNext && !questions.isEmpty()
+                        ? QuestionCursor.after(questions.get(questions.size() - 1), sortField, direction).encode()
+                        : null;
+                    return new CursorPage<>(questions, nextCursor, hasNext);
+                });
+        });
+    }
+    
+    private QuestionCursor decodeCursor(String after, String sortField, Sort.Direction direction) {
+        if (after == null || after.isEmpty()) {
+            return null;
+        }
+        QuestionCursor cursor = QuestionCursor.decode(after);
+        if (!cursor.getSortField().equals(sortField) || cursor.getDirection() != direction) {
+            throw new IllegalArgumentException("Pagination cursor does not match the requested sort");
+        }
+        return cursor;
+    }
+    
+    /**
+     * Atomically add {@code delta} to a counter field; returns the summary fields after the update
+     */
+    private Mono<Question> incrementQuestion(String id, String field, int delta) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include(QuestionSummary.FIELDS);
+        Update update = new Update()
+            .inc(field, delta)
+            .set("updatedAt", LocalDateTime.now());
+        forumMetrics.recordWriteBytes(field.equals("upvotes") ? "upvote" : "answer-count",
+            ForumMetrics.bsonSize(update.getUpdateObject()));
+        
+        return orPromoted(id, () -> mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Document.class, questionCollection()))
+            .switchIfEmpty(Mono.error(new RuntimeException("Question not found")))
+            .map(document -> readQuestion(document, new ArrayList<>()));
+    }
+    
+    /**
+     * The question document, promoting it from the cold tier if it is archived
+     */
+    private Mono<Document> findQuestionDocument(String id) {
+        return orPromoted(id, () -> mongoTemplate.findById(id, Document.class, questionCollection()))
+            .switchIfEmpty(Mono.error(new RuntimeException("Question not found")));
+    }
+    
+    /**
+     * Run {@code lookup}; if it comes back empty, promote the question from the cold tier and run it again.
+     * Promotion uses the blocking driver, so it runs off the event loop.
+     */
+    private <T> Mono<T> orPromoted(String questionId, Supplier<Mono<T>> lookup) {
+        Mono<Void> promote = Mono.fromRunnable(() -> questionArchiver.promote(questionId))
+            .subscribeOn(Schedulers.boundedElastic())
+            .then();
+        return lookup.get().switchIfEmpty(promote.then(Mono.defer(lookup)));
+    }
+    
+    /**
+     * Run {@code work} on the bounded elastic scheduler, for calls into the in-memory
+     * indexes that may wait on their locks
+     */
+    private static <T> Mono<T> offload(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    /**
+     * Add the archived questions among {@code ids} that the questions collection did not return
+     */
+    private Mono<List<Document>> withArchived(List<Document> documents, List<String> ids) {
+        Set<String> found = documents.stream()
+            .map(document -> document.get("_id").toString())
+            .collect(Collectors.toSet());
+        List<String> archived = ids.stream().filter(id -> !found.contains(id)).collect(Collectors.toList());
+        if (archived.isEmpty()) {
+            return Mono.just(documents);
+        }
+        return Mono.fromCallable(() -> coldStore.findQuestionDocuments(archived))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(archivedDocuments -> {
+                List<Document> all = new ArrayList<>(documents);
+                all.addAll(archivedDocuments);
+                return all;
+            });
+    }
+    
+    /**
+     * One more answer than needed tells whether another page follows; {@code excludeId} is left out
+     */
+    private Mono<List<Document>> findAnswerDocuments(String questionId, String sortField, Sort.Direction direction,
+                                                     QuestionCursor cursor, int limit, String excludeId) {
+        Criteria criteria = Criteria.where("questionId").is(questionId);
+        if (excludeId != null) {
+            criteria = criteria.and("_id").ne(toObjectId(excludeId));
+        }
+        if (cursor != null) {
+            criteria = new Criteria().andOperator(criteria, cursor.toCriteria());
+        }
+        Query query = new Query(criteria)
+            .with(Sort.by(direction, sortField).and(Sort.by(direction, "_id")))
+            .limit(limit);
+        return mongoTemplate.find(query, Document.class, answerCollection()).collectList();
+    }
+    
+    /**
+     * The accepted answer, if any, as a list to put in front of the ranked answers
+     */
+    private Mono<List<Document>> findAcceptedAnswer(String acceptedId) {
+        if (acceptedId == null) {
+            return Mono.just(Collections.emptyList());
+        }
+        return mongoTemplate.findById(acceptedId, Document.class, answerCollection())
+            .map(Collections::singletonList)
+            .defaultIfEmpty(Collections.emptyList());
+    }
+    
+    /**
+     * Make the answers' accepted flags match the question's accepted answer, repeating
+     * until the question still names the answer just flagged (see QuestionService)
+     */
+    private Mono<Void> syncAcceptedFlags(String questionId, String acceptedId) {
+        Criteria stale = Criteria.where("questionId").is(questionId).and("accepted").is(true);
+        if (acceptedId != null) {
+            stale.and("_id").ne(toObjectId(acceptedId));
+        }
+        Mono<Void> flags = mongoTemplate.updateMulti(new Query(stale), new Update().set("accepted", false), answerCollection())
+            .then(acceptedId != null ? setAccepted(acceptedId, true) : Mono.empty());
+        
+        Query query = new Query(Criteria.where("_id").is(questionId));
+        query.fields().include("acceptedAnswerId");
+        return flags
+            .then(mongoTemplate.findOne(query, Document.class, questionCollection())
+                .map(question -> Optional.ofNullable(question.getString("acceptedAnswerId")))
+                .defaultIfEmpty(Optional.empty()))
+            .flatMap(current -> Objects.equals(current.orElse(null), acceptedId)
+                ? Mono.<Void>empty()
+                : syncAcceptedFlags(questionId, current.orElse(null)));
+    }
+    
+    private Mono<Void> setAccepted(String answerId, boolean accepted) {
+        return mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(toObjectId(answerId))),
+            new Update().set("accepted", accepted), answerCollection()).then();
+    }
+    
+    private Mono<List<Answer>> findAnswersForIndex(String questionId) {
+        Query query = new Query(Criteria.where("questionId").is(questionId));
+        query.fields().include("content");
+        return mongoTemplate.find(query, Answer.class, answerCollection())
+            .collectList();
+    }
+    
+    private Mono<User> findUser(String userId) {
+        return mongoTemplate.findById(userId, User.class)
+            .switchIfEmpty(Mono.error(new RuntimeException("User not found")));
+    }
+    
+    private Mono<List<Question>> toQuestions(List<Document> documents) {
+        List<AuthorRef> refs = new ArrayList<>();
+        List<Question> questions = documents.stream()
+            .map(document -> readQuestion(document, refs))
+            .collect(Collectors.toList());
+        return resolveAuthors(refs).thenReturn(questions);
+    }
+    
+    private Question readQuestion(Document document, List<AuthorRef> refs) {
+        Object ref = document.remove("author");
+        Question question = mongoTemplate.getConverter().read(Question.class, document);
+        if (ref instanceof DBRef) {
+            refs.add(new AuthorRef(((DBRef) ref).getId(), question::setAuthor));
+        }
+        return question;
+    }
+    
+    private Answer readAnswer(Document document, List<AuthorRef> refs) {
+        Object ref = document.remove("author");
+        Answer answer = mongoTemplate.getConverter().read(Answer.class, document);
+        if (ref instanceof DBRef) {
+            refs.add(new AuthorRef(((DBRef) ref).getId(), answer::setAuthor));
+        }
+        return answer;
+    }
+    
+    /**
+     * Load every referenced author with one query and hand each to its target
+     */
+    private Mono<Void> resolveAuthors(List<AuthorRef> refs) {
+        if (refs.isEmpty()) {
+            return Mono.empty();
+        }
+        
+        Set<Object> ids = refs.stream().map(ref -> ref.authorId).collect(Collectors.toSet());
+        return mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), User.class)
+            .collectMap(User::getId)
+            .doOnNext(users -> refs.forEach(ref -> ref.target.accept(users.get(ref.authorId.toString()))))
+            .then();
+    }
+    
+    /**
+     * Map an entity without its author and add the author as a DBRef, the way the blocking mapping stores it
+     */
+    private Document toDocument(Object entity, User author) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(entity, document);
+        document.put("author", new DBRef(mongoTemplate.getCollectionName(User.class), toObjectId(author.getId())));
+        return document;
+    }
+    
+    private static String authorId(Document document) {
+        Object ref = document.get("author");
+        return ref instanceof DBRef ? ((DBRef) ref).getId().toString() : null;
+    }
+    
+    private static long upvotes(Document document) {
+        Object upvotes = document.get("upvotes");
+        return upvotes instanceof Number ? ((Number) upvotes).longValue() : 0;
+    }
+    
+    private Criteria authorFilter(String authorId) {
+        return Criteria.where("author.$id").is(toObjectId(authorId));
+    }
+    
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+    
+    private String questionCollection() {
+        return mongoTemplate.getCollectionName(Question.class);
+    }
+    
+    private String answerCollection() {
+        return mongoTemplate.getCollectionName(Answer.class);
+    }
+}
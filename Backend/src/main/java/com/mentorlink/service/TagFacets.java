@@ -0,0 +1,199 @@
+package com.mentorlink.service;
+
+import com.mentorlink.entity.Question;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Question counts per tag and per pair of tags (co-occurrence), kept in memory
+ * for facet sidebars and "related tags".
+ *
+ * Maintained like {@link QuestionCounters}: adjusted on every create, delete and
+ * tag change, and periodically replaced by exact counts aggregated in Mongo.
+ * The sorted top-tags list is rebuilt at most once per {@code facet-refresh-ms}
+ * rather than on every request.
+ */
+@Component
+public class TagFacets {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TagFacets.class);
+    
+    private static final class Counts {
+        final ConcurrentHashMap<String, LongAdder> byTag = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, ConcurrentHashMap<String, LongAdder>> pairs = new ConcurrentHashMap<>();
+    }
+    
+    private final MongoTemplate mongoTemplate;
+    private final long refreshMs;
+    
+    private volatile Counts counts = new Counts();
+    private volatile boolean ready;
+    
+    private volatile List<Map.Entry<String, Long>> topTags = Collections.emptyList();
+    private volatile long topTagsBuiltAt;
+    
+    public TagFacets(MongoTemplate mongoTemplate,
+                     @Value("${forum.tags.facet-refresh-ms:1000}") long refreshMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.refreshMs = refreshMs;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Number of questions carrying {@code tag}
+     */
+    public long count(String tag) {
+        LongAdder adder = counts.byTag.get(tag);
+        return adder != null ? adder.sum() : 0;
+    }
+    
+    /**
+     * The {@code limit} most used tags with their question counts, most used first
+     */
+    public Map<String, Long> topTags(int limit) {
+        long now = System.currentTimeMillis();
+        if (now - topTagsBuiltAt > refreshMs) {
+            topTags = sorted(counts.byTag);
+            topTagsBuiltAt = now;
+        }
+        return first(topTags, limit);
+    }
+    
+    /**
+     * Tags appearing together with any of {@code tags}, with the number of questions
+     * sharing them, most frequent first. The filter tags themselves are left out.
+     */
+    public Map<String, Long> relatedTags(Collection<String> tags, int limit) {
+        Counts current = counts;
+        Map<String, LongAdder> merged = new HashMap<>();
+        for (String tag : tags) {
+            Map<String, LongAdder> related = current.pairs.get(tag);
+            if (related == null) {
+                continue;
+            }
+            related.forEach((other, count) -> {
+                if (!tags.contains(other)) {
+                    merged.computeIfAbsent(other, k -> new LongAdder()).add(count.sum());
+                }
+            });
+        }
+        return first(sorted(merged), limit);
+    }
+    
+    public void questionCreated(List<String> tags) {
+        adjust(counts, tags, 1);
+    }
+    
+    public void questionDeleted(List<String> tags) {
+        adjust(counts, tags, -1);
+    }
+    
+    public void tagsChanged(List<String> oldTags, List<String> newTags) {
+        Counts current = counts;
+        adjust(current, oldTags, -1);
+        adjust(current, newTags, 1);
+    }
+    
+    /**
+     * Replace the counters with exact counts from Mongo
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${forum.tags.reconcile-interval-ms:600000}",
+        fixedDelayString = "${forum.tags.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        Counts exact = new Counts();
+        String collection = mongoTemplate.getCollectionName(Question.class);
+        
+        List<Document> tagPipeline = Arrays.asList(
+            new Document("$unwind", "$tags"),
+            new Document("$group", new Document("_id", "$tags").append("count", new Document("$sum", 1))));
+        for (Document group : mongoTemplate.getCollection(collection).aggregate(tagPipeline).allowDiskUse(true)) {
+            if (group.get("_id") != null) {
+                adder(exact.byTag, group.get("_id").toString()).add(group.getInteger("count"));
+            }
+        }
+        
+        // Every ordered pair of distinct tags on the same question
+        List<Document> pairPipeline = Arrays.asList(
+            new Document("$match", new Document("tags.1", new Document("$exists", true))),
+            new Document("$project", new Document("a", "$tags").append("b", "$tags")),
+            new Document("$unwind", "$a"),
+            new Document("$unwind", "$b"),
+            new Document("$match", new Document("$expr", new Document("$ne", Arrays.asList("$a", "$b")))),
+            new Document("$group", new Document("_id", new Document("a", "$a").append("b", "$b"))
+                .append("count", new Document("$sum", 1))));
+        for (Document group : mongoTemplate.getCollection(collection).aggregate(pairPipeline).allowDiskUse(true)) {
+            Document pair = group.get("_id", Document.class);
+            adder(exact.pairs.computeIfAbsent(pair.getString("a"), k -> new ConcurrentHashMap<>()), pair.getString("b"))
+                .add(group.getInteger("count"));
+        }
+        
+        // Writes that land while the aggregation runs are corrected on the next pass
+        counts = exact;
+        topTagsBuiltAt = 0;
+        ready = true;
+        logger.info("✅ [FORUM - JAVA] Tag facets reconciled ({} tags) in {} ms",
+            exact.byTag.size(), System.currentTimeMillis() - start);
+    }
+    
+    private static void adjust(Counts current, List<String> tags, int delta) {
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        for (String tag : tags) {
+            adder(current.byTag, tag).add(delta);
+            for (String other : tags) {
+                if (!other.equals(tag)) {
+                    adder(current.pairs.computeIfAbsent(tag, k -> new ConcurrentHashMap<>()), other).add(delta);
+                }
+            }
+        }
+    }
+    
+    private static LongAdder adder(ConcurrentHashMap<String, LongAdder> counters, String key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+    
+    private static List<Map.Entry<String, Long>> sorted(Map<String, LongAdder> counters) {
+        return counters.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .filter(entry -> entry.getValue() > 0)
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .collect(Collectors.toList());
+    }
+    
+    private static Map<String, Long> first(List<Map.Entry<String, Long>> entries, int limit) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+}
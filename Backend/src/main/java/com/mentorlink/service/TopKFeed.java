@@ -0,0 +1,79 @@
+package com.mentorlink.service;
+
+import com.mentorlink.dto.QuestionSummary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Highest-scoring questions of one feed, kept in score order.
+ *
+ * Holds up to {@code capacity} entries; when full, a new entry only gets in
+ * by beating the current minimum, which is then evicted. Reads walk the first
+ * {@code limit} entries, so serving a feed page is O(limit).
+ */
+class TopKFeed {
+    
+    private static final class Entry {
+        final QuestionSummary question;
+        final double score;
+        
+        Entry(QuestionSummary question, double score) {
+            this.question = question;
+            this.score = score;
+        }
+    }
+    
+    private final int capacity;
+    
+    private final TreeSet<Entry> ranked = new TreeSet<>((a, b) -> {
+        int cmp = Double.compare(b.score, a.score);
+        return cmp != 0 ? cmp : a.question.getId().compareTo(b.question.getId());
+    });
+    private final Map<String, Entry> byId = new HashMap<>();
+    
+    TopKFeed(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    /**
+     * Insert or re-score a question
+     */
+    synchronized void offer(QuestionSummary question, double score) {
+        Entry existing = byId.remove(question.getId());
+        if (existing != null) {
+            ranked.remove(existing);
+        } else if (ranked.size() >= capacity && score <= ranked.last().score) {
+            return;
+        }
+        
+        Entry entry = new Entry(question, score);
+        ranked.add(entry);
+        byId.put(question.getId(), entry);
+        
+        if (ranked.size() > capacity) {
+            Entry evicted = ranked.pollLast();
+            byId.remove(evicted.question.getId());
+        }
+    }
+    
+    synchronized void remove(String questionId) {
+        Entry existing = byId.remove(questionId);
+        if (existing != null) {
+            ranked.remove(existing);
+        }
+    }
+    
+    synchronized List<QuestionSummary> top(int limit) {
+        List<QuestionSummary> questions = new ArrayList<>(Math.min(limit, ranked.size()));
+        Iterator<Entry> it = ranked.iterator();
+        while (it.hasNext() && questions.size() < limit) {
+            questions.add(it.next().question);
+        }
+        return questions;
+    }
+}
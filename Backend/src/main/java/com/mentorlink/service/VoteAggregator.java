@@ -0,0 +1,153 @@
+package com.mentorlink.service;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.entity.Question;
+import com.mentorlink.events.ForumEvent;
+import com.mentorlink.events.ForumEventPublisher;
+import com.mentorlink.metrics.ForumMetrics;
+import com.mentorlink.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for question upvotes.
+ *
+ * Votes on the same question are summed in a striped {@link LongAdder} and
+ * flushed as a single {@code $inc} per question on a timer, so a burst of
+ * votes on a trending question costs one write per flush instead of one per vote.
+ * Each counter also remembers the question's stored count as of the last flush,
+ * so a vote can report the new total without reading the question; the total is
+ * approximate while a flush is in flight. The cache and live event follow on the
+ * flush. Votes for a question archived before the flush go to its cold-tier copy;
+ * votes for a deleted question are dropped, logged and counted.
+ * Disabled by default; when disabled every vote is applied immediately.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteAggregator {
+    
+    private static final Logger logger = LoggerFactory.getLogger(VoteAggregator.class);
+    
+    private final QuestionRepository questionRepository;
+    private final QuestionCache questionCache;
+    private final QuestionFeedService questionFeedService;
+    private final ForumEventPublisher eventPublisher;
+    private final ColdQuestionStore coldStore;
+    private final ForumMetrics forumMetrics;
+    
+    private static final class Tally {
+        final LongAdder votes = new LongAdder();
+        // Upvotes stored on the question as of the last flush, -1 until known
+        volatile long stored = -1;
+    }
+    
+    private final ConcurrentHashMap<String, Tally> pending = new ConcurrentHashMap<>();
+    
+    // Counters evicted on the previous flush. They are drained once more so an
+    // increment racing with eviction is still written out.
+    private List<Map.Entry<String, Tally>> retired = new ArrayList<>();
+    
+    @Value("${forum.votes.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+    
+    public boolean isEnabled() {
+        return writeBehindEnabled;
+    }
+    
+    /**
+     * Record one vote for later flushing. Returns the question's upvote count with
+     * this vote, or -1 if its stored count is not known yet (see {@link #withStored}).
+     */
+    public long record(String questionId) {
+        Tally tally = pending.computeIfAbsent(questionId, id -> new Tally());
+        tally.votes.increment();
+        long stored = tally.stored;
+        return stored < 0 ? -1 : stored + tally.votes.sum();
+    }
+    
+    /**
+     * Remember the upvote count read from a question; returns it plus the votes not flushed yet
+     */
+    public long withStored(String questionId, long stored) {
+        Tally tally = pending.get(questionId);
+        if (tally == null) {
+            return stored;
+        }
+        if (tally.stored < 0) {
+            tally.stored = stored;
+        }
+        return stored + tally.votes.sum();
+    }
+    
+    /**
+     * Write all buffered votes with one atomic increment per question
+     */
+    @Scheduled(fixedDelayString = "${forum.votes.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty() && retired.isEmpty()) {
+            return;
+        }
+        
+        for (Map.Entry<String, Tally> entry : retired) {
+            apply(entry.getKey(), entry.getValue(), entry.getValue().votes.sumThenReset());
+        }
+        
+        List<Map.Entry<String, Tally>> idle = new ArrayList<>();
+        for (Map.Entry<String, Tally> entry : pending.entrySet()) {
+            long delta = entry.getValue().votes.sumThenReset();
+            if (delta == 0) {
+                // No votes since the last flush; drop the counter to keep the map bounded
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    idle.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+                continue;
+            }
+            apply(entry.getKey(), entry.getValue(), delta);
+        }
+        retired = idle;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        flush();
+    }
+    
+    private void apply(String questionId, Tally tally, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        try {
+            Question updated = questionRepository.incrementUpvotes(questionId, delta);
+            questionCache.invalidate(questionId);
+            // A question that is gone (archived or deleted) is checked again on its next vote
+            tally.stored = updated != null ? updated.getUpvotes() : -1;
+            if (updated != null) {
+                questionFeedService.questionChanged(updated);
+                // One event per flush, carrying the coalesced total
+                eventPublisher.publish(ForumEvent.VOTE_CHANGED, updated.getCategory(),
+                    Map.of("questionId", questionId, "upvotes", updated.getUpvotes()));
+            } else if (!coldStore.incrementUpvotes(questionId, delta)) {
+                forumMetrics.votesDropped(delta);
+                logger.warn("⚠️ [FORUM - JAVA] Dropped {} buffered votes for question {}, which no longer exists",
+                    delta, questionId);
+            }
+        } catch (Exception e) {
+            // Put the votes back so the next flush retries them
+            pending.computeIfAbsent(questionId, id -> new Tally()).votes.add(delta);
+            logger.error("❌ [FORUM - JAVA] Failed to flush {} votes for question {}: {}",
+                delta, questionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mentorlink.sync;
+
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mentorlink.repository.AnswerRepository;
+import com.mentorlink.search.DuplicateIndex;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.RelatedQuestions;
+import com.mentorlink.search.TitleAutocomplete;
+import com.mentorlink.service.QuestionCache;
+import com.mentorlink.service.QuestionFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Applies a question change observed in Mongo, rather than made through this
+ * instance's services, to the in-process state built from questions: the
+ * detail cache, the search, autocomplete, duplicate and related-question
+ * indexes, and the feeds. Every step replaces or removes by id, or skips
+ * answers already indexed, so applying the same change twice is harmless.
+ *
+ * Counters and tag facets are not adjusted here; they keep deltas, and correct
+ * themselves on their own reconciliation.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalQuestionState {
+    
+    private final AnswerRepository answerRepository;
+    private final QuestionSearchIndex searchIndex;
+    private final TitleAutocomplete titleAutocomplete;
+    private final DuplicateIndex duplicateIndex;
+    private final RelatedQuestions relatedQuestions;
+    private final QuestionCache questionCache;
+    private final QuestionFeedService questionFeedService;
+    
+    /**
+     * A question was created or changed. {@code textChanged} when its title,
+     * content, category or tags may differ from what is indexed; it is then
+     * re-indexed with all of its answers.
+     */
+    public void questionChanged(Question question, boolean textChanged) {
+        questionCache.invalidate(question.getId());
+        if (textChanged) {
+            searchIndex.index(question, hasAnswers(question)
+                ? answerRepository.findForIndex(question.getId(), null)
+                : Collections.emptyList());
+            titleAutocomplete.index(question);
+            duplicateIndex.index(question);
+            relatedQuestions.index(question);
+        }
+        questionFeedService.questionChanged(question);
+    }
+    
+    /**
+     * Answers were added to a question. Only those created since {@code since}
+     * are read, and the search index skips any it already holds, so an answer
+     * costs one small read however long the thread is.
+     */
+    public void answersAdded(Question question, LocalDateTime since) {
+        questionCache.invalidate(question.getId());
+        for (Answer answer : answerRepository.findForIndex(question.getId(), since)) {
+            searchIndex.appendAnswer(question.getId(), answer);
+        }
+        questionFeedService.questionChanged(question);
+    }
+    
+    /**
+     * Re-index a question with the given answers; more can be added with {@link #answerAdded}
+     */
+    public void questionReindexed(Question question, List<Answer> answers) {
+        questionCache.invalidate(question.getId());
+        searchIndex.index(question, answers);
+        titleAutocomplete.index(question);
+        duplicateIndex.index(question);
+        relatedQuestions.index(question);
+        questionFeedService.questionChanged(question);
+    }
+    
+    /**
+     * Add an answer to its question's search entry, unless it is already there
+     */
+    public void answerAdded(Answer answer) {
+        searchIndex.appendAnswer(answer.getQuestionId(), answer);
+    }
+    
+    public void questionDeleted(String questionId) {
+        questionCache.invalidate(questionId);
+        searchIndex.remove(questionId);
+        titleAutocomplete.remove(questionId);
+        duplicateIndex.remove(questionId);
+        relatedQuestions.remove(questionId);
+        questionFeedService.questionDeleted(questionId);
+    }
+    
+    /**
+     * The question moved to the cold tier. It stays searchable; everything else
+     * built from the questions collection drops it.
+     */
+    public void questionArchived(String questionId) {
+        questionCache.invalidate(questionId);
+        titleAutocomplete.remove(questionId);
+        duplicateIndex.remove(questionId);
+        relatedQuestions.remove(questionId);
+        questionFeedService.questionDeleted(questionId);
+    }
+    
+    private static boolean hasAnswers(Question question) {
+        return question.getAnswerCount() != null && question.getAnswerCount() > 0;
+    }
+}
@@ -0,0 +1,402 @@
+package com.mentorlink.sync;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.entity.Question;
+import com.mongodb.MongoException;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows a change stream on the questions collection so writes made by other
+ * instances reach this instance's caches and indexes through
+ * {@link LocalQuestionState}.
+ *
+ * This instance's own writes come back on the stream as well and are applied
+ * a second time, which is harmless. An answer count change appends only the
+ * answers created around it to the search index, not the whole thread. The resume token is saved in
+ * {@code forum_sync_state} under {@code forum.sync.instance-id}, so after a
+ * restart the stream resumes where the previous run stopped. It is opened
+ * before the startup index rebuilds, so nothing written while they run is
+ * missed.
+ *
+ * Change streams need a replica set. On a standalone server, or when the
+ * oplog has rolled past the saved token, {@link QuestionResync} catches up
+ * from Mongo instead.
+ */
+@Component
+public class QuestionChangeListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionChangeListener.class);
+    
+    private static final String STATE_COLLECTION = "forum_sync_state";
+    
+    // Fields that feed the search, autocomplete, duplicate and related-question indexes
+    private static final Set<String> TEXT_FIELDS = Set.of("title", "content", "category", "tags");
+    
+    private static final long MAX_AWAIT_MS = 1000;
+    private static final long CLOCK_SKEW_MARGIN_MS = 60000;
+    private static final long MIN_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 30000;
+    
+    // Server error codes
+    private static final int NOT_A_REPLICA_SET = 40573;
+    private static final int CHANGE_STREAM_FATAL = 280;
+    private static final int HISTORY_LOST = 286;
+    
+    private final MongoTemplate mongoTemplate;
+    private final LocalQuestionState localState;
+    private final ColdQuestionStore coldStore;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String instanceId;
+    private final long tokenSaveIntervalMs;
+    private final String collection;
+    
+    private volatile boolean running;
+    private volatile boolean streaming;
+    private volatile long syncedUntil;
+    private volatile boolean catchUpNeeded;
+    private Thread thread;
+    
+    // Owned by the listener thread
+    private BsonDocument resumeToken;
+    private long tokenSavedAt;
+    
+    public QuestionChangeListener(
+        MongoTemplate mongoTemplate,
+        LocalQuestionState localState,
+        ColdQuestionStore coldStore,
+        MeterRegistry meterRegistry,
+        @Value("${forum.sync.enabled:true}") boolean enabled,
+        @Value("${forum.sync.instance-id:${HOSTNAME:forum}}") String instanceId,
+        @Value("${forum.sync.token-save-interval-ms:1000}") long tokenSaveIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.localState = localState;
+        this.coldStore = coldStore;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.instanceId = instanceId;
+        this.tokenSaveIntervalMs = tokenSaveIntervalMs;
+        this.collection = mongoTemplate.getCollectionName(Question.class);
+        
+        Gauge.builder("forum.sync.streaming", this, listener -> listener.streaming ? 1 : 0)
+            .description("Whether the question change stream is open")
+            .register(meterRegistry);
+        Gauge.builder("forum.sync.lag", this,
+                listener -> listener.syncedUntil == 0 ? 0 : System.currentTimeMillis() - listener.syncedUntil)
+            .description("Time since the change stream was last known to be caught up")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Whether the change stream is open and being followed
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+    
+    /**
+     * Wall-clock time up to which every change is believed applied, 0 if the stream never ran
+     */
+    public long syncedUntil() {
+        return syncedUntil;
+    }
+    
+    /**
+     * Whether changes were lost (the oplog rolled past the resume token, or the
+     * collection was dropped) since the last call; clears the flag
+     */
+    public boolean takeCatchUpNeeded() {
+        boolean needed = catchUpNeeded;
+        catchUpNeeded = false;
+        return needed;
+    }
+    
+    /**
+     * Open the stream ahead of the index rebuilds (which also run on application
+     * ready) and follow it on a background thread
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        resumeToken = loadToken();
+        
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = null;
+        try {
+            cursor = open();
+        } catch (MongoServerException e) {
+            if (e.getCode() == NOT_A_REPLICA_SET) {
+                logger.warn("⚠️ [FORUM - JAVA] Mongo is not a replica set, questions are synced by resync only");
+                return;
+            }
+            // The startup rebuilds read everything anyway, so a lost position needs no catch-up
+            logger.warn("⚠️ [FORUM - JAVA] Could not resume question change stream, starting from now: {}",
+                e.getMessage());
+            resumeToken = null;
+        } catch (MongoException e) {
+            logger.error("❌ [FORUM - JAVA] Could not open question change stream, retrying", e);
+        }
+        
+        running = true;
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> first = cursor;
+        thread = new Thread(() -> run(first), "forum-question-changes");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("✅ [FORUM - JAVA] Following question changes as {}{}", instanceId,
+            resumeToken != null ? " from saved position" : "");
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.join(MAX_AWAIT_MS * 2);
+        }
+    }
+    
+    private void run(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor) {
+        long backoff = MIN_BACKOFF_MS;
+        while (running) {
+            try {
+                if (cursor == null) {
+                    cursor = open();
+                }
+                streaming = true;
+                backoff = MIN_BACKOFF_MS;
+                follow(cursor);
+            } catch (MongoServerException e) {
+                if (e.getCode() == HISTORY_LOST || e.getCode() == CHANGE_STREAM_FATAL) {
+                    logger.warn("⚠️ [FORUM - JAVA] Question change stream position lost, catching up from Mongo");
+                    resumeToken = null;
+                    catchUpNeeded = true;
+                } else {
+                    logger.error("❌ [FORUM - JAVA] Question change stream failed", e);
+                }
+            } catch (MongoException e) {
+                logger.error("❌ [FORUM - JAVA] Question change stream failed", e);
+            } finally {
+                streaming = false;
+                if (cursor != null) {
+                    close(cursor);
+                    cursor = null;
+                }
+            }
+            
+            if (running) {
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+        saveToken();
+    }
+    
+    private void follow(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor) {
+        while (running) {
+            ChangeStreamDocument<Document> event = cursor.tryNext();
+            if (event == null) {
+                syncedUntil = System.currentTimeMillis();
+            } else if (!apply(event)) {
+                // Invalidated: reopen after the invalidate event
+                resumeToken = event.getResumeToken();
+                return;
+            }
+            // Advances past empty batches too, so an idle stream does not resume from far back
+            if (cursor.getResumeToken() != null) {
+                resumeToken = cursor.getResumeToken();
+            }
+            if (System.currentTimeMillis() - tokenSavedAt >= tokenSaveIntervalMs) {
+                saveToken();
+            }
+        }
+    }
+    
+    /**
+     * Apply one event; false if the stream was invalidated and must be reopened
+     */
+    private boolean apply(ChangeStreamDocument<Document> event) {
+        OperationType operation = event.getOperationType();
+        meterRegistry.counter("forum.sync.events", "operation", operation.getValue()).increment();
+        
+        switch (operation) {
+            case INSERT:
+            case REPLACE:
+            case UPDATE:
+                Document document = event.getFullDocument();
+                if (document == null) {
+                    // Deleted before the update was looked up; its delete event follows
+                    return true;
+                }
+                Question question = mongoTemplate.getConverter().read(Question.class, document);
+                if (operation == OperationType.UPDATE) {
+                    Set<String> fields = changedFields(event.getUpdateDescription());
+                    if (fields.stream().anyMatch(TEXT_FIELDS::contains)) {
+                        localState.questionChanged(question, true);
+                    } else if (fields.contains("answerCount")) {
+                        localState.answersAdded(question, answersSince(event));
+                    } else {
+                        localState.questionChanged(question, false);
+                    }
+                } else {
+                    localState.questionChanged(question, true);
+                }
+                return true;
+            case DELETE:
+                // The archiver writes the cold copy before deleting, so an archived question is found there
+                String id = documentId(event.getDocumentKey());
+                if (coldStore.contains(id)) {
+                    localState.questionArchived(id);
+                } else {
+                    localState.questionDeleted(id);
+                }
+                return true;
+            case DROP:
+            case RENAME:
+            case DROP_DATABASE:
+                catchUpNeeded = true;
+                return true;
+            case INVALIDATE:
+                catchUpNeeded = true;
+                return false;
+            default:
+                return true;
+        }
+    }
+    
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open() {
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(collection)
+            .watch()
+            .fullDocument(FullDocument.UPDATE_LOOKUP)
+            .maxAwaitTime(MAX_AWAIT_MS, TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            // startAfter, unlike resumeAfter, also accepts the token of an invalidate event
+            stream = stream.startAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+    
+    private BsonDocument loadToken() {
+        try {
+            BsonDocument state = stateCollection().find(Filters.eq("_id", instanceId)).first();
+            return state != null && state.isDocument("token") ? state.getDocument("token") : null;
+        } catch (MongoException e) {
+            logger.warn("⚠️ [FORUM - JAVA] Could not load change stream position: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    private void saveToken() {
+        tokenSavedAt = System.currentTimeMillis();
+        if (resumeToken == null) {
+            return;
+        }
+        BsonDocument state = new BsonDocument("_id", new BsonString(instanceId))
+            .append("token", resumeToken)
+            .append("savedAt", new BsonDateTime(tokenSavedAt));
+        try {
+            stateCollection().replaceOne(Filters.eq("_id", instanceId), state, new ReplaceOptions().upsert(true));
+        } catch (MongoException e) {
+            logger.warn("⚠️ [FORUM - JAVA] Could not save change stream position: {}", e.getMessage());
+        }
+    }
+    
+    private MongoCollection<BsonDocument> stateCollection() {
+        return mongoTemplate.getDb().getCollection(STATE_COLLECTION, BsonDocument.class);
+    }
+    
+    /**
+     * Top-level names of the fields an update set or removed ("tags.2" counts as "tags")
+     */
+    private static Set<String> changedFields(UpdateDescription description) {
+        Set<String> fields = new HashSet<>();
+        if (description == null) {
+            return fields;
+        }
+        if (description.getUpdatedFields() != null) {
+            for (String field : description.getUpdatedFields().keySet()) {
+                fields.add(topLevel(field));
+            }
+        }
+        List<String> removed = description.getRemovedFields();
+        if (removed != null) {
+            for (String field : removed) {
+                fields.add(topLevel(field));
+            }
+        }
+        return fields;
+    }
+    
+    /**
+     * Earliest creation time of an answer that this count change may be for. Answers are
+     * written just before the count, stamped by the writing instance's clock, so the event's
+     * cluster time is taken back by a margin for clock skew.
+     */
+    private static LocalDateTime answersSince(ChangeStreamDocument<Document> event) {
+        long changedAt = event.getClusterTime() != null
+            ? event.getClusterTime().getTime() * 1000L
+            : System.currentTimeMillis();
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(changedAt - CLOCK_SKEW_MARGIN_MS), ZoneId.systemDefault());
+    }
+    
+    private static String topLevel(String field) {
+        int dot = field.indexOf('.');
+        return dot < 0 ? field : field.substring(0, dot);
+    }
+    
+    private static String documentId(BsonDocument key) {
+        BsonValue id = key.get("_id");
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+    
+    private static void close(MongoChangeStreamCursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (MongoException e) {
+            // Already broken; nothing left to release
+        }
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.mentorlink.sync;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.service.QuestionCache;
+import com.mentorlink.service.QuestionCounters;
+import com.mentorlink.service.QuestionFeedService;
+import com.mentorlink.service.TagFacets;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Brings in-process question state back in line with Mongo when the change
+ * stream cannot.
+ *
+ * A resync drops questions that are gone from Mongo, re-indexes questions
+ * edited, answered or promoted from the cold tier since a point in time (or
+ * every question, for a full resync), then reconciles counters, tag facets
+ * and feeds and clears the detail cache. It runs:
+ * - as a catch-up from the last point known to be in sync, when
+ *   {@link QuestionChangeListener} reports lost changes
+ * - as a catch-up every {@code fallback-interval-ms} while no change stream is
+ *   open, e.g. on a standalone Mongo, so other instances' writes show up with
+ *   at most that delay
+ * - as a full pass every {@code full-interval-ms}, as a backstop
+ * Edits are found by {@code updatedAt}, so timestamps are taken back by a
+ * margin to cover clock skew between instances.
+ */
+@Component
+public class QuestionResync {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionResync.class);
+    
+    private static final long CLOCK_SKEW_MARGIN_MS = 60000;
+    
+    // Missing ids checked against the cold tier per query
+    private static final int ID_BATCH = 1000;
+    
+    private final MongoTemplate mongoTemplate;
+    private final QuestionChangeListener changeListener;
+    private final LocalQuestionState localState;
+    private final ColdQuestionStore coldStore;
+    private final QuestionSearchIndex searchIndex;
+    private final QuestionCache questionCache;
+    private final QuestionCounters questionCounters;
+    private final TagFacets tagFacets;
+    private final QuestionFeedService questionFeedService;
+    private final long fallbackIntervalMs;
+    private final long fullIntervalMs;
+    private final Timer catchUpTimer;
+    private final Timer fullTimer;
+    
+    // Startup rebuilds begin after construction, so state is in sync as of now
+    private volatile long syncedAt = System.currentTimeMillis();
+    private volatile long fullSyncedAt = System.currentTimeMillis();
+    
+    public QuestionResync(
+        MongoTemplate mongoTemplate,
+        QuestionChangeListener changeListener,
+        LocalQuestionState localState,
+        ColdQuestionStore coldStore,
+        QuestionSearchIndex searchIndex,
+        QuestionCache questionCache,
+        QuestionCounters questionCounters,
+        TagFacets tagFacets,
+        QuestionFeedService questionFeedService,
+        MeterRegistry meterRegistry,
+        @Value("${forum.sync.fallback-interval-ms:300000}") long fallbackIntervalMs,
+        @Value("${forum.sync.full-interval-ms:86400000}") long fullIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.changeListener = changeListener;
+        this.localState = localState;
+        this.coldStore = coldStore;
+        this.searchIndex = searchIndex;
+        this.questionCache = questionCache;
+        this.questionCounters = questionCounters;
+        this.tagFacets = tagFacets;
+        this.questionFeedService = questionFeedService;
+        this.fallbackIntervalMs = fallbackIntervalMs;
+        this.fullIntervalMs = fullIntervalMs;
+        this.catchUpTimer = Timer.builder("forum.sync.resync").tag("kind", "catch-up").register(meterRegistry);
+        this.fullTimer = Timer.builder("forum.sync.resync").tag("kind", "full").register(meterRegistry);
+    }
+    
+    @Scheduled(initialDelayString = "${forum.sync.check-interval-ms:30000}",
+        fixedDelayString = "${forum.sync.check-interval-ms:30000}")
+    public void resyncIfDue() {
+        if (!searchIndex.isReady()) {
+            // The startup rebuild is still reading everything
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (fullIntervalMs > 0 && now - fullSyncedAt >= fullIntervalMs) {
+            changeListener.takeCatchUpNeeded();
+            fullResync();
+        } else if (changeListener.takeCatchUpNeeded()
+            || (!changeListener.isStreaming() && now - syncedAt >= fallbackIntervalMs)) {
+            catchUp(Math.max(syncedAt, changeListener.syncedUntil()) - CLOCK_SKEW_MARGIN_MS);
+        }
+    }
+    
+    /**
+     * Re-apply questions edited or answered since {@code sinceMillis} and drop deleted ones
+     */
+    public void catchUp(long sinceMillis) {
+        long start = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(sinceMillis), ZoneId.systemDefault());
+        int removed = dropDeleted(searchIndex.questionIds());
+        
+        Set<String> reindexed = new HashSet<>();
+        Query changedQuery = new Query(new Criteria().orOperator(
+            Criteria.where("updatedAt").gte(since), Criteria.where("promotedAt").gte(since)));
+        try (CloseableIterator<Question> questions = mongoTemplate.stream(changedQuery, Question.class)) {
+            while (questions.hasNext()) {
+                Question question = questions.next();
+                localState.questionChanged(question, true);
+                reindexed.add(question.getId());
+            }
+        }
+        
+        // Re-indexing read every answer of the questions above; answers to the rest are appended
+        // one by one (bulk-imported answers do not touch their question's updatedAt)
+        Query answerQuery = new Query(Criteria.where("createdAt").gte(since));
+        answerQuery.fields().include("questionId").include("content");
+        int answered = 0;
+        try (CloseableIterator<Answer> answers = mongoTemplate.stream(answerQuery, Answer.class)) {
+            while (answers.hasNext()) {
+                Answer answer = answers.next();
+                if (!reindexed.contains(answer.getQuestionId())) {
+                    localState.answerAdded(answer);
+                    answered++;
+                }
+            }
+        }
+        
+        reconcile();
+        syncedAt = start;
+        catchUpTimer.record(System.currentTimeMillis() - start, TimeUnit.MILLISECONDS);
+        logger.info("✅ [FORUM - JAVA] Question state caught up: {} re-indexed, {} answers added, {} removed in {} ms",
+            reindexed.size(), answered, removed, System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Re-index every question and drop deleted ones
+     */
+    public void fullResync() {
+        long start = System.currentTimeMillis();
+        int removed = dropDeleted(searchIndex.questionIds());
+        
+        int reindexed = 0;
+        try (CloseableIterator<Question> questions = mongoTemplate.stream(new Query(), Question.class)) {
+            while (questions.hasNext()) {
+                localState.questionReindexed(questions.next(), Collections.emptyList());
+                reindexed++;
+            }
+        }
+        Query answerQuery = new Query();
+        answerQuery.fields().include("questionId").include("content");
+        try (CloseableIterator<Answer> answers = mongoTemplate.stream(answerQuery, Answer.class)) {
+            while (answers.hasNext()) {
+                localState.answerAdded(answers.next());
+            }
+        }
+        coldStore.forEachSearchable(searchIndex::index);
+        
+        reconcile();
+        syncedAt = start;
+        fullSyncedAt = start;
+        fullTimer.record(System.currentTimeMillis() - start, TimeUnit.MILLISECONDS);
+        logger.info("✅ [FORUM - JAVA] Question state fully resynced: {} re-indexed, {} removed in {} ms",
+            reindexed, removed, System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Remove questions that are indexed but no longer stored, and drop archived ones from
+     * everything but search. {@code indexed} must be taken before Mongo is read, so questions
+     * created meanwhile are not mistaken for deleted; it is consumed. The stored ids come from
+     * one scan of the _id index rather than an {@code $in} query per batch of indexed ids.
+     */
+    private int dropDeleted(Set<String> indexed) {
+        Query query = new Query();
+        query.fields().include("_id");
+        try (CloseableIterator<Document> stored = mongoTemplate.stream(query, Document.class,
+            mongoTemplate.getCollectionName(Question.class))) {
+            while (stored.hasNext()) {
+                indexed.remove(stored.next().get("_id").toString());
+            }
+        }
+        
+        int removed = 0;
+        List<String> batch = new ArrayList<>(ID_BATCH);
+        for (String id : indexed) {
+            batch.add(id);
+            if (batch.size() == ID_BATCH) {
+                removed += dropMissing(batch);
+            }
+        }
+        return removed + dropMissing(batch);
+    }
+    
+    private int dropMissing(List<String> missing) {
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        Set<String> archived = coldStore.archivedIds(missing);
+        int removed = 0;
+        for (String id : missing) {
+            if (archived.contains(id)) {
+                localState.questionArchived(id);
+            } else {
+                localState.questionDeleted(id);
+                removed++;
+            }
+        }
+        missing.clear();
+        return removed;
+    }
+    
+    private void reconcile() {
+        questionCounters.reconcile();
+        tagFacets.reconcile();
+        questionFeedService.rebase();
+        questionCache.invalidateAll();
+    }
+}
@@ -0,0 +1,58 @@
+package com.mentorlink.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlTest {
+    
+    private final AdmissionControl admission = new AdmissionControl(new SimpleMeterRegistry(),
+        true, 100, true, 1000, 1000, 1000, 1000, 1000, 4, 32, 250, 2, 64, 150, 10, 1, 60000);
+    
+    @Test
+    void rejectsLimitsOutsideTheAllowedRange() {
+        assertThat(admit("-5").getStatus()).isEqualTo(400);
+        assertThat(admit("0").getStatus()).isEqualTo(400);
+        assertThat(admit("101").getStatus()).isEqualTo(400);
+        assertThat(admit("101").getMessage()).isEqualTo("limit must be between 1 and 100");
+    }
+    
+    @Test
+    void admitsLimitsInRange() {
+        AdmissionControl.Ticket ticket = admit("20");
+        
+        assertThat(ticket.isAdmitted()).isTrue();
+        ticket.release();
+    }
+    
+    @Test
+    void classifiesBulkTransfers() {
+        assertThat(AdmissionControl.classify("GET", "/api/forum/questions/stream")).isEqualTo(AdmissionControl.BULK);
+        assertThat(AdmissionControl.classify("GET", "/api/forum/admin/export")).isEqualTo(AdmissionControl.BULK);
+        assertThat(AdmissionControl.classify("POST", "/api/forum/admin/import")).isEqualTo(AdmissionControl.BULK);
+        assertThat(AdmissionControl.classify("GET", "/api/forum/questions")).isEqualTo(AdmissionControl.LIST);
+        assertThat(AdmissionControl.classify("GET", "/api/forum/questions/q1")).isEqualTo(AdmissionControl.OTHER);
+    }
+    
+    @Test
+    void bulkTransfersHaveTheirOwnConcurrencyCap() {
+        AdmissionControl.Ticket export = admission.admit("GET", "/api/forum/admin/export", "10.0.0.1", null, null);
+        
+        assertThat(export.isAdmitted()).isTrue();
+        assertThat(admission.admit("GET", "/api/forum/questions/stream", "10.0.0.2", null, null).getStatus())
+            .isEqualTo(503);
+        AdmissionControl.Ticket list = admit("20");
+        assertThat(list.isAdmitted()).isTrue();
+        list.release();
+        
+        export.release();
+        AdmissionControl.Ticket stream = admission.admit("GET", "/api/forum/questions/stream", "10.0.0.2", null, null);
+        assertThat(stream.isAdmitted()).isTrue();
+        stream.release();
+    }
+    
+    private AdmissionControl.Ticket admit(String limit) {
+        return admission.admit("GET", "/api/forum/questions/trending", "10.0.0.1", null, limit);
+    }
+}
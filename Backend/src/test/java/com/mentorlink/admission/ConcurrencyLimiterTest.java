@@ -0,0 +1,62 @@
+package com.mentorlink.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+    
+    @Test
+    void rejectsBeyondTheCap() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("search", 2, 250);
+        
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+    
+    @Test
+    void shrinksWhileLatencyIsAboveTheSlo() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("list", 10, 5);
+        
+        limiter.tryAcquire();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(50));
+        
+        assertThat(limiter.limit()).isEqualTo(9.0);
+        assertThat(limiter.latencyMillis()).isEqualTo(50.0);
+    }
+    
+    @Test
+    void shrinksAtMostOncePerSloInterval() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("list", 10, 60_000);
+        
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(TimeUnit.MINUTES.toNanos(2));
+        }
+        
+        assertThat(limiter.limit()).isEqualTo(9.0);
+    }
+    
+    @Test
+    void growsBackOnceLatencyRecovers() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("search", 10, 5);
+        limiter.tryAcquire();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(50));
+        double shrunk = limiter.limit();
+        
+        for (int i = 0; i < 500; i++) {
+            limiter.tryAcquire();
+            limiter.release(0);
+        }
+        
+        assertThat(limiter.limit()).isGreaterThan(shrunk).isLessThanOrEqualTo(10.0);
+        assertThat(limiter.latencyMillis()).isLessThan(5.0);
+    }
+}
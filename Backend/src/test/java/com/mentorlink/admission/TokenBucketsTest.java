@@ -0,0 +1,64 @@
+package com.mentorlink.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketsTest {
+    
+    @Test
+    void allowsABurstThenReportsTheWait() {
+        TokenBuckets buckets = new TokenBuckets(10, 3, 1000);
+        long now = System.currentTimeMillis();
+        
+        assertThat(buckets.take("client", 1, now)).isZero();
+        assertThat(buckets.take("client", 2, now)).isZero();
+        assertThat(buckets.take("client", 1, now)).isEqualTo(100);
+        assertThat(buckets.take("client", 1, now + 100)).isZero();
+    }
+    
+    @Test
+    void refillsNoFurtherThanTheBurst() {
+        TokenBuckets buckets = new TokenBuckets(10, 3, 1000);
+        long now = System.currentTimeMillis();
+        buckets.take("client", 3, now);
+        
+        long later = now + 60_000;
+        assertThat(buckets.take("client", 3, later)).isZero();
+        assertThat(buckets.take("client", 1, later)).isPositive();
+    }
+    
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        TokenBuckets buckets = new TokenBuckets(1, 2, 1000);
+        long now = System.currentTimeMillis();
+        
+        assertThat(buckets.take("a", 2, now)).isZero();
+        assertThat(buckets.take("a", 1, now)).isPositive();
+        assertThat(buckets.take("b", 2, now)).isZero();
+    }
+    
+    @Test
+    void boundsTrackedKeysWithOverflowBuckets() {
+        TokenBuckets buckets = new TokenBuckets(1, 5, 128);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10_000; i++) {
+            buckets.take("10.0." + (i >> 8) + "." + (i & 0xff), 1, now);
+        }
+        
+        assertThat(buckets.size()).isLessThanOrEqualTo(128);
+    }
+    
+    @Test
+    void evictsBucketsThatAreFullAgain() {
+        TokenBuckets buckets = new TokenBuckets(10, 3, 1000);
+        long now = System.currentTimeMillis();
+        buckets.take("idle", 3, now);
+        buckets.take("busy", 3, now);
+        buckets.take("busy", 2, now + 250);
+        
+        buckets.evictIdle(now + 300);
+        
+        assertThat(buckets.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mentorlink.controller;
+
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionETagTest {
+    
+    private final List<RelatedQuestion> related = List.of(new RelatedQuestion("q2", "Kafka consumers", 0.4));
+    
+    @Test
+    void answerUpvoteChangesTheETag() {
+        Question question = question();
+        String before = QuestionETag.of(question, related);
+        
+        question.getAnswers().get(1).setUpvotes(4);
+        
+        assertThat(QuestionETag.of(question, related)).isNotEqualTo(before);
+    }
+    
+    @Test
+    void touchedQuestionChangesTheETag() {
+        Question question = question();
+        String before = QuestionETag.of(question, related);
+        long lastModified = QuestionETag.lastModified(question);
+        
+        // What an answer upvote writes to the question
+        question.setUpdatedAt(question.getUpdatedAt().plusSeconds(1));
+        
+        assertThat(QuestionETag.of(question, related)).isNotEqualTo(before);
+        assertThat(QuestionETag.lastModified(question)).isGreaterThan(lastModified);
+    }
+    
+    @Test
+    void unchangedQuestionKeepsTheETag() {
+        assertThat(QuestionETag.of(question(), related)).isEqualTo(QuestionETag.of(question(), related));
+    }
+    
+    private static Question question() {
+        Question question = new Question();
+        question.setId("q1");
+        question.setUpdatedAt(LocalDateTime.of(2026, 3, 1, 12, 0));
+        question.setAnswers(new ArrayList<>(List.of(answer("a1", 5), answer("a2", 3))));
+        return question;
+    }
+    
+    private static Answer answer(String id, int upvotes) {
+        Answer answer = new Answer();
+        answer.setId(id);
+        answer.setQuestionId("q1");
+        answer.setUpvotes(upvotes);
+        return answer;
+    }
+}
@@ -0,0 +1,121 @@
+package com.mentorlink.dto;
+
+import com.mentorlink.entity.Question;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuestionCursorTest {
+    
+    private static final String ID = "64b7f0c2a1b2c3d4e5f60718";
+    
+    @Test
+    void roundTripsCreatedAtCursors() {
+        Question question = new Question();
+        question.setId(ID);
+        question.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123000000));
+        
+        QuestionCursor decoded = QuestionCursor.decode(
+            QuestionCursor.after(question, "createdAt", Sort.Direction.DESC).encode());
+        
+        assertThat(decoded.getSortField()).isEqualTo("createdAt");
+        assertThat(decoded.getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(decoded.getValue()).isEqualTo(question.getCreatedAt());
+        assertThat(decoded.getId()).isEqualTo(ID);
+    }
+    
+    @Test
+    void roundTripsUpvoteCursors() {
+        QuestionCursor decoded = QuestionCursor.decode(
+            new QuestionCursor("upvotes", Sort.Direction.ASC, 17, ID).encode());
+        
+        assertThat(decoded.getValue()).isEqualTo(17);
+        assertThat(decoded.getDirection()).isEqualTo(Sort.Direction.ASC);
+    }
+    
+    @Test
+    void keepsAMissingSortValue() {
+        QuestionCursor decoded = QuestionCursor.decode(
+            new QuestionCursor("createdAt", Sort.Direction.DESC, null, ID).encode());
+        
+        assertThat(decoded.getValue()).isNull();
+    }
+    
+    @Test
+    void rejectsUnsupportedAndMalformedTokens() {
+        assertThatThrownBy(() -> QuestionCursor.decode(token("updatedAt|DESC|2024-03-01T12:30|" + ID)))
+            .hasMessage("Invalid pagination cursor");
+        assertThatThrownBy(() -> QuestionCursor.decode(token("upvotes|DESC|many|" + ID)))
+            .hasMessage("Invalid pagination cursor");
+        assertThatThrownBy(() -> QuestionCursor.decode(token("createdAt|DESC|" + ID)))
+            .hasMessage("Invalid pagination cursor");
+        assertThatThrownBy(() -> QuestionCursor.decode("not base64!"))
+            .hasMessage("Invalid pagination cursor");
+    }
+    
+    @Test
+    void rejectsIdsThatAreNotObjectIds() {
+        assertThatThrownBy(() -> QuestionCursor.decode(token("upvotes|DESC|5|not-an-object-id")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid pagination cursor");
+    }
+    
+    @Test
+    void rejectsUnindexedSortFieldsWhenBuilding() {
+        Question question = new Question();
+        question.setId(ID);
+        
+        assertThatThrownBy(() -> QuestionCursor.after(question, "updatedAt", Sort.Direction.DESC))
+            .isInstanceOf(RuntimeException.class);
+    }
+    
+    @Test
+    void descendingQueriesContinuePastTheLastRowAmongTies() {
+        List<Document> branches = mappedBranches(new QuestionCursor("upvotes", Sort.Direction.DESC, 5, ID));
+        
+        // The id bound must reach Mongo as an ObjectId, or no tied row ever matches it
+        assertThat(branches).containsExactly(
+            new Document("upvotes", new Document("$lt", 5)),
+            new Document("upvotes", 5).append("_id", new Document("$lt", new ObjectId(ID))));
+    }
+    
+    @Test
+    void ascendingQueriesContinuePastTheLastRowAmongTies() {
+        List<Document> branches = mappedBranches(new QuestionCursor("upvotes", Sort.Direction.ASC, 5, ID));
+        
+        assertThat(branches).containsExactly(
+            new Document("upvotes", new Document("$gt", 5)),
+            new Document("upvotes", 5).append("_id", new Document("$gt", new ObjectId(ID))));
+    }
+    
+    /**
+     * The $or branches of the cursor's criteria as the query mapper sends them to Mongo
+     */
+    private static List<Document> mappedBranches(QuestionCursor cursor) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+        Document mapped = new QueryMapper(converter).getMappedObject(cursor.toCriteria().getCriteriaObject(),
+            mappingContext.getPersistentEntity(Question.class));
+        return mapped.getList("$or", Document.class);
+    }
+    
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
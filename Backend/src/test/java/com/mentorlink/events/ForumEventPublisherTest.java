@@ -0,0 +1,59 @@
+package com.mentorlink.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForumEventPublisherTest {
+    
+    private final ForumEventPublisher publisher = new ForumEventPublisher(new ObjectMapper(),
+        new SimpleMeterRegistry(), 16, 10, 60000, 60000, 5, 1, "resync");
+    
+    @AfterEach
+    void shutdown() {
+        publisher.shutdown();
+    }
+    
+    @Test
+    void streamDeliversEventsAndReplaysAfterLastEventId() throws Exception {
+        CompletableFuture<List<ServerSentEvent<String>>> received =
+            publisher.stream(null, "engineering").take(2).collectList().toFuture();
+        awaitSubscribers(1);
+        
+        publisher.publish(ForumEvent.QUESTION_CREATED, "engineering", Map.of("questionId", "q1"));
+        publisher.publish(ForumEvent.QUESTION_CREATED, "business", Map.of("questionId", "q2"));
+        publisher.publish(ForumEvent.ANSWER_ADDED, "engineering", Map.of("questionId", "q1"));
+        List<ServerSentEvent<String>> events = received.get(5, TimeUnit.SECONDS);
+        
+        assertThat(events).extracting(ServerSentEvent::event)
+            .containsExactly(ForumEvent.QUESTION_CREATED, ForumEvent.ANSWER_ADDED);
+        
+        ServerSentEvent<String> replayed = publisher.stream(events.get(0).id(), null).blockFirst(Duration.ofSeconds(5));
+        assertThat(replayed.data()).isEqualTo("{\"questionId\":\"q2\"}");
+    }
+    
+    @Test
+    void streamWithForeignIdStartsWithResync() {
+        ServerSentEvent<String> first = publisher.stream("elsewhere-41", null).blockFirst(Duration.ofSeconds(5));
+        
+        assertThat(first.event()).isEqualTo(ForumEvent.RESYNC);
+        assertThat(publisher.subscriberCount()).isZero();
+    }
+    
+    private void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (publisher.subscriberCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
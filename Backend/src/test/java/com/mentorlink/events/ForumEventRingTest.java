@@ -0,0 +1,58 @@
+package com.mentorlink.events;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForumEventRingTest {
+    
+    @Test
+    void roundsCapacityUpToAPowerOfTwo() {
+        assertThat(new ForumEventRing(1).capacity()).isEqualTo(2);
+        assertThat(new ForumEventRing(4096).capacity()).isEqualTo(4096);
+        assertThat(new ForumEventRing(5000).capacity()).isEqualTo(8192);
+    }
+    
+    @Test
+    void readsPublishedEventsInOrder() {
+        ForumEventRing ring = new ForumEventRing(4);
+        
+        assertThat(ring.publish("a", "general", "{}")).isEqualTo(0);
+        assertThat(ring.publish("b", "career", "{}")).isEqualTo(1);
+        
+        assertThat(ring.head()).isEqualTo(2);
+        assertThat(ring.read(0).getType()).isEqualTo("a");
+        assertThat(ring.read(1).getCategory()).isEqualTo("career");
+        assertThat(ring.read(2)).isNull();
+    }
+    
+    @Test
+    void overwrittenSlotsHoldANewerSequence() {
+        ForumEventRing ring = new ForumEventRing(4);
+        for (int i = 0; i < 6; i++) {
+            ring.publish("e" + i, null, "{}");
+        }
+        
+        assertThat(ring.read(1).getSequence()).isEqualTo(5);
+        assertThat(ring.read(2).getSequence()).isEqualTo(2);
+    }
+    
+    @Test
+    void eventIdsRoundTripWithinTheRing() {
+        ForumEventRing ring = new ForumEventRing(4);
+        
+        assertThat(ring.sequenceOf(ring.eventId(42))).isEqualTo(42);
+        assertThat(ring.sequenceOf(ring.eventId(-1))).isEqualTo(-1);
+    }
+    
+    @Test
+    void idsFromAnotherRingAreUnknown() {
+        ForumEventRing ring = new ForumEventRing(4);
+        ForumEventRing restarted = new ForumEventRing(4);
+        
+        assertThat(ring.sequenceOf(restarted.eventId(3))).isEqualTo(ForumEventRing.UNKNOWN);
+        assertThat(ring.sequenceOf("3")).isEqualTo(ForumEventRing.UNKNOWN);
+        assertThat(ring.sequenceOf(ring.eventId(0) + "x")).isEqualTo(ForumEventRing.UNKNOWN);
+        assertThat(ring.sequenceOf(null)).isEqualTo(ForumEventRing.UNKNOWN);
+    }
+}
@@ -0,0 +1,67 @@
+package com.mentorlink.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryListenerTest {
+    
+    private static final ConnectionDescription CONNECTION =
+        new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @Test
+    void capturesSlowInsertsWithRawDocuments() {
+        SlowQueryListener listener = new SlowQueryListener(meterRegistry, 100, 10, 200);
+        BsonArray documents = new BsonArray();
+        for (int i = 0; i < 50; i++) {
+            documents.add(RawBsonDocument.parse("{\"title\": \"Question title " + i + "\", \"upvotes\": " + i + "}"));
+        }
+        BsonDocument command = new BsonDocument("insert", new BsonString("questions"))
+            .append("documents", documents);
+        
+        run(listener, 1, "insert", command, 150);
+        
+        assertThat(listener.recent()).hasSize(1);
+        SlowQuery slow = listener.recent().get(0);
+        assertThat(slow.getCollection()).isEqualTo("questions");
+        assertThat(slow.getCommand()).startsWith("{\"insert\": \"questions\"");
+        assertThat(meterRegistry.counter("forum.mongo.slow.queries",
+            "command", "insert", "collection", "questions").count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void skipsFastCommandsAndAwaitDataGetMores() {
+        SlowQueryListener listener = new SlowQueryListener(meterRegistry, 100, 10, 200);
+        
+        run(listener, 1, "find", new BsonDocument("find", new BsonString("questions")), 5);
+        run(listener, 2, "getMore", new BsonDocument("getMore", new BsonInt64(7))
+            .append("collection", new BsonString("questions"))
+            .append("maxTimeMS", new BsonInt32(1000)), 1000);
+        
+        assertThat(listener.recent()).isEmpty();
+    }
+    
+    private static void run(SlowQueryListener listener, int requestId, String commandName,
+                            BsonDocument command, long elapsedMs) {
+        listener.commandStarted(new CommandStartedEvent(requestId, CONNECTION, "forum", commandName, command));
+        listener.commandSucceeded(new CommandSucceededEvent(requestId, CONNECTION, commandName,
+            new BsonDocument("ok", new BsonInt32(1)), TimeUnit.MILLISECONDS.toNanos(elapsedMs)));
+    }
+}
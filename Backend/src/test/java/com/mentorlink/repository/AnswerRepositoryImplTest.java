@@ -0,0 +1,105 @@
+package com.mentorlink.repository;
+
+import com.mentorlink.dto.QuestionCursor;
+import com.mentorlink.entity.Answer;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerRepositoryImplTest {
+    
+    private static final String QUESTION_ID = "64b7f0c2a1b2c3d4e5f60718";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+    
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private AnswerRepositoryImpl repository;
+    
+    @BeforeEach
+    void startMongo() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "forum-test");
+        repository = new AnswerRepositoryImpl(mongoTemplate);
+    }
+    
+    @AfterEach
+    void stopMongo() {
+        client.close();
+        server.shutdownNow();
+    }
+    
+    @Test
+    void votePagesContinueThroughAnswersTiedOnVotes() {
+        List<Answer> answers = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            // Most answers have no votes, so nearly every page boundary falls inside a tie
+            answers.add(insertAnswer(i < 3 ? 10 - i : 0, CREATED_AT.plusMinutes(i)));
+        }
+        
+        List<String> expected = answers.stream()
+            .sorted(Comparator.comparing(Answer::getUpvotes).thenComparing(Answer::getId).reversed())
+            .map(Answer::getId)
+            .collect(Collectors.toList());
+        assertThat(pageThrough("upvotes", Sort.Direction.DESC, 10)).containsExactlyElementsOf(expected);
+    }
+    
+    @Test
+    void timePagesContinueThroughAnswersCreatedTogether() {
+        List<Answer> answers = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            // A bulk import writes a whole chunk with one createdAt
+            answers.add(insertAnswer(0, CREATED_AT));
+        }
+        
+        List<String> expected = answers.stream()
+            .map(Answer::getId)
+            .sorted()
+            .collect(Collectors.toList());
+        assertThat(pageThrough("createdAt", Sort.Direction.ASC, 5)).containsExactlyElementsOf(expected);
+    }
+    
+    private List<String> pageThrough(String sortField, Sort.Direction direction, int limit) {
+        List<String> ids = new ArrayList<>();
+        QuestionCursor cursor = null;
+        for (int page = 0; page < 100; page++) {
+            Slice<Answer> slice = repository.findSlice(QUESTION_ID, sortField, direction, cursor, limit, null);
+            slice.forEach(answer -> ids.add(answer.getId()));
+            if (!slice.hasNext()) {
+                return ids;
+            }
+            List<Answer> content = slice.getContent();
+            // Through the token, as a client would continue
+            cursor = QuestionCursor.decode(
+                QuestionCursor.after(content.get(content.size() - 1), sortField, direction).encode());
+        }
+        throw new AssertionError("Paging did not finish");
+    }
+    
+    private Answer insertAnswer(int upvotes, LocalDateTime createdAt) {
+        Answer answer = new Answer();
+        answer.setQuestionId(QUESTION_ID);
+        answer.setContent("Answer");
+        answer.setUpvotes(upvotes);
+        answer.setCreatedAt(createdAt);
+        return mongoTemplate.insert(answer);
+    }
+}
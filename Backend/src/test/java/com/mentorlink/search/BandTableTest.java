@@ -0,0 +1,89 @@
+package com.mentorlink.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BandTableTest {
+    
+    @Test
+    void findsEveryDocOfAKey() {
+        BandTable table = new BandTable();
+        table.add(7, 1);
+        table.add(7, 2);
+        table.add(9, 3);
+        
+        assertThat(docs(table, 7)).containsExactlyInAnyOrder(1, 2);
+        assertThat(docs(table, 9)).containsExactly(3);
+        assertThat(docs(table, 8)).isEmpty();
+        assertThat(table.size()).isEqualTo(3);
+    }
+    
+    @Test
+    void forEachStopsAfterMax() {
+        BandTable table = new BandTable();
+        for (int doc = 0; doc < 10; doc++) {
+            table.add(5, doc);
+        }
+        
+        List<Integer> visited = new ArrayList<>();
+        table.forEach(5, 3, visited::add);
+        
+        assertThat(visited).hasSize(3);
+    }
+    
+    @Test
+    void removingAMissingEntryChangesNothing() {
+        BandTable table = new BandTable();
+        table.add(1, 1);
+        
+        table.remove(1, 2);
+        table.remove(2, 1);
+        
+        assertThat(docs(table, 1)).containsExactly(1);
+        assertThat(table.size()).isEqualTo(1);
+    }
+    
+    @Test
+    void backwardShiftKeepsProbeRunsReachable() {
+        // Few keys with many docs each make long probe runs that wrap around the table
+        BandTable table = new BandTable();
+        Map<Integer, Set<Integer>> expected = new HashMap<>();
+        Random random = new Random(42);
+        
+        for (int step = 0; step < 20_000; step++) {
+            int key = random.nextInt(40);
+            int doc = random.nextInt(500);
+            Set<Integer> docs = expected.computeIfAbsent(key, k -> new HashSet<>());
+            if (random.nextInt(3) == 0 || docs.contains(doc)) {
+                table.remove(key, doc);
+                docs.remove(doc);
+            } else {
+                table.add(key, doc);
+                docs.add(doc);
+            }
+        }
+        
+        int size = 0;
+        for (int key = 0; key < 40; key++) {
+            Set<Integer> docs = expected.getOrDefault(key, Set.of());
+            assertThat(docs(table, key)).as("key %d", key).containsExactlyInAnyOrderElementsOf(docs);
+            size += docs.size();
+        }
+        assertThat(table.size()).isEqualTo(size);
+    }
+    
+    private static List<Integer> docs(BandTable table, int key) {
+        List<Integer> docs = new ArrayList<>();
+        table.forEach(key, Integer.MAX_VALUE, docs::add);
+        return docs;
+    }
+}
@@ -0,0 +1,39 @@
+package com.mentorlink.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+    
+    @Test
+    void keepsDocsSortedWithOnePostingEach() {
+        PostingList list = new PostingList();
+        list.add(2, 1);
+        list.add(7, 1);
+        list.add(9, 3);
+        list.add(2, 2);
+        list.add(5, 1);
+        list.add(0, 4);
+        
+        assertThat(list.live).isEqualTo(5);
+        assertThat(Arrays.copyOf(list.docs, list.size)).containsExactly(0, 2, 5, 7, 9);
+        assertThat(Arrays.copyOf(list.freqs, list.size)).containsExactly(4, 3, 1, 1, 3);
+    }
+    
+    @Test
+    void compactDropsRemovedDocsAndRenumbers() {
+        PostingList list = new PostingList();
+        for (int doc = 0; doc < 6; doc++) {
+            list.add(doc, doc + 1);
+        }
+        
+        list.compact(new int[]{-1, 0, -1, 1, 2, -1});
+        
+        assertThat(Arrays.copyOf(list.docs, list.size)).containsExactly(0, 1, 2);
+        assertThat(Arrays.copyOf(list.freqs, list.size)).containsExactly(2, 4, 5);
+        assertThat(list.live).isEqualTo(3);
+    }
+}
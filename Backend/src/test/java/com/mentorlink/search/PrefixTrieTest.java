@@ -0,0 +1,69 @@
+package com.mentorlink.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+    
+    // Higher doc ids rank first
+    private static final PrefixTrie.Ranking BY_DOC = Integer::compare;
+    
+    @Test
+    void topListsTheBestDocsUnderAPrefix() {
+        PrefixTrie trie = new PrefixTrie(3, BY_DOC);
+        trie.add("java", 1);
+        trie.add("javascript", 4);
+        trie.add("jvm", 2);
+        trie.add("jakarta", 5);
+        trie.add("kotlin", 9);
+        
+        assertThat(trie.top("j")).containsExactly(5, 4, 2);
+        assertThat(trie.top("jav")).containsExactly(4, 1);
+        assertThat(trie.top("java")).containsExactly(4, 1);
+        assertThat(trie.top("scala")).isEmpty();
+    }
+    
+    @Test
+    void aDocIsListedOnceForTermsSharingAPrefix() {
+        PrefixTrie trie = new PrefixTrie(3, BY_DOC);
+        trie.add("spring", 1);
+        trie.add("springboot", 1);
+        trie.add("sql", 2);
+        
+        assertThat(trie.top("s")).containsExactly(2, 1);
+        assertThat(trie.top("spring")).containsExactly(1);
+    }
+    
+    @Test
+    void removingFromAFullCacheRebuildsIt() {
+        PrefixTrie trie = new PrefixTrie(2, BY_DOC);
+        trie.add("mongo", 1);
+        trie.add("mongodb", 2);
+        trie.add("monorepo", 3);
+        assertThat(trie.top("mon")).containsExactly(3, 2);
+        
+        trie.remove("monorepo", 3);
+        
+        // Doc 1 was not kept in the full cache and comes back with the rebuild
+        assertThat(trie.top("mon")).containsExactly(2, 1);
+        assertThat(trie.top("mono")).isEmpty();
+    }
+    
+    @Test
+    void postingsAreTheDocsOfTheExactTerm() {
+        PrefixTrie trie = new PrefixTrie(2, BY_DOC);
+        trie.add("react", 1);
+        trie.add("react", 2);
+        trie.add("reactive", 3);
+        
+        assertThat(trie.postingCount("react")).isEqualTo(2);
+        assertThat(trie.postings("react", 10)).containsExactlyInAnyOrder(1, 2);
+        assertThat(trie.postings("react", 1)).hasSize(1);
+        assertThat(trie.postingCount("rea")).isZero();
+        
+        trie.remove("react", 1);
+        
+        assertThat(trie.postings("react", 10)).containsExactly(2);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mentorlink.search;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.dto.TagFilter;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class QuestionSearchIndexTest {
+    
+    private final QuestionSearchIndex index =
+        new QuestionSearchIndex(mock(MongoTemplate.class), mock(ColdQuestionStore.class));
+    
+    @Test
+    void ranksTitleMatchesAboveContentMatches() {
+        index.index(question("q1", "Scaling kafka consumers", "Partitions and lag", "engineering"), Collections.emptyList());
+        index.index(question("q2", "Career advice", "I read about kafka once", "general"), Collections.emptyList());
+        
+        SearchResult result = index.search("kafka", null, null, 1, 10);
+        
+        assertThat(result.getQuestionIds()).containsExactly("q1", "q2");
+        assertThat(result.getTotalHits()).isEqualTo(2);
+    }
+    
+    @Test
+    void filtersOnCategoryAndTags() {
+        index.index(question("q1", "Kafka lag", "consumers", "engineering", "kafka", "ops"), Collections.emptyList());
+        index.index(question("q2", "Kafka pricing", "budget", "business", "kafka"), Collections.emptyList());
+        
+        assertThat(index.search("kafka", "engineering", null, 1, 10).getQuestionIds()).containsExactly("q1");
+        assertThat(index.search("kafka", null, TagFilter.parse("kafka,ops", "all"), 1, 10).getQuestionIds())
+            .containsExactly("q1");
+        assertThat(index.search("kafka", null, TagFilter.parse("kafka,ops", "any"), 1, 10).getTotalHits())
+            .isEqualTo(2);
+    }
+    
+    @Test
+    void removedQuestionsAreNotFound() {
+        index.index(question("q1", "Kafka lag", "consumers", "engineering"), Collections.emptyList());
+        index.remove("q1");
+        
+        assertThat(index.search("kafka", null, null, 1, 10).getTotalHits()).isZero();
+        assertThat(index.size()).isZero();
+    }
+    
+    @Test
+    void appendedAnswerTextMergesIntoTheExistingPosting() {
+        index.index(question("q1", "Streaming", "kafka", "engineering"), Collections.emptyList());
+        index.appendAnswer("q1", answer("a1", "kafka"));
+        index.index(question("q2", "Streaming", "kafka kafka", "engineering"), Collections.emptyList());
+        
+        // Same term frequency and length, so the scores tie and the newer doc wins
+        assertThat(index.search("kafka", null, null, 1, 10).getQuestionIds()).containsExactly("q2", "q1");
+    }
+    
+    @Test
+    void compactionRenumbersDocsWithoutLosingQuestions() {
+        // Enough replacements to compact several times over a small live set
+        for (int round = 0; round < 500; round++) {
+            for (int i = 0; i < 10; i++) {
+                String category = i % 2 == 0 ? "engineering" : "business";
+                index.index(question("q" + i, "Kafka question " + i, "round " + round, category, "tag" + i),
+                    Collections.emptyList());
+            }
+        }
+        index.remove("q9");
+        
+        assertThat(index.size()).isEqualTo(9);
+        assertThat(index.search("kafka", null, null, 1, 20).getTotalHits()).isEqualTo(9);
+        assertThat(index.search("kafka", "engineering", null, 1, 20).getQuestionIds())
+            .containsExactlyInAnyOrder("q0", "q2", "q4", "q6", "q8");
+        assertThat(index.search("kafka", null, TagFilter.parse("tag3", "any"), 1, 20).getQuestionIds())
+            .containsExactly("q3");
+        assertThat(index.search("round", null, null, 1, 20).getTotalHits()).isEqualTo(9);
+    }
+    
+    @Test
+    void editsAndDeletesBeforeCompactionKeepTheRanking() {
+        index.index(question("q1", "Kafka lag", "kafka consumers", "engineering"), Collections.emptyList());
+        index.index(question("q2", "Career advice", "I read about kafka once", "general"), Collections.emptyList());
+        // Far fewer tombstones than compaction needs, but many more kafka postings than live docs
+        for (int edit = 0; edit < 200; edit++) {
+            index.index(question("q2", "Career advice", "I read about kafka once", "general"), Collections.emptyList());
+            index.index(question("e" + edit, "Kafka draft", "kafka", "general"), Collections.emptyList());
+            index.remove("e" + edit);
+        }
+        index.index(question("q3", "Unrelated", "budgets", "business"), Collections.emptyList());
+        
+        QuestionSearchIndex fresh = new QuestionSearchIndex(mock(MongoTemplate.class), mock(ColdQuestionStore.class));
+        fresh.index(question("q1", "Kafka lag", "kafka consumers", "engineering"), Collections.emptyList());
+        fresh.index(question("q2", "Career advice", "I read about kafka once", "general"), Collections.emptyList());
+        fresh.index(question("q3", "Unrelated", "budgets", "business"), Collections.emptyList());
+        
+        assertThat(index.search("kafka", null, null, 1, 10).getQuestionIds()).containsExactly("q1", "q2");
+        assertThat(index.search("kafka", null, null, 1, 10).getQuestionIds())
+            .isEqualTo(fresh.search("kafka", null, null, 1, 10).getQuestionIds());
+    }
+    
+    private static Answer answer(String id, String content) {
+        Answer answer = new Answer();
+        answer.setId(id);
+        answer.setContent(content);
+        return answer;
+    }
+    
+    private static Question question(String id, String title, String content, String category, String... tags) {
+        Question question = new Question();
+        question.setId(id);
+        question.setTitle(title);
+        question.setContent(content);
+        question.setCategory(category);
+        question.setTags(List.of(tags));
+        return question;
+    }
+}
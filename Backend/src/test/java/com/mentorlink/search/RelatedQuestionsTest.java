@@ -0,0 +1,56 @@
+package com.mentorlink.search;
+
+import com.mentorlink.dto.RelatedQuestion;
+import com.mentorlink.entity.Question;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RelatedQuestionsTest {
+    
+    private final RelatedQuestions related =
+        new RelatedQuestions(mock(MongoTemplate.class), new SimpleMeterRegistry(), 5, 0.05, 100);
+    
+    @Test
+    void relatesQuestionsSharingTerms() {
+        related.index(question("q1", "Kafka consumer lag", "consumer group rebalancing"));
+        related.index(question("q2", "Kafka consumer lag again", "consumer group partitions"));
+        related.index(question("q3", "Salary negotiation", "offer letter"));
+        related.refreshAll();
+        
+        assertThat(ids(related.related("q1"))).containsExactly("q2");
+        assertThat(ids(related.related("q3"))).isEmpty();
+    }
+    
+    @Test
+    void removedQuestionsDisappearFromListsBeforeTheyAreRecomputed() {
+        related.index(question("q1", "Kafka consumer lag", "consumer group rebalancing"));
+        related.index(question("q2", "Kafka consumer lag again", "consumer group partitions"));
+        related.index(question("q3", "Kafka consumer lag tuning", "consumer group fetch"));
+        related.refreshAll();
+        assertThat(ids(related.related("q1"))).contains("q2", "q3");
+        
+        related.remove("q2");
+        
+        assertThat(ids(related.related("q1"))).containsExactly("q3");
+        assertThat(related.related("q2")).isEmpty();
+    }
+    
+    private static List<String> ids(List<RelatedQuestion> list) {
+        return list.stream().map(RelatedQuestion::getId).collect(Collectors.toList());
+    }
+    
+    private static Question question(String id, String title, String content) {
+        Question question = new Question();
+        question.setId(id);
+        question.setTitle(title);
+        question.setContent(content);
+        return question;
+    }
+}
@@ -0,0 +1,64 @@
+package com.mentorlink.service;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.events.ForumEventPublisher;
+import com.mentorlink.metrics.ForumMetrics;
+import com.mentorlink.repository.QuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteAggregatorTest {
+    
+    private final QuestionRepository questionRepository = mock(QuestionRepository.class);
+    private final ColdQuestionStore coldStore = mock(ColdQuestionStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VoteAggregator aggregator = new VoteAggregator(
+        questionRepository,
+        mock(QuestionCache.class),
+        mock(QuestionFeedService.class),
+        mock(ForumEventPublisher.class),
+        coldStore,
+        new ForumMetrics(meterRegistry));
+    
+    @Test
+    void votesForAQuestionArchivedBeforeTheFlushGoToTheColdCopy() {
+        // The hot increment finds nothing: the archiver moved the question after the votes were recorded
+        when(questionRepository.incrementUpvotes(anyString(), anyLong())).thenReturn(null);
+        when(coldStore.incrementUpvotes("q1", 3)).thenReturn(true);
+        
+        recordVotes("q1", 3);
+        aggregator.flush();
+        
+        verify(coldStore).incrementUpvotes(eq("q1"), eq(3L));
+        assertThat(droppedVotes()).isZero();
+    }
+    
+    @Test
+    void votesForADeletedQuestionAreCountedAsDropped() {
+        when(questionRepository.incrementUpvotes(anyString(), anyLong())).thenReturn(null);
+        when(coldStore.incrementUpvotes(anyString(), anyLong())).thenReturn(false);
+        
+        recordVotes("q1", 3);
+        aggregator.flush();
+        
+        assertThat(droppedVotes()).isEqualTo(3);
+    }
+    
+    private void recordVotes(String questionId, int votes) {
+        for (int i = 0; i < votes; i++) {
+            aggregator.record(questionId);
+        }
+    }
+    
+    private double droppedVotes() {
+        return meterRegistry.get("forum.votes.dropped").counter().count();
+    }
+}
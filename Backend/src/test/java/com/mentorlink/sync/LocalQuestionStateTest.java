@@ -0,0 +1,87 @@
+package com.mentorlink.sync;
+
+import com.mentorlink.archive.ColdQuestionStore;
+import com.mentorlink.entity.Answer;
+import com.mentorlink.entity.Question;
+import com.mentorlink.repository.AnswerRepository;
+import com.mentorlink.search.DuplicateIndex;
+import com.mentorlink.search.QuestionSearchIndex;
+import com.mentorlink.search.RelatedQuestions;
+import com.mentorlink.search.TitleAutocomplete;
+import com.mentorlink.service.QuestionCache;
+import com.mentorlink.service.QuestionFeedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalQuestionStateTest {
+    
+    private final AnswerRepository answerRepository = mock(AnswerRepository.class);
+    private final QuestionSearchIndex searchIndex =
+        new QuestionSearchIndex(mock(MongoTemplate.class), mock(ColdQuestionStore.class));
+    private final LocalQuestionState localState = new LocalQuestionState(
+        answerRepository,
+        searchIndex,
+        mock(TitleAutocomplete.class),
+        mock(DuplicateIndex.class),
+        mock(RelatedQuestions.class),
+        mock(QuestionCache.class),
+        mock(QuestionFeedService.class));
+    
+    @Test
+    void answerSeenAgainIsNotAppendedTwice() {
+        Question thread = question("q1", "Streaming", "kafka");
+        Question reference = question("q2", "Streaming", "kafka kafka");
+        searchIndex.index(thread, Collections.emptyList());
+        
+        Answer answer = answer("a1", "q1", "kafka");
+        // Appended by the instance that wrote it, then seen again on the change stream and by a resync
+        localState.answerAdded(answer);
+        when(answerRepository.findForIndex(eq("q1"), any(LocalDateTime.class))).thenReturn(List.of(answer));
+        localState.answersAdded(thread, LocalDateTime.now().minusMinutes(1));
+        localState.answerAdded(answer);
+        searchIndex.index(reference, Collections.emptyList());
+        
+        // Same term frequency and length as the reference, so the scores tie and the newer doc wins
+        assertThat(searchIndex.search("kafka", null, null, 1, 10).getQuestionIds()).containsExactly("q2", "q1");
+    }
+    
+    @Test
+    void answerCountChangeAppendsOnlyNewAnswers() {
+        Question thread = question("q1", "Streaming", "partitions");
+        searchIndex.index(thread, List.of(answer("a1", "q1", "consumer lag")));
+        
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        when(answerRepository.findForIndex("q1", since)).thenReturn(List.of(answer("a2", "q1", "rebalancing")));
+        localState.answersAdded(thread, since);
+        
+        assertThat(searchIndex.search("rebalancing", null, null, 1, 10).getQuestionIds()).containsExactly("q1");
+        assertThat(searchIndex.search("lag", null, null, 1, 10).getQuestionIds()).containsExactly("q1");
+    }
+    
+    private static Answer answer(String id, String questionId, String content) {
+        Answer answer = new Answer();
+        answer.setId(id);
+        answer.setQuestionId(questionId);
+        answer.setContent(content);
+        return answer;
+    }
+    
+    private static Question question(String id, String title, String content) {
+        Question question = new Question();
+        question.setId(id);
+        question.setTitle(title);
+        question.setContent(content);
+        question.setCategory("engineering");
+        return question;
+    }
+}
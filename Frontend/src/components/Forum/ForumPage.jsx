@@ -35,6 +35,7 @@ export function ForumPage() {
   const [searchQuery, setSearchQuery] = useState("")
   const [questions, setQuestions] = useState([])
   const [filteredQuestions, setFilteredQuestions] = useState([])
+  const [answersByQuestion, setAnswersByQuestion] = useState({})
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState(null)
   const [isSortOpen, setIsSortOpen] = useState(false)
@@ -53,6 +54,7 @@ export function ForumPage() {
       if (result.questions) {
         setQuestions(result.questions);
         filterAndSortQuestions(result.questions, selectedDomain, searchQuery, sortBy);
+        fetchAnswerPreviews(result.questions);
       } else {
         setQuestions([]);
         setFilteredQuestions([]);
@@ -67,6 +69,17 @@ export function ForumPage() {
     }
   };
 
+  // List rows carry only answerCount; previews and the sidebar use each answered question's first page of answers
+  const fetchAnswerPreviews = async (questionsData) => {
+    const answered = questionsData.filter(q => q.answerCount > 0);
+    const pages = await Promise.all(answered.map(q =>
+      forumService.getAnswers(q._id || q.id, 'votes')
+        .then(result => [q._id || q.id, result.answers || []])
+        .catch(() => [q._id || q.id, []])
+    ));
+    setAnswersByQuestion(Object.fromEntries(pages));
+  };
+
   useEffect(() => {
     fetchQuestions();
   }, []);
@@ -114,7 +127,7 @@ export function ForumPage() {
     if (sort === 'Most Recent') {
       filtered.sort((a, b) => new Date(b.createdAt || 0) - new Date(a.createdAt || 0));
     } else if (sort === 'Most Answered') {
-      filtered.sort((a, b) => (b.answers?.length || 0) - (a.answers?.length || 0));
+      filtered.sort((a, b) => (b.answerCount || 0) - (a.answerCount || 0));
     } else if (sort === 'Most Upvoted') {
       filtered.sort((a, b) => (b.upvotes || 0) - (a.upvotes || 0));
     }
@@ -285,6 +298,7 @@ export function ForumPage() {
                     .map((n) => n[0])
                     .join("")
                     .toUpperCase();
+                  const answers = answersByQuestion[question._id || question.id] || [];
                   
                   const formatDate = (dateString) => {
                     if (!dateString) return "Recently";
@@ -355,12 +369,15 @@ export function ForumPage() {
                       </div>
 
                       {/* Answer Preview */}
-                      {question.answers && question.answers.length > 0 && (
+                      {answers.length > 0 && (
                         <div className="mb-4">
-                          <p className="text-[#b3b3b3] text-sm leading-relaxed">{question.answers[0].content}</p>
-                          {question.answers.length > 1 && (
-                            <button className="text-white text-sm font-medium mt-2 hover:underline">
-                              Read all {question.answers.length} answers
+                          <p className="text-[#b3b3b3] text-sm leading-relaxed">{answers[0].content}</p>
+                          {question.answerCount > 1 && (
+                            <button
+                              onClick={() => navigate(`/mentor/forum/question/${question._id || question.id}`)}
+                              className="text-white text-sm font-medium mt-2 hover:underline"
+                            >
+                              Read all {question.answerCount} answers
                             </button>
                           )}
                         </div>
@@ -372,7 +389,7 @@ export function ForumPage() {
                           <span className="text-sm text-[#b3b3b3]">{question.upvotes || 0} Upvotes</span>
                           <div className="flex items-center gap-1.5 text-sm text-[#b3b3b3]">
                             <PenLine className="h-4 w-4" />
-                            <span>{question.answers?.length || 0} Answers</span>
+                            <span>{question.answerCount || 0} Answers</span>
                           </div>
                         </div>
                         <button 
@@ -403,7 +420,7 @@ export function ForumPage() {
                 // Get all mentors from answers and count their answers
                 const mentorMap = {};
                 filteredQuestions.forEach(question => {
-                  question.answers?.forEach(answer => {
+                  answersByQuestion[question._id || question.id]?.forEach(answer => {
                     const mentorId = answer.author?._id || answer.author?.name;
                     if (!mentorMap[mentorId]) {
                       mentorMap[mentorId] = {
@@ -478,7 +495,7 @@ export function ForumPage() {
               <div className="relative z-10">
                 <h3 className="font-semibold text-white mb-2">My Answers</h3>
                 <p className="text-4xl font-bold text-white mb-2">
-                  {questions.reduce((sum, q) => sum + (q.answers?.length || 0), 0)}
+                  {questions.reduce((sum, q) => sum + (q.answerCount || 0), 0)}
                 </p>
                 <div className="text-3xl">💬</div>
               </div>
@@ -506,7 +523,7 @@ export function ForumPage() {
                     // Calculate reputation: +10 for each question asked, +25 for each answer given
                     const userQuestions = filteredQuestions.filter(q => q.author?.name === user?.name).length;
                     const userAnswers = filteredQuestions.reduce((sum, q) => {
-                      return sum + (q.answers?.filter(a => a.author?.name === user?.name).length || 0);
+                      return sum + (answersByQuestion[q._id || q.id]?.filter(a => a.author?.name === user?.name).length || 0);
                     }, 0);
                     return (userQuestions * 10) + (userAnswers * 25);
                   })()}
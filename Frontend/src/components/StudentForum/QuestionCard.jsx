@@ -1,4 +1,4 @@
-import { useState } from "react";
+import { useState, useEffect } from "react";
 import { MessageSquare, ChevronUp } from "lucide-react";
 import { useNavigate } from "react-router-dom";
 import * as forumService from "../../services/forumService";
@@ -8,6 +8,16 @@ export function QuestionCard({ question }) {
   const [upvoted, setUpvoted] = useState(false);
   const [currentUpvotes, setCurrentUpvotes] = useState(question.upvotes || 0);
   const [isUpvoting, setIsUpvoting] = useState(false);
+  const [topAnswer, setTopAnswer] = useState(null);
+  const questionId = question._id || question.id;
+
+  // List rows carry only the answer count; the preview is the first answer of the votes page
+  useEffect(() => {
+    if (!question.answerCount) return;
+    forumService.getAnswers(questionId, 'votes', null, 1)
+      .then((result) => setTopAnswer(result.answers?.[0] || null))
+      .catch((err) => console.error('Error fetching answer preview:', err));
+  }, [questionId, question.answerCount]);
 
   // Get author initials
   const getInitials = (name) => {
@@ -94,12 +104,15 @@ export function QuestionCard({ question }) {
       </div>
 
       {/* Answer Preview */}
-      {question.answers && question.answers.length > 0 && (
+      {topAnswer && (
         <div className="mb-4 bg-[#0a0a0a] rounded p-3 border border-[#2a2a2a]">
-          <p className="text-gray-300 text-sm leading-relaxed">{question.answers[0].content}</p>
-          {question.answers.length > 1 && (
-            <button className="text-gray-300 text-sm mt-2 hover:underline">
-              Read all {question.answers.length} answers
+          <p className="text-gray-300 text-sm leading-relaxed">{topAnswer.content}</p>
+          {question.answerCount > 1 && (
+            <button
+              onClick={() => navigate(`/student/forum/question/${questionId}`)}
+              className="text-gray-300 text-sm mt-2 hover:underline"
+            >
+              Read all {question.answerCount} answers
             </button>
           )}
         </div>
@@ -120,12 +133,12 @@ export function QuestionCard({ question }) {
           </button>
           <div className="flex items-center gap-2 text-sm text-gray-400">
             <MessageSquare className="h-4 w-4" />
-            <span>{question.answers?.length || 0} Answers</span>
+            <span>{question.answerCount || 0} Answers</span>
           </div>
         </div>
 
         <button 
-          onClick={() => navigate(`/student/forum/question/${question._id || question.id}`)}
+          onClick={() => navigate(`/student/forum/question/${questionId}`)}
           className="bg-transparent text-white hover:bg-[#2a2a2a] border border-[#3a3a3a] rounded-lg px-4 py-2 text-sm font-medium transition-colors"
         >
           View Details
@@ -108,11 +108,11 @@ export function StudentForum() {
     myQuestions: questions.filter(q => q.author?._id === user?._id || q.author?.name === user?.name).length,
     answeredQuestions: questions.filter(q => 
       (q.author?._id === user?._id || q.author?.name === user?.name) && 
-      q.answers && q.answers.length > 0
+      q.answerCount > 0
     ).length,
     pendingQuestions: questions.filter(q => 
       (q.author?._id === user?._id || q.author?.name === user?.name) && 
-      (!q.answers || q.answers.length === 0)
+      !q.answerCount
     ).length
   };
 
@@ -128,7 +128,7 @@ export function StudentForum() {
     } else if (sortBy === "most-upvoted") {
       return (b.upvotes || 0) - (a.upvotes || 0);
     } else if (sortBy === "most-answered") {
-      return (b.answers?.length || 0) - (a.answers?.length || 0);
+      return (b.answerCount || 0) - (a.answerCount || 0);
     }
     return 0;
   });
@@ -15,6 +15,9 @@ export default function QuestionDetailPage() {
   const [submittingAnswer, setSubmittingAnswer] = useState(false);
   const [answerError, setAnswerError] = useState(null);
   const [upvoted, setUpvoted] = useState(false);
+  const [answers, setAnswers] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMoreAnswers, setLoadingMoreAnswers] = useState(false);
 
   const user = localStorage.getItem('user') ? JSON.parse(localStorage.getItem('user')) : null;
   const userRole = user?.role || 'student';
@@ -25,8 +28,13 @@ export default function QuestionDetailPage() {
       try {
         setLoading(true);
         setError(null);
-        const result = await forumService.getQuestionById(questionId);
+        const [result, firstPage] = await Promise.all([
+          forumService.getQuestionById(questionId),
+          forumService.getAnswers(questionId, 'votes')
+        ]);
         setQuestion(result.question);
+        setAnswers(firstPage.answers || []);
+        setNextCursor(firstPage.hasNext ? firstPage.nextCursor : null);
       } catch (err) {
         console.error('Error fetching question:', err);
         setError(err.message || 'Failed to load question');
@@ -51,7 +59,11 @@ export default function QuestionDetailPage() {
       setAnswerError(null);
 
       const result = await forumService.answerQuestion(questionId, answerContent);
-      setQuestion(result.question);
+      setAnswers(prev => [...prev, result.answer]);
+      setQuestion(prev => ({
+        ...prev,
+        answerCount: (prev.answerCount || 0) + 1
+      }));
       setAnswerContent('');
     } catch (err) {
       console.error('Error submitting answer:', err);
@@ -61,6 +73,20 @@ export default function QuestionDetailPage() {
     }
   };
 
+  // Answers are paged by the API; each page continues from the previous one's cursor
+  const handleLoadMoreAnswers = async () => {
+    try {
+      setLoadingMoreAnswers(true);
+      const page = await forumService.getAnswers(questionId, 'votes', nextCursor);
+      setAnswers(prev => [...prev, ...(page.answers || [])]);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    } catch (err) {
+      console.error('Error loading answers:', err);
+    } finally {
+      setLoadingMoreAnswers(false);
+    }
+  };
+
   const handleUpvote = async () => {
     try {
       const result = await forumService.upvoteQuestion(questionId);
@@ -188,7 +214,7 @@ export default function QuestionDetailPage() {
               </button>
               <div className="flex items-center gap-2 text-gray-400">
                 <MessageSquare size={18} />
-                <span>{question.answers?.length || 0} Answers</span>
+                <span>{question.answerCount || 0} Answers</span>
               </div>
               <button className="flex items-center gap-2 text-gray-400 hover:text-gray-300 transition-colors">
                 <Share2 size={18} />
@@ -201,13 +227,13 @@ export default function QuestionDetailPage() {
           </div>
 
           {/* Answers Section */}
-          {question.answers && question.answers.length > 0 && (
+          {answers.length > 0 && (
             <div className="mb-8">
               <h2 className="text-2xl font-bold text-white mb-4">
-                {question.answers.length} {question.answers.length === 1 ? 'Answer' : 'Answers'}
+                {question.answerCount} {question.answerCount === 1 ? 'Answer' : 'Answers'}
               </h2>
               <div className="space-y-4">
-                {question.answers.map((answer, idx) => (
+                {answers.map((answer, idx) => (
                   <div key={idx} className="bg-[#1a1a1a] rounded-lg border border-[#2a2a2a] p-6">
                     <div className="flex items-start justify-between mb-4">
                       <div 
@@ -249,6 +275,15 @@ export default function QuestionDetailPage() {
                   </div>
                 ))}
               </div>
+              {nextCursor && (
+                <button
+                  onClick={handleLoadMoreAnswers}
+                  disabled={loadingMoreAnswers}
+                  className="mt-4 w-full bg-transparent text-white hover:bg-[#2a2a2a] border border-[#3a3a3a] rounded-lg px-4 py-2 text-sm font-medium transition-colors disabled:opacity-50"
+                >
+                  {loadingMoreAnswers ? 'Loading...' : 'Load more answers'}
+                </button>
+              )}
             </div>
           )}
 
@@ -112,6 +112,20 @@ export const answerQuestion = async (questionId, answerContent) => {
   }
 };
 
+// Get one page of a question's answers; pass the previous page's nextCursor as `after`
+export const getAnswers = async (questionId, sort = 'votes', after = null, limit = 20) => {
+  try {
+    let url = `${FORUM_API}/questions/${questionId}/answers?sort=${sort}&limit=${limit}`;
+    if (after) url += `&after=${encodeURIComponent(after)}`;
+    const response = await fetch(url);
+    if (!response.ok) throw new Error('Failed to fetch answers');
+    return await response.json();
+  } catch (error) {
+    console.error('Error fetching answers:', error);
+    throw error;
+  }
+};
+
 // Upvote a question (requires authentication)
 export const upvoteQuestion = async (id) => {
   try {